@@ -0,0 +1,71 @@
+package com.addressbookprocessor.benchmark;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.domain.PersonTable;
+import com.addressbookprocessor.reader.AddressBookCsvReader;
+import com.addressbookprocessor.reader.AddressBookFastCsvReader;
+import com.addressbookprocessor.reader.AddressBookParallelCsvReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class AddressBookCsvReaderBenchmark {
+
+    @Param({"1000", "1000000", "20000000"})
+    private int rows;
+
+    private String csvFilePath;
+
+    private final AddressBookCsvReader csvReader = new AddressBookCsvReader();
+
+    private final AddressBookFastCsvReader fastCsvReader = new AddressBookFastCsvReader();
+
+    private final AddressBookParallelCsvReader parallelCsvReader = new AddressBookParallelCsvReader();
+
+    @Setup
+    public void setUp() {
+
+        csvFilePath = AddressBookGenerator.generateCsv(rows).toString();
+    }
+
+    @Benchmark
+    public List<Person> readPersonsFromCsv() {
+
+        return csvReader.readPersonsFromCsv(csvFilePath);
+    }
+
+    @Benchmark
+    public List<Person> readPersonsFromCsvInParallel() {
+
+        return parallelCsvReader.readPersonsFromCsv(csvFilePath);
+    }
+
+    @Benchmark
+    public List<Person> readPersonsWithFastReader() {
+
+        return fastCsvReader.readPersonsFromCsv(csvFilePath);
+    }
+
+    @Benchmark
+    public PersonTable readPersonTableWithFastReader() {
+
+        return fastCsvReader.readPersonTable(csvFilePath);
+    }
+}
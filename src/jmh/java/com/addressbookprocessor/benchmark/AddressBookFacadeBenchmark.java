@@ -0,0 +1,46 @@
+package com.addressbookprocessor.benchmark;
+
+import com.addressbookprocessor.facade.AddressBookFacade;
+import com.addressbookprocessor.facade.AddressBookFacadeImpl;
+import com.addressbookprocessor.reader.AddressBookCsvReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class AddressBookFacadeBenchmark {
+
+    @Param({"1000", "1000000", "20000000"})
+    private int rows;
+
+    private String csvFilePath;
+
+    private final AddressBookFacade addressBookFacade = new AddressBookFacadeImpl(new AddressBookCsvReader());
+
+    @Setup
+    public void setUp() {
+
+        csvFilePath = AddressBookGenerator.generateCsv(rows).toString();
+    }
+
+    @Benchmark
+    public String processAddressBook() {
+
+        return addressBookFacade.processAddressBook(csvFilePath);
+    }
+}
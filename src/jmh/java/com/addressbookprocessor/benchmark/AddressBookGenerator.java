@@ -0,0 +1,95 @@
+package com.addressbookprocessor.benchmark;
+
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+final class AddressBookGenerator {
+
+    static final String OLDER_PERSON_A = "Bill";
+    static final String OLDER_PERSON_B = "Paul";
+
+    private static final Path DATA_DIRECTORY = Paths.get("target", "benchmark-data");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d/M/yy");
+    private static final LocalDate FIRST_BIRTH_DATE = LocalDate.of(1930, 1, 1);
+    private static final int BIRTH_DATE_DAYS = 80 * 365;
+
+    private static final String[] FIRST_NAMES = {
+            "Anna", "Ben", "Clara", "David", "Emma", "Felix", "Greta", "Hugo", "Ida", "Jonas",
+            "Karla", "Leon", "Mia", "Noah", "Olga", "Peter", "Quinn", "Rosa", "Simon", "Tina"};
+    private static final String[] SURNAMES = {
+            "Adler", "Becker", "Cramer", "Dietz", "Engel", "Fuchs", "Graf", "Hahn", "Jung", "Keller",
+            "Lorenz", "Moser", "Neumann", "Ott", "Pohl", "Roth", "Schulz", "Vogel", "Weber", "Zimmer"};
+
+    private AddressBookGenerator() {
+    }
+
+    static List<Person> generatePersons(int rows) {
+
+        Random random = new Random(rows);
+        List<Person> persons = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            persons.add(generatePerson(random, row, rows));
+        }
+        return persons;
+    }
+
+    static Path generateCsv(int rows) {
+
+        Path csvPath = DATA_DIRECTORY.resolve("AddressBook-" + rows + ".csv");
+        if (Files.isRegularFile(csvPath)) {
+            return csvPath;
+        }
+
+        try {
+            Files.createDirectories(DATA_DIRECTORY);
+            Path temporaryPath = Files.createTempFile(DATA_DIRECTORY, "AddressBook-" + rows, ".tmp");
+
+            Random random = new Random(rows);
+            try (BufferedWriter writer = Files.newBufferedWriter(temporaryPath, UTF_8)) {
+                for (int row = 0; row < rows; row++) {
+
+                    Person person = generatePerson(random, row, rows);
+                    writer.append(person.getName()).append(", ")
+                            .append(person.getGender().name()).append(", ")
+                            .append(DATE_FORMAT.format(person.getBirthDate())).append('\n');
+                }
+            }
+            Files.move(temporaryPath, csvPath, REPLACE_EXISTING);
+            return csvPath;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Person generatePerson(Random random, int row, int rows) {
+
+        String name;
+        if (row == rows / 3) {
+            name = OLDER_PERSON_A + " McKnight";
+        } else if (row == 2 * rows / 3) {
+            name = OLDER_PERSON_B + " Robinson";
+        } else {
+            name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + SURNAMES[random.nextInt(SURNAMES.length)];
+        }
+
+        return new Person(
+                name,
+                random.nextBoolean() ? Gender.Male : Gender.Female,
+                FIRST_BIRTH_DATE.plusDays(random.nextInt(BIRTH_DATE_DAYS)));
+    }
+}
@@ -0,0 +1,100 @@
+package com.addressbookprocessor.benchmark;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.service.AddressBookService;
+import com.addressbookprocessor.service.AddressBookServiceImpl;
+import io.vavr.control.Either;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.addressbookprocessor.benchmark.AddressBookGenerator.OLDER_PERSON_A;
+import static com.addressbookprocessor.benchmark.AddressBookGenerator.OLDER_PERSON_B;
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.util.Arrays.asList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class AddressBookServiceBenchmark {
+
+    private static final List<Pair<String, String>> PERSON_NAME_PAIRS = asList(
+            Pair.of(OLDER_PERSON_A, OLDER_PERSON_B),
+            Pair.of(OLDER_PERSON_B, OLDER_PERSON_A),
+            Pair.of("Anna", "Zimmer"));
+
+    @Param({"1000", "1000000", "20000000"})
+    private int rows;
+
+    private List<Person> persons;
+
+    private AddressBookService service;
+
+    @Setup
+    public void setUp() {
+
+        persons = AddressBookGenerator.generatePersons(rows);
+        service = new AddressBookServiceImpl(persons);
+    }
+
+    @Benchmark
+    public AddressBookService setPersons() {
+
+        AddressBookService loadedService = new AddressBookServiceImpl();
+        loadedService.setPersons(persons);
+        return loadedService;
+    }
+
+    @Benchmark
+    public Long countPersonsOfGender() {
+
+        return service.countPersonsOfGender(Male);
+    }
+
+    @Benchmark
+    public Optional<Person> getOldestPerson() {
+
+        return service.getOldestPerson();
+    }
+
+    @Benchmark
+    public List<Person> getOldestPersons() {
+
+        return service.getOldestPersons(100);
+    }
+
+    @Benchmark
+    public List<Person> getYoungestPersons() {
+
+        return service.getYoungestPersons(100);
+    }
+
+    @Benchmark
+    public Long getDaysPersonAIsOlderPersonB() {
+
+        return service.getDaysPersonAIsOlderPersonB(OLDER_PERSON_A, OLDER_PERSON_B);
+    }
+
+    @Benchmark
+    public Map<Pair<String, String>, Either<String, Long>> getDaysBetween() {
+
+        return service.getDaysBetween(PERSON_NAME_PAIRS);
+    }
+}
@@ -0,0 +1,92 @@
+package com.addressbookprocessor.benchmark;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.service.AddressBookService;
+import com.addressbookprocessor.service.AddressBookServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OldestPersonBenchmark {
+
+    private static final int TOP_COUNT = 100;
+
+    private static final Comparator<Person> SORT_BASED_COMPARATOR = (p1, p2) -> {
+
+        boolean isP1Valid = p1 != null && p1.getBirthDate() != null;
+        if (!isP1Valid) {
+            return 1;
+        }
+
+        boolean isP2Valid = p2 != null && p2.getBirthDate() != null;
+        if (!isP2Valid) {
+            return -1;
+        }
+
+        return p1.getBirthDate().compareTo(p2.getBirthDate());
+    };
+
+    @Param({"1000", "1000000"})
+    private int personCount;
+
+    private List<Person> persons;
+
+    private AddressBookService service;
+
+    @Setup
+    public void setUp() {
+
+        persons = AddressBookGenerator.generatePersons(personCount);
+        service = new AddressBookServiceImpl(persons);
+    }
+
+    @Benchmark
+    public Optional<Person> sortBasedOldestPerson() {
+
+        return persons.stream()
+                .sorted(SORT_BASED_COMPARATOR)
+                .findFirst();
+    }
+
+    @Benchmark
+    public Optional<Person> linearOldestPerson() {
+
+        return service.getOldestPerson();
+    }
+
+    @Benchmark
+    public List<Person> sortBasedOldestPersons() {
+
+        return persons.stream()
+                .sorted(SORT_BASED_COMPARATOR)
+                .limit(TOP_COUNT)
+                .collect(toList());
+    }
+
+    @Benchmark
+    public List<Person> boundedHeapOldestPersons() {
+
+        return service.getOldestPersons(TOP_COUNT);
+    }
+}
@@ -0,0 +1,76 @@
+package com.addressbookprocessor.benchmark;
+
+import com.addressbookprocessor.service.PersonNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.addressbookprocessor.benchmark.AddressBookGenerator.OLDER_PERSON_A;
+
+/**
+ * Name lookups on address books where nearly every surname is distinct, so the dictionary holds about as many
+ * tokens as there are rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PersonNameIndexBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Anna", "Ben", "Clara", "David", "Emma", "Felix", "Greta", "Hugo"};
+
+    @Param({"1000000", "20000000"})
+    private int rows;
+
+    private PersonNameIndex nameIndex;
+
+    @Setup
+    public void setUp() {
+
+        Random random = new Random(rows);
+        String[] names = new String[rows];
+        for (int row = 0; row < rows; row++) {
+            names[row] = row == rows / 3
+                    ? OLDER_PERSON_A + " McKnight"
+                    : FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + Integer.toString(random.nextInt(), 36);
+        }
+        nameIndex = PersonNameIndex.of(rows, row -> names[row]);
+    }
+
+    @Benchmark
+    public int[] findContainingExactToken() {
+
+        return nameIndex.findContaining("McKnight");
+    }
+
+    @Benchmark
+    public int[] findContainingTokenPart() {
+
+        return nameIndex.findContaining("Knigh");
+    }
+
+    @Benchmark
+    public int[] findContainingMissingPart() {
+
+        return nameIndex.findContaining("Zyxwv");
+    }
+
+    @Benchmark
+    public int[] findContainingAnyOfPair() {
+
+        return nameIndex.findContainingAny(OLDER_PERSON_A + " Mc", "Knight");
+    }
+}
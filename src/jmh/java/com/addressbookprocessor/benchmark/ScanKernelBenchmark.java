@@ -0,0 +1,60 @@
+package com.addressbookprocessor.benchmark;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.domain.PersonTable;
+import com.addressbookprocessor.domain.ScanKernel;
+import com.addressbookprocessor.service.AddressBookService;
+import com.addressbookprocessor.service.PersonTableAddressBookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.addressbookprocessor.domain.Gender.Male;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ScanKernelBenchmark {
+
+    @Param({"1000000", "20000000"})
+    private int rows;
+
+    @Param({"SCALAR", "BRANCH_FREE"})
+    private ScanKernel scanKernel;
+
+    private AddressBookService service;
+
+    @Setup
+    public void setUp() {
+
+        PersonTable.Builder builder = PersonTable.builder();
+        AddressBookGenerator.generatePersons(rows).forEach(builder::add);
+        service = new PersonTableAddressBookService(builder.build(), scanKernel);
+    }
+
+    @Benchmark
+    public Long countPersonsOfGender() {
+
+        return service.countPersonsOfGender(Male);
+    }
+
+    @Benchmark
+    public Optional<Person> getOldestPerson() {
+
+        return service.getOldestPerson();
+    }
+}
@@ -1,22 +1,138 @@
 package com.addressbookprocessor;
 
+import com.addressbookprocessor.batch.AddressBookBatchProcessor;
+import com.addressbookprocessor.batch.AddressBookBatchResult;
+import com.addressbookprocessor.checkpoint.AddressBookCheckpointStore;
+import com.addressbookprocessor.facade.AddressBookFacade;
 import com.addressbookprocessor.facade.AddressBookFacadeImpl;
+import com.addressbookprocessor.facade.IncrementalAddressBookFacadeImpl;
+import com.addressbookprocessor.metrics.AddressBookMetrics;
+import com.addressbookprocessor.metrics.InMemoryAddressBookMetrics;
+import com.addressbookprocessor.reader.AddressBookCachingReader;
 import com.addressbookprocessor.reader.AddressBookCsvReader;
-import com.addressbookprocessor.service.AddressBookServiceImpl;
+import com.addressbookprocessor.reader.AddressBookFastCsvReader;
+import com.addressbookprocessor.reader.PersonTableBinaryFile;
+import com.addressbookprocessor.server.AddressBookCache;
+import com.addressbookprocessor.server.AddressBookServer;
+import com.addressbookprocessor.sketch.PersonSketches;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.addressbookprocessor.facade.AddressBookFacadeImpl.screenOutput;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 
 public class AddressBookProcessorMain {
 
+    private static final String INCREMENTAL_OPTION = "--incremental";
+    private static final String METRICS_OPTION = "--metrics";
+    private static final String SERVER_OPTION = "--server";
+    private static final String APPROXIMATE_OPTION = "--approximate";
+    private static final int DEFAULT_SERVER_PORT = 7171;
+    private static final int MAX_PORT = 65535;
+    private static final int INVALID_PORT = -1;
+    private static final String SERVER_METRICS_NAME = "server";
+
     public static final void main(String[] args) {
 
-        if (args.length < 1) {
-            System.out.println("Usage: cmd> [application] [addessBookCsvFile:Text]");
+        if (args.length > 0 && SERVER_OPTION.equals(args[0])) {
+            int port = args.length == 1 ? DEFAULT_SERVER_PORT : args.length == 2 ? parsePort(args[1]) : INVALID_PORT;
+            if (port == INVALID_PORT) {
+                printUsage();
+                return;
+            }
+            runServer(port);
+            return;
+        }
+
+        if (args.length == 2 && APPROXIMATE_OPTION.equals(args[0])) {
+            PersonSketches sketches = new PersonSketches();
+            new AddressBookFastCsvReader().readPersons(args[1], sketches::accumulate);
+            System.out.println(sketches.report());
             return;
         }
 
-        String csvFilePath = args[0];
+        List<String> options = args.length < 1 ? emptyList() : asList(args).subList(0, args.length - 1);
+        boolean areOptionsValid = options.stream().allMatch(option -> INCREMENTAL_OPTION.equals(option) || METRICS_OPTION.equals(option));
+        if (args.length < 1 || !areOptionsValid) {
+            printUsage();
+            return;
+        }
+
+        String csvFilePath = args[args.length - 1];
+        boolean isIncremental = options.contains(INCREMENTAL_OPTION);
+        boolean isMetricsEnabled = options.contains(METRICS_OPTION);
+
+        InMemoryAddressBookMetrics metrics = new InMemoryAddressBookMetrics();
+        if (isMetricsEnabled) {
+            metrics.registerMBean(csvFilePath);
+        }
+        AddressBookMetrics usedMetrics = isMetricsEnabled ? metrics : AddressBookMetrics.NOOP;
+        AddressBookCsvReader csvReader = new AddressBookCsvReader(usedMetrics);
+
+        AddressBookFacade addressBookFacade = isIncremental
+                ? new IncrementalAddressBookFacadeImpl(csvReader, new AddressBookCheckpointStore(), usedMetrics)
+                : new AddressBookFacadeImpl(csvReader, usedMetrics);
+
+        if (AddressBookBatchProcessor.isBatchPath(csvFilePath)) {
+            AddressBookBatchProcessor batchProcessor =
+                    new AddressBookBatchProcessor(addressBookFacade, Runtime.getRuntime().availableProcessors());
+            System.out.println(batchScreenOutput(batchProcessor.processAddressBooks(csvFilePath)));
+        } else {
+            System.out.println(addressBookFacade.processAddressBook(csvFilePath));
+        }
+
+        if (isMetricsEnabled) {
+            System.out.println(metrics.report());
+        }
+    }
+
+    private static void printUsage() {
+
+        System.out.println("Usage: cmd> [application] [" + INCREMENTAL_OPTION + "] [" + METRICS_OPTION + "]"
+                + " [addessBookCsvFile|directory|glob:Text] | " + APPROXIMATE_OPTION + " [addessBookCsvFile]"
+                + " | " + SERVER_OPTION + " [port]");
+    }
+
+    private static int parsePort(String port) {
+
+        boolean isPortValid = port.matches("\\d{1,5}") && Integer.parseInt(port) <= MAX_PORT;
+        return isPortValid ? Integer.parseInt(port) : INVALID_PORT;
+    }
+
+    private static void runServer(int port) {
+
+        InMemoryAddressBookMetrics metrics = new InMemoryAddressBookMetrics();
+        metrics.registerMBean(SERVER_METRICS_NAME);
+        // clients name arbitrary paths, so the server only loads binary tables and writes none next to them
+        AddressBookCachingReader cachingReader =
+                new AddressBookCachingReader(new AddressBookFastCsvReader(), PersonTableBinaryFile.readOnly());
+        AddressBookCache addressBookCache =
+                new AddressBookCache(cachingReader, Runtime.getRuntime().maxMemory() / 2, metrics);
+        try (AddressBookServer server = new AddressBookServer(addressBookCache, port, Runtime.getRuntime().availableProcessors())) {
+
+            server.start();
+            System.out.println("Address book server listening on loopback port " + server.getPort());
+            Thread.currentThread().join();
+        } catch (IOException ex) {
+            System.out.println("Address book server cannot be started: " + ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String batchScreenOutput(AddressBookBatchResult batchResult) {
+
+        StringBuilder builder = new StringBuilder(500);
+        batchResult.getFileSummaries().forEach((addressBookPath, summary) -> builder
+                .append("Address book ").append(addressBookPath).append(':').append(System.lineSeparator())
+                .append(summary.fold(error -> "Not processed: " + error + System.lineSeparator(), AddressBookFacadeImpl::screenOutput))
+                .append(System.lineSeparator()));
+        builder.append("All address books (").append(batchResult.getFailedFileCount()).append(" not processed):")
+                .append(System.lineSeparator())
+                .append(screenOutput(batchResult.getMergedSummary()));
 
-        AddressBookFacadeImpl addressBookFacade =
-                new AddressBookFacadeImpl(new AddressBookCsvReader(), new AddressBookServiceImpl());
-        System.out.println(addressBookFacade.processAddressBook(csvFilePath));
+        return builder.toString();
     }
 }
@@ -0,0 +1,30 @@
+package com.addressbookprocessor.aggregation;
+
+import com.addressbookprocessor.domain.Person;
+
+import java.util.stream.Collector;
+
+class CollectorPersonAccumulator<A, R> implements PersonAccumulator<R> {
+
+    private final Collector<? super Person, A, R> collector;
+
+    private final A container;
+
+    CollectorPersonAccumulator(Collector<? super Person, A, R> collector) {
+
+        this.collector = collector;
+        this.container = collector.supplier().get();
+    }
+
+    @Override
+    public void accumulate(Person person) {
+
+        collector.accumulator().accept(container, person);
+    }
+
+    @Override
+    public R getResult() {
+
+        return collector.finisher().apply(container);
+    }
+}
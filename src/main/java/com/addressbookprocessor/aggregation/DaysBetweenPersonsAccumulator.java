@@ -0,0 +1,112 @@
+package com.addressbookprocessor.aggregation;
+
+import com.addressbookprocessor.domain.Person;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.Collections.emptyList;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.apache.commons.lang3.StringUtils.join;
+
+public class DaysBetweenPersonsAccumulator implements PersonAccumulator<Long> {
+
+    private static final Logger LOGGER = Logger.getLogger(DaysBetweenPersonsAccumulator.class.getName());
+
+    private final String personAName;
+
+    private final String personBName;
+
+    private final Person[] matchedPersons = new Person[2];
+
+    private long matchCount;
+
+    public DaysBetweenPersonsAccumulator(String personAName, String personBName) {
+
+        this(personAName, personBName, emptyList(), 0);
+    }
+
+    public DaysBetweenPersonsAccumulator(String personAName, String personBName, List<Person> initialMatchedPersons,
+                                         long initialMatchCount) {
+
+        boolean areParamsValid = isNotBlank(personAName) && isNotBlank(personBName);
+        if (!areParamsValid) {
+            LOGGER.warning("Person name are (A and/or B) not given");
+            throw new IllegalArgumentException("PersonA and B names must be given");
+        }
+
+        this.personAName = personAName;
+        this.personBName = personBName;
+        for (int i = 0; i < matchedPersons.length && i < initialMatchedPersons.size(); i++) {
+            matchedPersons[i] = initialMatchedPersons.get(i);
+        }
+        this.matchCount = initialMatchCount;
+    }
+
+    @Override
+    public void accumulate(Person person) {
+
+        boolean isMatching = person != null
+                && person.getName() != null
+                && (person.getName().contains(personAName) || person.getName().contains(personBName));
+        if (!isMatching) {
+            return;
+        }
+
+        if (matchCount < matchedPersons.length) {
+            matchedPersons[(int) matchCount] = person;
+        }
+        matchCount++;
+    }
+
+    public List<Person> getMatchedPersons() {
+
+        List<Person> persons = new ArrayList<>(matchedPersons.length);
+        for (Person matchedPerson : matchedPersons) {
+            if (matchedPerson != null) {
+                persons.add(matchedPerson);
+            }
+        }
+        return persons;
+    }
+
+    public long getMatchCount() {
+
+        return matchCount;
+    }
+
+    @Override
+    public Long getResult() {
+
+        Either<String, Long> daysBetween = getResultOrError();
+        if (daysBetween.isLeft()) {
+            LOGGER.warning(join("Inaccurate sub results for ", personAName, " and ", personBName, ": ", daysBetween.getLeft()));
+            throw new IllegalArgumentException(daysBetween.getLeft());
+        }
+        return daysBetween.get();
+    }
+
+    public Either<String, Long> getResultOrError() {
+
+        boolean areTwoPersonFound = matchCount == 2;
+        if (!areTwoPersonFound) {
+            return Either.left("Less than or more than 2 people found");
+        }
+
+        Person person1 = matchedPersons[0];
+        Person person2 = matchedPersons[1];
+        boolean isPerson1PersonA = person1.getName().contains(personAName) && person2.getName().contains(personBName);
+        boolean isPerson2PersonA = person2.getName().contains(personAName) && person1.getName().contains(personBName);
+
+        if (isPerson1PersonA) {
+            return Either.right(DAYS.between(person1.getBirthDate(), person2.getBirthDate()));
+        } else if (isPerson2PersonA) {
+            return Either.right(DAYS.between(person2.getBirthDate(), person1.getBirthDate()));
+        } else {
+            return Either.left("Person A or B not found");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.addressbookprocessor.aggregation;
+
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+
+import java.util.logging.Logger;
+
+public class GenderCountAccumulator implements PersonAccumulator<Long> {
+
+    private static final Logger LOGGER = Logger.getLogger(GenderCountAccumulator.class.getName());
+
+    private final Gender gender;
+
+    private long count;
+
+    public GenderCountAccumulator(Gender gender) {
+
+        this(gender, 0);
+    }
+
+    public GenderCountAccumulator(Gender gender, long initialCount) {
+
+        boolean isParamValid = gender != null;
+        if (!isParamValid) {
+            LOGGER.warning("Gender not given");
+            throw new IllegalArgumentException("Gender must be given");
+        }
+
+        this.gender = gender;
+        this.count = initialCount;
+    }
+
+    @Override
+    public void accumulate(Person person) {
+
+        if (person != null && gender.equals(person.getGender())) {
+            count++;
+        }
+    }
+
+    @Override
+    public Long getResult() {
+
+        return count;
+    }
+}
@@ -0,0 +1,44 @@
+package com.addressbookprocessor.aggregation;
+
+import com.addressbookprocessor.domain.Person;
+
+import java.util.Optional;
+
+public class OldestPersonAccumulator implements PersonAccumulator<Optional<Person>> {
+
+    private Person oldestPerson;
+
+    public OldestPersonAccumulator() {
+    }
+
+    public OldestPersonAccumulator(Person initialOldestPerson) {
+
+        this.oldestPerson = initialOldestPerson;
+    }
+
+    @Override
+    public void accumulate(Person person) {
+
+        if (person == null) {
+            return;
+        }
+
+        boolean isOldestPersonValid = oldestPerson != null && oldestPerson.getBirthDate() != null;
+        if (!isOldestPersonValid) {
+            if (oldestPerson == null || person.getBirthDate() != null) {
+                oldestPerson = person;
+            }
+            return;
+        }
+
+        if (person.getBirthDate() != null && person.getBirthDate().isBefore(oldestPerson.getBirthDate())) {
+            oldestPerson = person;
+        }
+    }
+
+    @Override
+    public Optional<Person> getResult() {
+
+        return Optional.ofNullable(oldestPerson);
+    }
+}
@@ -0,0 +1,17 @@
+package com.addressbookprocessor.aggregation;
+
+import com.addressbookprocessor.domain.Person;
+
+import java.util.stream.Collector;
+
+public interface PersonAccumulator<R> {
+
+    void accumulate(Person person);
+
+    R getResult();
+
+    static <A, R> PersonAccumulator<R> of(Collector<? super Person, A, R> collector) {
+
+        return new CollectorPersonAccumulator<>(collector);
+    }
+}
@@ -0,0 +1,44 @@
+package com.addressbookprocessor.aggregation;
+
+import com.addressbookprocessor.domain.Person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+public class PersonAggregation {
+
+    private static final Logger LOGGER = Logger.getLogger(PersonAggregation.class.getName());
+
+    private final List<PersonAccumulator<?>> accumulators = new ArrayList<>();
+
+    public <T extends PersonAccumulator<?>> T register(T accumulator) {
+
+        boolean isParamValid = accumulator != null;
+        if (!isParamValid) {
+            LOGGER.warning("Accumulator not given");
+            throw new IllegalArgumentException("Accumulator must be given");
+        }
+
+        accumulators.add(accumulator);
+        return accumulator;
+    }
+
+    public void aggregate(Stream<Person> persons) {
+
+        persons.forEachOrdered(this::accumulate);
+    }
+
+    public void aggregate(Iterable<Person> persons) {
+
+        persons.forEach(this::accumulate);
+    }
+
+    public void accumulate(Person person) {
+
+        for (PersonAccumulator<?> accumulator : accumulators) {
+            accumulator.accumulate(person);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.addressbookprocessor.aggregation;
+
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collector;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Mergeable summary of a partition of persons: per gender counts, the oldest and youngest person and the top-k
+ * oldest persons. Merging is associative and keeps the encounter order of ties, so partitions summarized on
+ * different threads or JVMs combine to the same result as one sequential pass.
+ */
+public final class PersonSummary implements PersonAccumulator<PersonSummary>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(PersonSummary.class.getName());
+
+    private final int topCount;
+
+    private final long[] genderCounts = new long[Gender.values().length];
+
+    private long personCount;
+
+    private Person oldestPerson;
+
+    private Person youngestPerson;
+
+    private final ArrayList<Person> oldestPersons;
+
+    public PersonSummary(int topCount) {
+
+        boolean isParamValid = topCount >= 0;
+        if (!isParamValid) {
+            LOGGER.warning("Count of oldest persons negative");
+            throw new IllegalArgumentException("Count of oldest persons must not be negative");
+        }
+
+        this.topCount = topCount;
+        this.oldestPersons = new ArrayList<>(Math.min(topCount, 1024) + 1);
+    }
+
+    public static Collector<Person, PersonSummary, PersonSummary> collector(int topCount) {
+
+        return Collector.of(
+                () -> new PersonSummary(topCount),
+                PersonSummary::accumulate,
+                PersonSummary::merge,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    @Override
+    public void accumulate(Person person) {
+
+        if (person == null) {
+            return;
+        }
+
+        personCount++;
+        if (person.getGender() != null) {
+            genderCounts[person.getGender().ordinal()]++;
+        }
+
+        LocalDate birthDate = person.getBirthDate();
+        if (birthDate == null) {
+            return;
+        }
+
+        if (oldestPerson == null || birthDate.isBefore(oldestPerson.getBirthDate())) {
+            oldestPerson = person;
+        }
+        if (youngestPerson == null || birthDate.isAfter(youngestPerson.getBirthDate())) {
+            youngestPerson = person;
+        }
+        addOldestPerson(person);
+    }
+
+    /**
+     * Merges {@code other} into this summary, treating its persons as encountered after the persons of this one.
+     */
+    public PersonSummary merge(PersonSummary other) {
+
+        boolean isParamValid = other != null && other.topCount == topCount;
+        if (!isParamValid) {
+            LOGGER.warning("Summary to merge not given or of other top count");
+            throw new IllegalArgumentException("Summary to merge must be given and have the same top count");
+        }
+
+        personCount += other.personCount;
+        for (int i = 0; i < genderCounts.length; i++) {
+            genderCounts[i] += other.genderCounts[i];
+        }
+
+        if (other.oldestPerson != null
+                && (oldestPerson == null || other.oldestPerson.getBirthDate().isBefore(oldestPerson.getBirthDate()))) {
+            oldestPerson = other.oldestPerson;
+        }
+        if (other.youngestPerson != null
+                && (youngestPerson == null || other.youngestPerson.getBirthDate().isAfter(youngestPerson.getBirthDate()))) {
+            youngestPerson = other.youngestPerson;
+        }
+        other.oldestPersons.forEach(this::addOldestPerson);
+        return this;
+    }
+
+    @Override
+    public PersonSummary getResult() {
+
+        return this;
+    }
+
+    public int getTopCount() {
+
+        return topCount;
+    }
+
+    public long getPersonCount() {
+
+        return personCount;
+    }
+
+    public long getGenderCount(Gender gender) {
+
+        boolean isParamValid = gender != null;
+        if (!isParamValid) {
+            LOGGER.warning("Gender not given");
+            throw new IllegalArgumentException("Gender must be given");
+        }
+
+        return genderCounts[gender.ordinal()];
+    }
+
+    public Map<Gender, Long> getGenderCounts() {
+
+        Map<Gender, Long> counts = new EnumMap<>(Gender.class);
+        for (Gender gender : Gender.values()) {
+            counts.put(gender, genderCounts[gender.ordinal()]);
+        }
+        return unmodifiableMap(counts);
+    }
+
+    public Optional<Person> getOldestPerson() {
+
+        return Optional.ofNullable(oldestPerson);
+    }
+
+    public Optional<Person> getYoungestPerson() {
+
+        return Optional.ofNullable(youngestPerson);
+    }
+
+    public Optional<LocalDate> getMinBirthDate() {
+
+        return getOldestPerson().map(Person::getBirthDate);
+    }
+
+    public Optional<LocalDate> getMaxBirthDate() {
+
+        return getYoungestPerson().map(Person::getBirthDate);
+    }
+
+    public List<Person> getOldestPersons() {
+
+        return unmodifiableList(new ArrayList<>(oldestPersons));
+    }
+
+    @Override
+    public String toString() {
+
+        return "PersonSummary(personCount=" + personCount + ", genderCounts=" + getGenderCounts()
+                + ", oldestPerson=" + oldestPerson + ", youngestPerson=" + youngestPerson
+                + ", oldestPersons=" + oldestPersons + ")";
+    }
+
+    private void addOldestPerson(Person person) {
+
+        if (topCount == 0) {
+            return;
+        }
+
+        int size = oldestPersons.size();
+        LocalDate birthDate = person.getBirthDate();
+        boolean isFull = size == topCount;
+        if (isFull && !birthDate.isBefore(oldestPersons.get(size - 1).getBirthDate())) {
+            return;
+        }
+
+        int position = upperBound(birthDate);
+        oldestPersons.add(position, person);
+        if (oldestPersons.size() > topCount) {
+            oldestPersons.remove(oldestPersons.size() - 1);
+        }
+    }
+
+    private int upperBound(LocalDate birthDate) {
+
+        int low = 0;
+        int high = oldestPersons.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (oldestPersons.get(middle).getBirthDate().isAfter(birthDate)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
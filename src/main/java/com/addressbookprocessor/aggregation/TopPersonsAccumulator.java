@@ -0,0 +1,92 @@
+package com.addressbookprocessor.aggregation;
+
+import com.addressbookprocessor.domain.Person;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.logging.Logger;
+
+import static java.util.Collections.unmodifiableList;
+
+public class TopPersonsAccumulator implements PersonAccumulator<List<Person>> {
+
+    private static final Logger LOGGER = Logger.getLogger(TopPersonsAccumulator.class.getName());
+
+    private static final Comparator<Person> BY_BIRTH_DATE = Comparator.comparing(Person::getBirthDate);
+
+    private final int count;
+
+    private final Comparator<RankedPerson> ranking;
+
+    private final PriorityQueue<RankedPerson> worstRankedFirst;
+
+    private long sequence;
+
+    private TopPersonsAccumulator(int count, Comparator<Person> personRanking) {
+
+        boolean isParamValid = count > 0;
+        if (!isParamValid) {
+            LOGGER.warning("Count of persons not positive");
+            throw new IllegalArgumentException("Count of persons must be positive");
+        }
+
+        this.count = count;
+        this.ranking = Comparator.<RankedPerson, Person>comparing(r -> r.person, personRanking)
+                .thenComparingLong(r -> r.sequence);
+        this.worstRankedFirst = new PriorityQueue<>(Math.min(count, 1024), ranking.reversed());
+    }
+
+    public static TopPersonsAccumulator oldest(int count) {
+
+        return new TopPersonsAccumulator(count, BY_BIRTH_DATE);
+    }
+
+    public static TopPersonsAccumulator youngest(int count) {
+
+        return new TopPersonsAccumulator(count, BY_BIRTH_DATE.reversed());
+    }
+
+    @Override
+    public void accumulate(Person person) {
+
+        long personSequence = sequence++;
+        boolean isPersonValid = person != null && person.getBirthDate() != null;
+        if (!isPersonValid) {
+            return;
+        }
+
+        RankedPerson rankedPerson = new RankedPerson(person, personSequence);
+        if (worstRankedFirst.size() < count) {
+            worstRankedFirst.add(rankedPerson);
+        } else if (ranking.compare(rankedPerson, worstRankedFirst.peek()) < 0) {
+            worstRankedFirst.poll();
+            worstRankedFirst.add(rankedPerson);
+        }
+    }
+
+    @Override
+    public List<Person> getResult() {
+
+        List<RankedPerson> rankedPersons = new ArrayList<>(worstRankedFirst);
+        rankedPersons.sort(ranking);
+
+        List<Person> persons = new ArrayList<>(rankedPersons.size());
+        rankedPersons.forEach(r -> persons.add(r.person));
+        return unmodifiableList(persons);
+    }
+
+    private static final class RankedPerson {
+
+        private final Person person;
+
+        private final long sequence;
+
+        private RankedPerson(Person person, long sequence) {
+
+            this.person = person;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.addressbookprocessor.batch;
+
+import com.addressbookprocessor.checkpoint.AddressBookCheckpointStore;
+import com.addressbookprocessor.facade.AddressBookFacade;
+import com.addressbookprocessor.facade.AddressBookSummary;
+import com.addressbookprocessor.reader.PersonTableBinaryFile;
+import com.addressbookprocessor.reader.exception.ProvidedFileHasErrorException;
+import io.vavr.control.Either;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.logging.Level.SEVERE;
+import static java.util.logging.Level.WARNING;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.apache.commons.lang3.StringUtils.join;
+
+public class AddressBookBatchProcessor {
+
+    private static final Logger LOGGER = Logger.getLogger(AddressBookBatchProcessor.class.getName());
+
+    private static final Pattern GLOB_CHARACTERS = Pattern.compile("[*?\\[{]");
+    private static final String GLOB_PLACEHOLDER = "_";
+    private static final String ANY_DEPTH_GLOB = "**";
+    private static final List<String> SIDECAR_SUFFIXES =
+            Arrays.asList(AddressBookCheckpointStore.CHECKPOINT_SUFFIX, PersonTableBinaryFile.BINARY_SUFFIX, ".tmp");
+
+    private final AddressBookFacade addressBookFacade;
+
+    private final int workerCount;
+
+    public AddressBookBatchProcessor(AddressBookFacade addressBookFacade, int workerCount) {
+
+        boolean areParamsValid = addressBookFacade != null && workerCount > 0;
+        if (!areParamsValid) {
+            LOGGER.warning("Batch processor not configured properly");
+            throw new IllegalArgumentException("Address book facade and a positive worker count must be given");
+        }
+
+        this.addressBookFacade = addressBookFacade;
+        this.workerCount = workerCount;
+    }
+
+    public static boolean isBatchPath(String addressBookPath) {
+
+        return isNotBlank(addressBookPath)
+                && (GLOB_CHARACTERS.matcher(addressBookPath).find() || Files.isDirectory(Paths.get(addressBookPath)));
+    }
+
+    public AddressBookBatchResult processAddressBooks(String directoryOrGlob) {
+
+        boolean isParamValid = isNotBlank(directoryOrGlob);
+        if (!isParamValid) {
+            LOGGER.warning("Given directoryOrGlob is blank");
+            throw new IllegalArgumentException("Given directoryOrGlob is blank");
+        }
+
+        List<Path> addressBookPaths = findAddressBooks(directoryOrGlob);
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(workerCount, Math.max(addressBookPaths.size(), 1)));
+        try {
+            List<Future<AddressBookSummary>> summaryFutures = new ArrayList<>(addressBookPaths.size());
+            for (Path addressBookPath : addressBookPaths) {
+                summaryFutures.add(workers.submit(() -> addressBookFacade.summarizeAddressBook(addressBookPath.toString())));
+            }
+
+            Map<Path, Either<String, AddressBookSummary>> fileSummaries = new LinkedHashMap<>();
+            AddressBookSummary mergedSummary = AddressBookSummary.empty();
+            for (int i = 0; i < addressBookPaths.size(); i++) {
+
+                Either<String, AddressBookSummary> fileSummary = awaitSummary(addressBookPaths.get(i), summaryFutures.get(i));
+                fileSummaries.put(addressBookPaths.get(i), fileSummary);
+                if (fileSummary.isRight()) {
+                    mergedSummary = mergedSummary.merge(fileSummary.get());
+                }
+            }
+            return new AddressBookBatchResult(fileSummaries, mergedSummary);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Either<String, AddressBookSummary> awaitSummary(Path addressBookPath, Future<AddressBookSummary> summaryFuture) {
+
+        try {
+            return Either.right(summaryFuture.get());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ProvidedFileHasErrorException("Batch processing interrupted");
+        } catch (ExecutionException ex) {
+            LOGGER.log(WARNING, join("Address book cannot be processed: ", addressBookPath), ex.getCause());
+            return Either.left(String.valueOf(ex.getCause().getMessage()));
+        }
+    }
+
+    /**
+     * Finds the address books in a directory, or below the directory part of a glob. Sidecar files written next to
+     * address books, checkpoints, binary person tables and their temporary files, are never taken as address books.
+     */
+    private List<Path> findAddressBooks(String directoryOrGlob) {
+
+        Path searchRoot = Paths.get(directoryOrGlob);
+        PathMatcher addressBookMatcher = path -> true;
+        int maxDepth = 1;
+
+        Matcher globCharacter = GLOB_CHARACTERS.matcher(directoryOrGlob);
+        boolean isGlob = globCharacter.find();
+        if (isGlob) {
+            // the placeholder makes the partial name before the first glob character, "north" of "dir/north*.csv",
+            // the last name element, so its parent is the search root whatever the separator of the file system
+            Path globStart = Paths.get(directoryOrGlob.substring(0, globCharacter.start()) + GLOB_PLACEHOLDER);
+            searchRoot = globStart.getParent() == null ? Paths.get(".") : globStart.getParent();
+            String partialName = globStart.getFileName().toString();
+            String relativeGlob = partialName.substring(0, partialName.length() - GLOB_PLACEHOLDER.length())
+                    + directoryOrGlob.substring(globCharacter.start());
+            addressBookMatcher = FileSystems.getDefault().getPathMatcher("glob:" + relativeGlob);
+            maxDepth = getGlobDepth(relativeGlob);
+        }
+
+        Path root = searchRoot;
+        PathMatcher matcher = addressBookMatcher;
+        try (Stream<Path> paths = Files.walk(root, maxDepth)) {
+            return paths
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !isSidecarFile(path))
+                    .filter(path -> matcher.matches(root.relativize(path)))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException ex) {
+            LOGGER.log(SEVERE, "Address book directory cannot be read", ex);
+            throw new ProvidedFileHasErrorException("Address book directory cannot be read");
+        }
+    }
+
+    private static int getGlobDepth(String relativeGlob) {
+
+        if (relativeGlob.contains(ANY_DEPTH_GLOB)) {
+            return Integer.MAX_VALUE;
+        }
+
+        String separator = FileSystems.getDefault().getSeparator();
+        int depth = 1;
+        for (int i = 0; i < relativeGlob.length(); i++) {
+            boolean isSeparator = relativeGlob.charAt(i) == '/' || relativeGlob.startsWith(separator, i);
+            if (isSeparator) {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    private static boolean isSidecarFile(Path path) {
+
+        String fileName = path.getFileName().toString();
+        return SIDECAR_SUFFIXES.stream().anyMatch(fileName::endsWith);
+    }
+}
@@ -0,0 +1,25 @@
+package com.addressbookprocessor.batch;
+
+import com.addressbookprocessor.facade.AddressBookSummary;
+import io.vavr.control.Either;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class AddressBookBatchResult {
+
+    private final Map<Path, Either<String, AddressBookSummary>> fileSummaries;
+
+    private final AddressBookSummary mergedSummary;
+
+    public long getFailedFileCount() {
+
+        return fileSummaries.values().stream().filter(Either::isLeft).count();
+    }
+}
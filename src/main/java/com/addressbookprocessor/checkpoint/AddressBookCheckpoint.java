@@ -0,0 +1,45 @@
+package com.addressbookprocessor.checkpoint;
+
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public class AddressBookCheckpoint {
+
+    private long byteOffset;
+
+    private long precedingBytesChecksum;
+
+    private long recordCount;
+
+    private Map<Gender, Long> genderCounts;
+
+    private Person oldestPerson;
+
+    private List<Person> olderPersonMatches;
+
+    private long olderPersonMatchCount;
+
+    public static AddressBookCheckpoint empty() {
+
+        return new AddressBookCheckpoint(0, 0, 0, new EnumMap<>(Gender.class), null, emptyList(), 0);
+    }
+
+    public long getGenderCount(Gender gender) {
+
+        return genderCounts.getOrDefault(gender, 0L);
+    }
+}
@@ -0,0 +1,185 @@
+package com.addressbookprocessor.checkpoint;
+
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+import io.vavr.control.Try;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.logging.Level.WARNING;
+
+public class AddressBookCheckpointStore {
+
+    private static final Logger LOGGER = Logger.getLogger(AddressBookCheckpointStore.class.getName());
+
+    public static final String CHECKPOINT_SUFFIX = ".checkpoint";
+    private static final int CHECKSUM_WINDOW = 4096;
+
+    private static final String VERSION = "version";
+    private static final String BYTE_OFFSET = "byteOffset";
+    private static final String PRECEDING_BYTES_CHECKSUM = "precedingBytesChecksum";
+    private static final String RECORD_COUNT = "recordCount";
+    private static final String GENDER_COUNT = "genderCount.";
+    private static final String OLDEST_PERSON = "oldestPerson";
+    private static final String OLDER_PERSON_MATCH = "olderPersonMatch.";
+    private static final String OLDER_PERSON_MATCH_COUNT = "olderPersonMatchCount";
+    private static final String CURRENT_VERSION = "1";
+
+    public Path getCheckpointPath(Path addressBookPath) {
+
+        return Paths.get(addressBookPath.toString() + CHECKPOINT_SUFFIX);
+    }
+
+    public Optional<AddressBookCheckpoint> load(Path addressBookPath) {
+
+        Path checkpointPath = getCheckpointPath(addressBookPath);
+        if (!Files.isRegularFile(checkpointPath)) {
+            return Optional.empty();
+        }
+
+        return Try.of(() -> {
+
+                    Properties properties = new Properties();
+                    try (Reader checkpointReader = Files.newBufferedReader(checkpointPath, UTF_8)) {
+                        properties.load(checkpointReader);
+                    }
+                    return fromProperties(properties);
+                })
+                .onFailure(ex -> LOGGER.log(WARNING, "Checkpoint cannot be read, ignoring it", ex))
+                .toJavaOptional()
+                .flatMap(checkpoint -> checkpoint);
+    }
+
+    public void save(Path addressBookPath, AddressBookCheckpoint checkpoint) {
+
+        Path checkpointPath = getCheckpointPath(addressBookPath);
+        Path checkpointDirectory = checkpointPath.toAbsolutePath().getParent();
+
+        Try.run(() -> {
+
+                    // a temporary file per run, concurrent runs on one address book replace the checkpoint whole
+                    Path temporaryPath = Files.createTempFile(checkpointDirectory, checkpointPath.getFileName().toString(), ".tmp");
+                    try {
+                        try (Writer checkpointWriter = Files.newBufferedWriter(temporaryPath, UTF_8)) {
+                            toProperties(checkpoint).store(checkpointWriter, null);
+                        }
+                        Files.move(temporaryPath, checkpointPath, REPLACE_EXISTING, ATOMIC_MOVE);
+                    } finally {
+                        Files.deleteIfExists(temporaryPath);
+                    }
+                })
+                .onFailure(ex -> LOGGER.log(WARNING, "Checkpoint cannot be written, next run starts from scratch", ex));
+    }
+
+    public static long checksumPrecedingBytes(FileChannel addressBookChannel, long offset) throws IOException {
+
+        long windowStart = Math.max(0, offset - CHECKSUM_WINDOW);
+        ByteBuffer window = ByteBuffer.allocate((int) (offset - windowStart));
+        while (window.hasRemaining()) {
+            if (addressBookChannel.read(window, windowStart + window.position()) < 0) {
+                return -1;
+            }
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(window.array());
+        return checksum.getValue();
+    }
+
+    private Properties toProperties(AddressBookCheckpoint checkpoint) {
+
+        Properties properties = new Properties();
+        properties.setProperty(VERSION, CURRENT_VERSION);
+        properties.setProperty(BYTE_OFFSET, Long.toString(checkpoint.getByteOffset()));
+        properties.setProperty(PRECEDING_BYTES_CHECKSUM, Long.toString(checkpoint.getPrecedingBytesChecksum()));
+        properties.setProperty(RECORD_COUNT, Long.toString(checkpoint.getRecordCount()));
+        checkpoint.getGenderCounts().forEach((gender, count) ->
+                properties.setProperty(GENDER_COUNT + gender.name(), Long.toString(count)));
+        putPerson(properties, OLDEST_PERSON, checkpoint.getOldestPerson());
+        for (int i = 0; i < checkpoint.getOlderPersonMatches().size(); i++) {
+            putPerson(properties, OLDER_PERSON_MATCH + i, checkpoint.getOlderPersonMatches().get(i));
+        }
+        properties.setProperty(OLDER_PERSON_MATCH_COUNT, Long.toString(checkpoint.getOlderPersonMatchCount()));
+        return properties;
+    }
+
+    private Optional<AddressBookCheckpoint> fromProperties(Properties properties) {
+
+        boolean isVersionSupported = CURRENT_VERSION.equals(properties.getProperty(VERSION));
+        if (!isVersionSupported) {
+            LOGGER.warning("Checkpoint version not supported, ignoring it");
+            return Optional.empty();
+        }
+
+        Map<Gender, Long> genderCounts = new EnumMap<>(Gender.class);
+        for (Gender gender : Gender.values()) {
+            genderCounts.put(gender, Long.parseLong(properties.getProperty(GENDER_COUNT + gender.name(), "0")));
+        }
+
+        List<Person> olderPersonMatches = new ArrayList<>();
+        Person olderPersonMatch;
+        while ((olderPersonMatch = getPerson(properties, OLDER_PERSON_MATCH + olderPersonMatches.size())) != null) {
+            olderPersonMatches.add(olderPersonMatch);
+        }
+
+        return Optional.of(AddressBookCheckpoint.builder()
+                .byteOffset(Long.parseLong(properties.getProperty(BYTE_OFFSET)))
+                .precedingBytesChecksum(Long.parseLong(properties.getProperty(PRECEDING_BYTES_CHECKSUM)))
+                .recordCount(Long.parseLong(properties.getProperty(RECORD_COUNT)))
+                .genderCounts(genderCounts)
+                .oldestPerson(getPerson(properties, OLDEST_PERSON))
+                .olderPersonMatches(olderPersonMatches)
+                .olderPersonMatchCount(Long.parseLong(properties.getProperty(OLDER_PERSON_MATCH_COUNT)))
+                .build());
+    }
+
+    private void putPerson(Properties properties, String key, Person person) {
+
+        if (person == null) {
+            return;
+        }
+        if (person.getName() != null) {
+            properties.setProperty(key + ".name", person.getName());
+        }
+        if (person.getGender() != null) {
+            properties.setProperty(key + ".gender", person.getGender().name());
+        }
+        if (person.getBirthDate() != null) {
+            properties.setProperty(key + ".birthDate", person.getBirthDate().toString());
+        }
+        properties.setProperty(key, "");
+    }
+
+    private Person getPerson(Properties properties, String key) {
+
+        if (properties.getProperty(key) == null) {
+            return null;
+        }
+
+        String gender = properties.getProperty(key + ".gender");
+        String birthDate = properties.getProperty(key + ".birthDate");
+        return new Person(
+                properties.getProperty(key + ".name"),
+                gender == null ? null : Gender.valueOf(gender),
+                birthDate == null ? null : LocalDate.parse(birthDate));
+    }
+}
@@ -0,0 +1,236 @@
+package com.addressbookprocessor.domain;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Interns UTF-8 name tokens to dense ids, so repeated first names and surnames are stored once. The tokens live in
+ * buffers, heap arrays while interning or read-only views such as a memory-mapped file; the lookup slots are only
+ * built once a token is looked up or interned.
+ */
+public final class NameDictionary {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final int INITIAL_TOKENS = 256;
+
+    private int size;
+
+    private IntBuffer tokenOffsets;
+
+    private ByteBuffer tokenBytes;
+
+    private volatile int[] slots;
+
+    private NameDictionary(int size, IntBuffer tokenOffsets, ByteBuffer tokenBytes) {
+
+        this.size = size;
+        this.tokenOffsets = tokenOffsets;
+        this.tokenBytes = tokenBytes;
+    }
+
+    public static NameDictionary create() {
+
+        return new NameDictionary(0, IntBuffer.allocate(INITIAL_TOKENS + 1), ByteBuffer.allocate(INITIAL_TOKENS * 8));
+    }
+
+    public static NameDictionary of(int[] tokenOffsets, byte[] tokenBytes) {
+
+        return of(IntBuffer.wrap(tokenOffsets), ByteBuffer.wrap(tokenBytes));
+    }
+
+    /**
+     * Dictionary over the given token offsets and bytes from their positions to their limits, without copying them.
+     */
+    public static NameDictionary of(IntBuffer tokenOffsets, ByteBuffer tokenBytes) {
+
+        IntBuffer offsets = tokenOffsets.slice();
+        ByteBuffer bytes = tokenBytes.slice();
+        int size = offsets.remaining() - 1;
+        boolean areColumnsValid = size >= 0 && offsets.get(0) == 0 && offsets.get(size) == bytes.remaining();
+        if (!areColumnsValid) {
+            throw new IllegalArgumentException("Name dictionary columns must have matching lengths");
+        }
+        return new NameDictionary(size, offsets, bytes);
+    }
+
+    public int size() {
+
+        return size;
+    }
+
+    public int intern(byte[] buffer, int offset, int length) {
+
+        int[] currentSlots = getSlots();
+        int hash = hash(buffer, offset, length);
+        int mask = currentSlots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int id = currentSlots[slot] - 1;
+            if (id == NOT_FOUND) {
+                id = append(buffer, offset, length);
+                currentSlots[slot] = id + 1;
+                if (size * 2 > currentSlots.length) {
+                    slots = rehash(currentSlots.length * 2);
+                }
+                return id;
+            }
+            if (tokenEquals(id, buffer, offset, length)) {
+                return id;
+            }
+        }
+    }
+
+    public int indexOf(String token) {
+
+        int[] currentSlots = getSlots();
+        byte[] bytes = token.getBytes(UTF_8);
+        int mask = currentSlots.length - 1;
+        for (int slot = hash(bytes, 0, bytes.length) & mask; ; slot = (slot + 1) & mask) {
+            int id = currentSlots[slot] - 1;
+            if (id == NOT_FOUND || tokenEquals(id, bytes, 0, bytes.length)) {
+                return id;
+            }
+        }
+    }
+
+    public String getToken(int id) {
+
+        byte[] token = new byte[tokenLength(id)];
+        copyToken(id, token, 0);
+        return new String(token, UTF_8);
+    }
+
+    public int tokenLength(int id) {
+
+        return tokenOffsets.get(id + 1) - tokenOffsets.get(id);
+    }
+
+    public int copyToken(int id, byte[] target, int targetOffset) {
+
+        int start = tokenOffsets.get(id);
+        int length = tokenLength(id);
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = tokenBytes.get(start + i);
+        }
+        return length;
+    }
+
+    public boolean tokenContains(int id, byte[] part) {
+
+        int start = tokenOffsets.get(id);
+        int last = tokenOffsets.get(id + 1) - part.length;
+        for (int i = start; i <= last; i++) {
+            int matched = 0;
+            while (matched < part.length && tokenBytes.get(i + matched) == part[matched]) {
+                matched++;
+            }
+            if (matched == part.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public NameDictionary compact() {
+
+        int[] offsets = new int[size + 1];
+        byte[] bytes = new byte[tokenOffsets.get(size)];
+        tokenOffsets().get(offsets);
+        tokenBytes().get(bytes);
+        return new NameDictionary(size, IntBuffer.wrap(offsets), ByteBuffer.wrap(bytes));
+    }
+
+    public IntBuffer tokenOffsets() {
+
+        IntBuffer offsets = tokenOffsets.duplicate();
+        offsets.position(0).limit(size + 1);
+        return offsets.slice().asReadOnlyBuffer();
+    }
+
+    public ByteBuffer tokenBytes() {
+
+        ByteBuffer bytes = tokenBytes.duplicate();
+        bytes.position(0).limit(tokenOffsets.get(size));
+        return bytes.slice().asReadOnlyBuffer();
+    }
+
+    private int append(byte[] buffer, int offset, int length) {
+
+        boolean isOffsetsWritable = !tokenOffsets.isReadOnly() && size + 1 < tokenOffsets.capacity();
+        if (!isOffsetsWritable) {
+            IntBuffer offsets = IntBuffer.allocate(Math.max(INITIAL_TOKENS, (size + 1) * 2));
+            offsets.put(tokenOffsets());
+            tokenOffsets = offsets;
+        }
+        int start = tokenOffsets.get(size);
+        boolean isBytesWritable = !tokenBytes.isReadOnly() && start + length <= tokenBytes.capacity();
+        if (!isBytesWritable) {
+            ByteBuffer bytes = ByteBuffer.allocate(Math.max(start + length, tokenBytes.capacity() * 2));
+            bytes.put(tokenBytes());
+            tokenBytes = bytes;
+        }
+        for (int i = 0; i < length; i++) {
+            tokenBytes.put(start + i, buffer[offset + i]);
+        }
+        tokenOffsets.put(size + 1, start + length);
+        return size++;
+    }
+
+    private boolean tokenEquals(int id, byte[] buffer, int offset, int length) {
+
+        int start = tokenOffsets.get(id);
+        if (tokenOffsets.get(id + 1) - start != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (tokenBytes.get(start + i) != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] getSlots() {
+
+        int[] currentSlots = slots;
+        if (currentSlots == null) {
+            currentSlots = rehash(Integer.highestOneBit(Math.max(size, INITIAL_TOKENS / 2)) * 4);
+            slots = currentSlots;
+        }
+        return currentSlots;
+    }
+
+    private int[] rehash(int slotCount) {
+
+        int[] newSlots = new int[slotCount];
+        int mask = slotCount - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hash(tokenBytes, tokenOffsets.get(id), tokenLength(id)) & mask;
+            while (newSlots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newSlots[slot] = id + 1;
+        }
+        return newSlots;
+    }
+
+    private static int hash(byte[] buffer, int offset, int length) {
+
+        int hash = 0x811C9DC5;
+        for (int i = offset; i < offset + length; i++) {
+            hash = (hash ^ buffer[i]) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(ByteBuffer buffer, int offset, int length) {
+
+        int hash = 0x811C9DC5;
+        for (int i = offset; i < offset + length; i++) {
+            hash = (hash ^ buffer.get(i)) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,299 @@
+package com.addressbookprocessor.domain;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static com.addressbookprocessor.domain.PersonTable.NO_BIRTH_DATE;
+import static com.addressbookprocessor.domain.PersonTable.NO_GENDER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Persons kept outside of the Java heap in direct buffers, so that very large address books add next to nothing
+ * to the heap the garbage collector has to trace. Every row is a fixed-width record of birth epoch day, gender
+ * ordinal, name length and name address; the UTF-8 names are appended to a separate arena. Both are split into
+ * chunks because a single buffer cannot exceed 2GB, a name never spans two arena chunks.
+ *
+ * <p>The store is immutable once built and can be read by many threads at once.
+ */
+public final class OffHeapPersonStore implements PersonRows {
+
+    private static final Logger LOGGER = Logger.getLogger(OffHeapPersonStore.class.getName());
+
+    public static final int MAX_NAME_BYTES = 0xFFFF;
+
+    static final int RECORD_BYTES = 16;
+
+    private static final int BIRTH_EPOCH_DAY = 0;
+    private static final int GENDER = 4;
+    private static final int NAME_LENGTH = 6;
+    private static final int NAME_ADDRESS = 8;
+
+    private static final int RECORD_CHUNK_SHIFT = 22;
+    private static final int ARENA_CHUNK_SHIFT = 26;
+    private static final int INITIAL_CHUNK_BYTES = 4096;
+
+    private static final Gender[] GENDERS = Gender.values();
+
+    private final int size;
+
+    private final int recordChunkShift;
+
+    private final int arenaChunkShift;
+
+    private final ByteBuffer[] recordChunks;
+
+    private final ByteBuffer[] arenaChunks;
+
+    private OffHeapPersonStore(int size, int recordChunkShift, int arenaChunkShift, ByteBuffer[] recordChunks,
+                               ByteBuffer[] arenaChunks) {
+
+        this.size = size;
+        this.recordChunkShift = recordChunkShift;
+        this.arenaChunkShift = arenaChunkShift;
+        this.recordChunks = recordChunks;
+        this.arenaChunks = arenaChunks;
+    }
+
+    public static Builder builder() {
+
+        return new Builder(RECORD_CHUNK_SHIFT, ARENA_CHUNK_SHIFT);
+    }
+
+    static Builder builder(int recordChunkShift, int arenaChunkShift) {
+
+        return new Builder(recordChunkShift, arenaChunkShift);
+    }
+
+    public static OffHeapPersonStore of(PersonRows personRows) {
+
+        Builder builder = builder();
+        for (int row = 0; row < personRows.size(); row++) {
+            byte[] name = personRows.getName(row).getBytes(UTF_8);
+            byte genderOrdinal = personRows.getGenderOrdinal(row);
+            builder.add(name, 0, name.length, genderOrdinal == NO_GENDER ? null : GENDERS[genderOrdinal],
+                    personRows.getBirthEpochDay(row));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public int size() {
+
+        return size;
+    }
+
+    @Override
+    public int getBirthEpochDay(int row) {
+
+        return recordChunk(row).getInt(recordPosition(row) + BIRTH_EPOCH_DAY);
+    }
+
+    @Override
+    public byte getGenderOrdinal(int row) {
+
+        return recordChunk(row).get(recordPosition(row) + GENDER);
+    }
+
+    public int getNameLength(int row) {
+
+        return recordChunk(row).getShort(recordPosition(row) + NAME_LENGTH) & MAX_NAME_BYTES;
+    }
+
+    @Override
+    public String getName(int row) {
+
+        long nameAddress = recordChunk(row).getLong(recordPosition(row) + NAME_ADDRESS);
+        ByteBuffer arena = arenaChunks[(int) (nameAddress >>> arenaChunkShift)].duplicate();
+        arena.position(arenaPosition(nameAddress));
+
+        byte[] name = new byte[getNameLength(row)];
+        arena.get(name);
+        return new String(name, UTF_8);
+    }
+
+    /**
+     * Tells whether the UTF-8 name of the row contains the given bytes, without copying the name to the heap.
+     */
+    public boolean nameContains(int row, byte[] namePart) {
+
+        int nameLength = getNameLength(row);
+        if (namePart.length == 0) {
+            return true;
+        }
+
+        long nameAddress = recordChunk(row).getLong(recordPosition(row) + NAME_ADDRESS);
+        ByteBuffer arena = arenaChunks[(int) (nameAddress >>> arenaChunkShift)];
+        int nameStart = arenaPosition(nameAddress);
+        int lastStart = nameStart + nameLength - namePart.length;
+        byte first = namePart[0];
+        for (int start = nameStart; start <= lastStart; start++) {
+            if (arena.get(start) != first) {
+                continue;
+            }
+            int matched = 1;
+            while (matched < namePart.length && arena.get(start + matched) == namePart[matched]) {
+                matched++;
+            }
+            if (matched == namePart.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Person getPerson(int row) {
+
+        int birthEpochDay = getBirthEpochDay(row);
+        byte genderOrdinal = getGenderOrdinal(row);
+        return new Person(getName(row), genderOrdinal == NO_GENDER ? null : GENDERS[genderOrdinal],
+                birthEpochDay == NO_BIRTH_DATE ? null : LocalDate.ofEpochDay(birthEpochDay));
+    }
+
+    /**
+     * Direct memory reserved by the records and the name arena.
+     */
+    public long getOffHeapBytes() {
+
+        return capacityOf(recordChunks) + capacityOf(arenaChunks);
+    }
+
+    private ByteBuffer recordChunk(int row) {
+
+        return recordChunks[row >>> recordChunkShift];
+    }
+
+    private int recordPosition(int row) {
+
+        return (row & ((1 << recordChunkShift) - 1)) * RECORD_BYTES;
+    }
+
+    private int arenaPosition(long nameAddress) {
+
+        return (int) (nameAddress & ((1L << arenaChunkShift) - 1));
+    }
+
+    private static long capacityOf(ByteBuffer[] chunks) {
+
+        long capacity = 0;
+        for (ByteBuffer chunk : chunks) {
+            capacity += chunk.capacity();
+        }
+        return capacity;
+    }
+
+    public static final class Builder {
+
+        private final int recordChunkShift;
+
+        private final int arenaChunkShift;
+
+        private final List<ByteBuffer> recordChunks = new ArrayList<>();
+
+        private final List<ByteBuffer> arenaChunks = new ArrayList<>();
+
+        private int size;
+
+        private int arenaPosition;
+
+        private Builder(int recordChunkShift, int arenaChunkShift) {
+
+            this.recordChunkShift = recordChunkShift;
+            this.arenaChunkShift = arenaChunkShift;
+        }
+
+        public Builder add(Person person) {
+
+            if (person == null) {
+                return this;
+            }
+
+            byte[] name = person.getName() == null ? new byte[0] : person.getName().getBytes(UTF_8);
+            int birthEpochDay = person.getBirthDate() == null ? NO_BIRTH_DATE : (int) person.getBirthDate().toEpochDay();
+            return add(name, 0, name.length, person.getGender(), birthEpochDay);
+        }
+
+        public Builder add(byte[] nameBuffer, int nameOffset, int nameLength, Gender gender, int birthEpochDay) {
+
+            boolean isNameValid = nameLength <= MAX_NAME_BYTES && nameLength < 1 << arenaChunkShift;
+            if (!isNameValid) {
+                LOGGER.warning("Person name too long for off-heap store");
+                throw new IllegalArgumentException("Person name must not exceed " + MAX_NAME_BYTES + " bytes");
+            }
+
+            boolean hasRowCapacity = size < Integer.MAX_VALUE;
+            if (!hasRowCapacity) {
+                LOGGER.warning("Off-heap store full");
+                throw new IllegalStateException("Off-heap store cannot hold more persons");
+            }
+
+            long nameAddress = appendName(nameBuffer, nameOffset, nameLength);
+
+            int recordChunkRows = 1 << recordChunkShift;
+            int chunk = size >>> recordChunkShift;
+            int position = (size & (recordChunkRows - 1)) * RECORD_BYTES;
+            if (chunk == recordChunks.size()) {
+                recordChunks.add(allocate(Math.min(INITIAL_CHUNK_BYTES, recordChunkRows * RECORD_BYTES)));
+            }
+            ByteBuffer records = ensureCapacity(recordChunks, chunk, position + RECORD_BYTES, recordChunkRows * RECORD_BYTES);
+            records.putInt(position + BIRTH_EPOCH_DAY, birthEpochDay);
+            records.put(position + GENDER, gender == null ? NO_GENDER : (byte) gender.ordinal());
+            records.putShort(position + NAME_LENGTH, (short) nameLength);
+            records.putLong(position + NAME_ADDRESS, nameAddress);
+            size++;
+            return this;
+        }
+
+        public OffHeapPersonStore build() {
+
+            return new OffHeapPersonStore(size, recordChunkShift, arenaChunkShift,
+                    recordChunks.toArray(new ByteBuffer[0]), arenaChunks.toArray(new ByteBuffer[0]));
+        }
+
+        private long appendName(byte[] nameBuffer, int nameOffset, int nameLength) {
+
+            int arenaChunkBytes = 1 << arenaChunkShift;
+            if (arenaChunks.isEmpty() || arenaPosition + nameLength > arenaChunkBytes) {
+                arenaChunks.add(allocate(Math.min(INITIAL_CHUNK_BYTES, arenaChunkBytes)));
+                arenaPosition = 0;
+            }
+
+            int chunk = arenaChunks.size() - 1;
+            ByteBuffer arena = ensureCapacity(arenaChunks, chunk, arenaPosition + nameLength, arenaChunkBytes);
+            arena.position(arenaPosition);
+            arena.put(nameBuffer, nameOffset, nameLength);
+
+            long nameAddress = ((long) chunk << arenaChunkShift) | arenaPosition;
+            arenaPosition += nameLength;
+            return nameAddress;
+        }
+
+        private static ByteBuffer ensureCapacity(List<ByteBuffer> chunks, int chunk, int bytes, int maxBytes) {
+
+            ByteBuffer buffer = chunks.get(chunk);
+            if (bytes <= buffer.capacity()) {
+                return buffer;
+            }
+
+            int capacity = buffer.capacity();
+            while (capacity < bytes) {
+                capacity = (int) Math.min((long) capacity << 1, maxBytes);
+            }
+            ByteBuffer grown = allocate(capacity);
+            buffer.clear();
+            grown.put(buffer);
+            grown.clear();
+            chunks.set(chunk, grown);
+            return grown;
+        }
+
+        private static ByteBuffer allocate(int bytes) {
+
+            return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        }
+    }
+}
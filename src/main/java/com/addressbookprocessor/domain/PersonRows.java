@@ -0,0 +1,18 @@
+package com.addressbookprocessor.domain;
+
+/**
+ * Column-wise read access to persons by row, birth dates as epoch days with {@link PersonTable#NO_BIRTH_DATE}
+ * and genders as ordinals with {@link PersonTable#NO_GENDER} for missing values.
+ */
+public interface PersonRows {
+
+    int size();
+
+    int getBirthEpochDay(int row);
+
+    byte getGenderOrdinal(int row);
+
+    String getName(int row);
+
+    Person getPerson(int row);
+}
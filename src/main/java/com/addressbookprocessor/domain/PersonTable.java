@@ -0,0 +1,280 @@
+package com.addressbookprocessor.domain;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Person rows as primitive columns with interned name tokens. The columns are buffers, either wrapping heap arrays
+ * or viewing a memory-mapped file in place.
+ */
+public final class PersonTable implements PersonRows {
+
+    public static final int NO_BIRTH_DATE = Integer.MAX_VALUE;
+    public static final byte NO_GENDER = -1;
+
+    private static final Gender[] GENDERS = Gender.values();
+    private static final byte TOKEN_SEPARATOR = ' ';
+
+    private final int size;
+
+    private final IntBuffer birthEpochDays;
+
+    private final ByteBuffer genders;
+
+    private final IntBuffer nameTokenOffsets;
+
+    private final IntBuffer nameTokenIds;
+
+    private final NameDictionary nameDictionary;
+
+    private PersonTable(int size, IntBuffer birthEpochDays, ByteBuffer genders, IntBuffer nameTokenOffsets,
+                        IntBuffer nameTokenIds, NameDictionary nameDictionary) {
+
+        this.size = size;
+        this.birthEpochDays = birthEpochDays;
+        this.genders = genders;
+        this.nameTokenOffsets = nameTokenOffsets;
+        this.nameTokenIds = nameTokenIds;
+        this.nameDictionary = nameDictionary;
+    }
+
+    public static PersonTable of(int[] birthEpochDays, byte[] genders, int[] nameTokenOffsets, int[] nameTokenIds,
+                                 NameDictionary nameDictionary) {
+
+        return of(IntBuffer.wrap(birthEpochDays), ByteBuffer.wrap(genders), IntBuffer.wrap(nameTokenOffsets),
+                IntBuffer.wrap(nameTokenIds), nameDictionary);
+    }
+
+    /**
+     * Table over the given columns from their positions to their limits, without copying them.
+     */
+    public static PersonTable of(IntBuffer birthEpochDays, ByteBuffer genders, IntBuffer nameTokenOffsets,
+                                 IntBuffer nameTokenIds, NameDictionary nameDictionary) {
+
+        IntBuffer birthEpochDayColumn = birthEpochDays.slice();
+        ByteBuffer genderColumn = genders.slice();
+        IntBuffer nameTokenOffsetColumn = nameTokenOffsets.slice();
+        IntBuffer nameTokenIdColumn = nameTokenIds.slice();
+        int size = birthEpochDayColumn.remaining();
+        boolean areColumnsValid = genderColumn.remaining() == size
+                && nameTokenOffsetColumn.remaining() == size + 1
+                && nameTokenOffsetColumn.get(0) == 0
+                && nameTokenOffsetColumn.get(size) == nameTokenIdColumn.remaining()
+                && areTokenIdsValid(nameTokenIdColumn, nameDictionary.size());
+        if (!areColumnsValid) {
+            throw new IllegalArgumentException("Person table columns must have matching lengths");
+        }
+        return new PersonTable(size, birthEpochDayColumn, genderColumn, nameTokenOffsetColumn, nameTokenIdColumn,
+                nameDictionary);
+    }
+
+    private static boolean areTokenIdsValid(IntBuffer nameTokenIds, int dictionarySize) {
+
+        for (int i = 0; i < nameTokenIds.remaining(); i++) {
+            int tokenId = nameTokenIds.get(i);
+            if (tokenId < 0 || tokenId >= dictionarySize) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static Builder builder() {
+
+        return new Builder();
+    }
+
+    @Override
+    public int size() {
+
+        return size;
+    }
+
+    @Override
+    public int getBirthEpochDay(int row) {
+
+        return birthEpochDays.get(row);
+    }
+
+    @Override
+    public byte getGenderOrdinal(int row) {
+
+        return genders.get(row);
+    }
+
+    public Gender getGender(int row) {
+
+        byte gender = genders.get(row);
+        return gender == NO_GENDER ? null : GENDERS[gender];
+    }
+
+    @Override
+    public String getName(int row) {
+
+        int tokenStart = nameTokenOffsets.get(row);
+        int tokenEnd = nameTokenOffsets.get(row + 1);
+        int nameLength = tokenEnd - tokenStart - 1;
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            nameLength += nameDictionary.tokenLength(nameTokenIds.get(i));
+        }
+
+        byte[] name = new byte[nameLength];
+        int position = 0;
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            if (i > tokenStart) {
+                name[position++] = TOKEN_SEPARATOR;
+            }
+            position += nameDictionary.copyToken(nameTokenIds.get(i), name, position);
+        }
+        return new String(name, UTF_8);
+    }
+
+    public int getNameTokenCount(int row) {
+
+        return nameTokenOffsets.get(row + 1) - nameTokenOffsets.get(row);
+    }
+
+    public int getNameTokenId(int row, int index) {
+
+        return nameTokenIds.get(nameTokenOffsets.get(row) + index);
+    }
+
+    public int getFirstNameId(int row) {
+
+        return nameTokenIds.get(nameTokenOffsets.get(row));
+    }
+
+    public int getSurnameId(int row) {
+
+        return nameTokenIds.get(nameTokenOffsets.get(row + 1) - 1);
+    }
+
+    public long countGenderOrdinal(byte genderOrdinal, ScanKernel scanKernel) {
+
+        return scanKernel.countEqual(genders, size, genderOrdinal);
+    }
+
+    /**
+     * First row with the earliest birth epoch day, rows without birth date only when no row has one.
+     */
+    public int findOldestRow(ScanKernel scanKernel) {
+
+        return scanKernel.indexOfMinimum(birthEpochDays, size);
+    }
+
+    public NameDictionary getNameDictionary() {
+
+        return nameDictionary;
+    }
+
+    public IntBuffer birthEpochDays() {
+
+        return birthEpochDays.asReadOnlyBuffer();
+    }
+
+    public ByteBuffer genders() {
+
+        return genders.asReadOnlyBuffer();
+    }
+
+    public IntBuffer nameTokenOffsets() {
+
+        return nameTokenOffsets.asReadOnlyBuffer();
+    }
+
+    public IntBuffer nameTokenIds() {
+
+        return nameTokenIds.asReadOnlyBuffer();
+    }
+
+    @Override
+    public Person getPerson(int row) {
+
+        int birthEpochDay = birthEpochDays.get(row);
+        return new Person(getName(row), getGender(row), birthEpochDay == NO_BIRTH_DATE ? null : LocalDate.ofEpochDay(birthEpochDay));
+    }
+
+    public static final class Builder {
+
+        private static final int INITIAL_ROWS = 1024;
+
+        private int size;
+
+        private int[] birthEpochDays = new int[INITIAL_ROWS];
+
+        private byte[] genders = new byte[INITIAL_ROWS];
+
+        private int[] nameTokenOffsets = new int[INITIAL_ROWS + 1];
+
+        private int[] nameTokenIds = new int[INITIAL_ROWS * 2];
+
+        private final NameDictionary nameDictionary = NameDictionary.create();
+
+        private Builder() {
+        }
+
+        public Builder add(Person person) {
+
+            if (person == null) {
+                return this;
+            }
+
+            byte[] name = person.getName() == null ? new byte[0] : person.getName().getBytes(UTF_8);
+            int birthEpochDay = person.getBirthDate() == null ? NO_BIRTH_DATE : (int) person.getBirthDate().toEpochDay();
+            return add(name, 0, name.length, person.getGender(), birthEpochDay);
+        }
+
+        public Builder add(byte[] nameBuffer, int nameOffset, int nameLength, Gender gender, int birthEpochDay) {
+
+            ensureRowCapacity(size + 1);
+            int tokenCount = nameTokenOffsets[size];
+            int nameEnd = nameOffset + nameLength;
+            int tokenStart = nameOffset;
+            for (int i = nameOffset; i <= nameEnd; i++) {
+                if (i == nameEnd || nameBuffer[i] == TOKEN_SEPARATOR) {
+                    ensureTokenCapacity(tokenCount + 1);
+                    nameTokenIds[tokenCount++] = nameDictionary.intern(nameBuffer, tokenStart, i - tokenStart);
+                    tokenStart = i + 1;
+                }
+            }
+
+            nameTokenOffsets[size + 1] = tokenCount;
+            birthEpochDays[size] = birthEpochDay;
+            genders[size] = gender == null ? NO_GENDER : (byte) gender.ordinal();
+            size++;
+            return this;
+        }
+
+        public PersonTable build() {
+
+            return new PersonTable(
+                    size,
+                    IntBuffer.wrap(Arrays.copyOf(birthEpochDays, size)),
+                    ByteBuffer.wrap(Arrays.copyOf(genders, size)),
+                    IntBuffer.wrap(Arrays.copyOf(nameTokenOffsets, size + 1)),
+                    IntBuffer.wrap(Arrays.copyOf(nameTokenIds, nameTokenOffsets[size])),
+                    nameDictionary.compact());
+        }
+
+        private void ensureRowCapacity(int rows) {
+
+            if (rows > birthEpochDays.length) {
+                int capacity = Math.max(rows, birthEpochDays.length + (birthEpochDays.length >> 1));
+                birthEpochDays = Arrays.copyOf(birthEpochDays, capacity);
+                genders = Arrays.copyOf(genders, capacity);
+                nameTokenOffsets = Arrays.copyOf(nameTokenOffsets, capacity + 1);
+            }
+        }
+
+        private void ensureTokenCapacity(int tokens) {
+
+            if (tokens > nameTokenIds.length) {
+                nameTokenIds = Arrays.copyOf(nameTokenIds, Math.max(tokens, nameTokenIds.length + (nameTokenIds.length >> 1)));
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.addressbookprocessor.domain;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Loops over primitive person columns. {@link #SCALAR} is the plain reference loop, {@link #BRANCH_FREE} reduces
+ * with conditional moves and counts eight bytes per step (SWAR) where the JVM loads words cheaply. Columns can be
+ * given as arrays or as buffers, such as views of a memory-mapped file.
+ */
+public enum ScanKernel {
+
+    SCALAR {
+        @Override
+        public long countEqual(byte[] values, int size, byte value) {
+
+            long count = 0;
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public int indexOfMinimum(int[] values, int size) {
+
+            if (size == 0) {
+                return NOT_FOUND;
+            }
+
+            int minimumIndex = 0;
+            for (int i = 1; i < size; i++) {
+                if (values[i] < values[minimumIndex]) {
+                    minimumIndex = i;
+                }
+            }
+            return minimumIndex;
+        }
+
+        @Override
+        long countEqualInBuffer(ByteBuffer values, int size, byte value) {
+
+            long count = 0;
+            for (int i = 0; i < size; i++) {
+                if (values.get(i) == value) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        int indexOfMinimumInBuffer(IntBuffer values, int size) {
+
+            if (size == 0) {
+                return NOT_FOUND;
+            }
+
+            int minimumIndex = 0;
+            for (int i = 1; i < size; i++) {
+                if (values.get(i) < values.get(minimumIndex)) {
+                    minimumIndex = i;
+                }
+            }
+            return minimumIndex;
+        }
+    },
+
+    BRANCH_FREE {
+        @Override
+        public long countEqual(byte[] values, int size, byte value) {
+
+            return IS_WORD_ACCESS_FAST ? countEqualWords(values, size, value) : SCALAR.countEqual(values, size, value);
+        }
+
+        @Override
+        public int indexOfMinimum(int[] values, int size) {
+
+            if (size == 0) {
+                return NOT_FOUND;
+            }
+
+            int minimum = Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                int value = values[i];
+                minimum = value < minimum ? value : minimum;
+            }
+
+            int minimumIndex = 0;
+            while (values[minimumIndex] != minimum) {
+                minimumIndex++;
+            }
+            return minimumIndex;
+        }
+
+        @Override
+        long countEqualInBuffer(ByteBuffer values, int size, byte value) {
+
+            return countEqualWords(values, size, value);
+        }
+
+        @Override
+        int indexOfMinimumInBuffer(IntBuffer values, int size) {
+
+            if (size == 0) {
+                return NOT_FOUND;
+            }
+
+            int minimum = Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                int value = values.get(i);
+                minimum = value < minimum ? value : minimum;
+            }
+
+            int minimumIndex = 0;
+            while (values.get(minimumIndex) != minimum) {
+                minimumIndex++;
+            }
+            return minimumIndex;
+        }
+    };
+
+    public static final int NOT_FOUND = -1;
+
+    private static final long REPEATED_BYTE = 0x0101010101010101L;
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    /**
+     * Heap buffers read whole words with one load since Java 9, Java 8 assembles them byte by byte.
+     */
+    private static final boolean IS_WORD_ACCESS_FAST = !System.getProperty("java.specification.version").startsWith("1.");
+
+    /**
+     * Counts the first {@code size} values equal to the given one.
+     */
+    public abstract long countEqual(byte[] values, int size, byte value);
+
+    /**
+     * Finds the first index of the smallest of the first {@code size} values, {@link #NOT_FOUND} when empty.
+     */
+    public abstract int indexOfMinimum(int[] values, int size);
+
+    /**
+     * Counts the first {@code size} values of the buffer, by absolute index, equal to the given one. Direct and
+     * mapped buffers are scanned in place.
+     */
+    public long countEqual(ByteBuffer values, int size, byte value) {
+
+        boolean isArrayBacked = values.hasArray() && values.arrayOffset() == 0;
+        return isArrayBacked ? countEqual(values.array(), size, value) : countEqualInBuffer(values, size, value);
+    }
+
+    public int indexOfMinimum(IntBuffer values, int size) {
+
+        boolean isArrayBacked = values.hasArray() && values.arrayOffset() == 0;
+        return isArrayBacked ? indexOfMinimum(values.array(), size) : indexOfMinimumInBuffer(values, size);
+    }
+
+    abstract long countEqualInBuffer(ByteBuffer values, int size, byte value);
+
+    abstract int indexOfMinimumInBuffer(IntBuffer values, int size);
+
+    /**
+     * Counts eight bytes per step: a byte of the difference is zero exactly when adding 0x7F to its low seven bits
+     * leaves its high bit clear and its own high bit is clear too.
+     */
+    static long countEqualWords(byte[] values, int size, byte value) {
+
+        return countEqualWords(ByteBuffer.wrap(values), size, value);
+    }
+
+    static long countEqualWords(ByteBuffer values, int size, byte value) {
+
+        ByteBuffer words = values.duplicate().order(ByteOrder.nativeOrder());
+        long pattern = (value & 0xFFL) * REPEATED_BYTE;
+        long count = 0;
+        int i = 0;
+        for (; i + Long.BYTES <= size; i += Long.BYTES) {
+            long difference = words.getLong(i) ^ pattern;
+            long nonZeroBytes = ((difference & LOW_SEVEN_BITS) + LOW_SEVEN_BITS) | difference;
+            count += Long.bitCount(~(nonZeroBytes | LOW_SEVEN_BITS));
+        }
+        for (; i < size; i++) {
+            count += values.get(i) == value ? 1 : 0;
+        }
+        return count;
+    }
+}
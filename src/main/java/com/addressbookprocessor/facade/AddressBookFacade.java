@@ -3,4 +3,6 @@ package com.addressbookprocessor.facade;
 public interface AddressBookFacade {
 
     String processAddressBook(String addressBookFilePath);
+
+    AddressBookSummary summarizeAddressBook(String addressBookFilePath);
 }
@@ -1,14 +1,22 @@
 package com.addressbookprocessor.facade;
 
+import com.addressbookprocessor.aggregation.DaysBetweenPersonsAccumulator;
+import com.addressbookprocessor.aggregation.GenderCountAccumulator;
+import com.addressbookprocessor.aggregation.OldestPersonAccumulator;
+import com.addressbookprocessor.aggregation.PersonAggregation;
 import com.addressbookprocessor.domain.Gender;
 import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.metrics.AddressBookMetrics;
 import com.addressbookprocessor.reader.AddressBookCsvReader;
-import com.addressbookprocessor.service.AddressBookService;
+import com.addressbookprocessor.reader.AddressBookPersonPublisher;
 import lombok.AllArgsConstructor;
 
-import java.util.List;
+import java.io.InputStream;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import static com.addressbookprocessor.domain.Gender.Male;
 import static java.lang.String.join;
@@ -19,46 +27,82 @@ public class AddressBookFacadeImpl implements AddressBookFacade {
 
     private static final Logger LOGGER = Logger.getLogger(AddressBookFacadeImpl.class.getName());
 
-    private static final String OLDER_PERSON_A = "Bill";
-    private static final String OLDER_PERSON_B = "Paul";
-    private static final Gender GENDER_COUNT_ON = Male;
+    static final String OLDER_PERSON_A = "Bill";
+    static final String OLDER_PERSON_B = "Paul";
+    static final Gender GENDER_COUNT_ON = Male;
 
     private static final String END_LINE = System.lineSeparator();
 
+    static final String SUMMARIZE_QUERY = "summarizeAddressBook";
+
     private AddressBookCsvReader csvReader;
 
-    private AddressBookService addressBookService;
+    private AddressBookMetrics metrics;
+
+    public AddressBookFacadeImpl(AddressBookCsvReader csvReader) {
+
+        this(csvReader, AddressBookMetrics.NOOP);
+    }
 
     @Override
     public String processAddressBook(String addressBookFilePath) {
 
+        return screenOutput(summarizeAddressBook(addressBookFilePath));
+    }
+
+    @Override
+    public AddressBookSummary summarizeAddressBook(String addressBookFilePath) {
+
         boolean isParamValid = isNotBlank(addressBookFilePath);
         if (!isParamValid) {
             LOGGER.severe("Given addressBookFilePath is blank");
             throw new IllegalArgumentException("Given addressBookFilePath is blank");
         }
 
-        List<Person> personList = csvReader.readPersonsFromCsv(addressBookFilePath);
-        addressBookService.setPersons(personList);
+        return metrics.timeQuery(SUMMARIZE_QUERY, () -> summarize(addressBookFilePath));
+    }
 
-        Long countMales = addressBookService.countPersonsOfGender(GENDER_COUNT_ON);
-        Optional<Person> oldestPerson = addressBookService.getOldestPerson();
+    private AddressBookSummary summarize(String addressBookFilePath) {
+
+        PersonAggregation aggregation = new PersonAggregation();
+        GenderCountAccumulator countMales = aggregation.register(new GenderCountAccumulator(GENDER_COUNT_ON));
+        OldestPersonAccumulator oldestPerson = aggregation.register(new OldestPersonAccumulator());
+        DaysBetweenPersonsAccumulator daysOlder =
+                aggregation.register(new DaysBetweenPersonsAccumulator(OLDER_PERSON_A, OLDER_PERSON_B));
+
+        try (Stream<Person> persons = csvReader.streamPersonsFromCsv(addressBookFilePath)) {
+            aggregation.aggregate(persons);
+        }
+
+        return AddressBookSummary.of(countMales, oldestPerson, daysOlder);
+    }
+
+    public CompletableFuture<AddressBookSummary> summarizeAddressBook(InputStream addressBookStream, Executor executor) {
+
+        AddressBookSummarySubscriber summarySubscriber = new AddressBookSummarySubscriber();
+        new AddressBookPersonPublisher(csvReader, addressBookStream, executor).subscribe(summarySubscriber);
+
+        return summarySubscriber.getResult();
+    }
+
+    static Long getDaysOlder(DaysBetweenPersonsAccumulator daysOlder) {
 
-        Long daysOlder = null;
         try {
-            daysOlder = addressBookService.getDaysPersonAIsOlderPersonB(OLDER_PERSON_A, OLDER_PERSON_B);
+            return daysOlder.getResult();
         } catch (IllegalArgumentException ex) {
             LOGGER.warning(join("No result at getDaysPersonAIsOlderPersonB for ", OLDER_PERSON_A,
                     " and ", OLDER_PERSON_B));
+            return null;
         }
-
-        return screenOutput(countMales, oldestPerson, daysOlder);
     }
 
-    private String screenOutput(Long countMales, Optional<Person> oldestPerson, Long daysOlder) {
+    public static String screenOutput(AddressBookSummary summary) {
+
+        Optional<Person> oldestPerson = summary.getOldestPerson();
+        Long daysOlder = summary.getDaysOlder();
 
         StringBuilder builder = new StringBuilder(500);
-        builder.append("Count of people with gener men: ").append(countMales).append(END_LINE);
+        builder.append("Count of people with gener men: ").append(summary.getGenderCount()).append(END_LINE);
         builder.append("Oldest person is: ")
                 .append(oldestPerson.isPresent() ? oldestPerson.get().getName() : "<none>").append(END_LINE);
         builder.append(OLDER_PERSON_A).append(" is older ").append(OLDER_PERSON_B).append(": ")
@@ -0,0 +1,76 @@
+package com.addressbookprocessor.facade;
+
+import com.addressbookprocessor.aggregation.DaysBetweenPersonsAccumulator;
+import com.addressbookprocessor.aggregation.GenderCountAccumulator;
+import com.addressbookprocessor.aggregation.OldestPersonAccumulator;
+import com.addressbookprocessor.domain.Person;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.addressbookprocessor.facade.AddressBookFacadeImpl.OLDER_PERSON_A;
+import static com.addressbookprocessor.facade.AddressBookFacadeImpl.OLDER_PERSON_B;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class AddressBookSummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long genderCount;
+
+    private final Person oldestPerson;
+
+    private final Long daysOlder;
+
+    private final List<Person> olderPersonMatches;
+
+    private final long olderPersonMatchCount;
+
+    public static AddressBookSummary empty() {
+
+        return new AddressBookSummary(0, null, null, emptyList(), 0);
+    }
+
+    static AddressBookSummary of(GenderCountAccumulator genderCount, OldestPersonAccumulator oldestPerson,
+                                 DaysBetweenPersonsAccumulator daysOlder) {
+
+        return new AddressBookSummary(
+                genderCount.getResult(),
+                oldestPerson.getResult().orElse(null),
+                AddressBookFacadeImpl.getDaysOlder(daysOlder),
+                unmodifiableList(daysOlder.getMatchedPersons()),
+                daysOlder.getMatchCount());
+    }
+
+    public Optional<Person> getOldestPerson() {
+
+        return Optional.ofNullable(oldestPerson);
+    }
+
+    public AddressBookSummary merge(AddressBookSummary other) {
+
+        OldestPersonAccumulator mergedOldestPerson = new OldestPersonAccumulator(oldestPerson);
+        mergedOldestPerson.accumulate(other.oldestPerson);
+
+        List<Person> mergedMatches = new ArrayList<>(olderPersonMatches);
+        mergedMatches.addAll(other.olderPersonMatches);
+        DaysBetweenPersonsAccumulator mergedDaysOlder = new DaysBetweenPersonsAccumulator(OLDER_PERSON_A, OLDER_PERSON_B,
+                mergedMatches, olderPersonMatchCount + other.olderPersonMatchCount);
+
+        return new AddressBookSummary(
+                genderCount + other.genderCount,
+                mergedOldestPerson.getResult().orElse(null),
+                mergedDaysOlder.getResultOrError().getOrNull(),
+                unmodifiableList(mergedDaysOlder.getMatchedPersons()),
+                mergedDaysOlder.getMatchCount());
+    }
+}
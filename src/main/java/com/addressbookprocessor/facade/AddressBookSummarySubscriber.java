@@ -0,0 +1,126 @@
+package com.addressbookprocessor.facade;
+
+import com.addressbookprocessor.aggregation.DaysBetweenPersonsAccumulator;
+import com.addressbookprocessor.aggregation.GenderCountAccumulator;
+import com.addressbookprocessor.aggregation.OldestPersonAccumulator;
+import com.addressbookprocessor.aggregation.PersonAggregation;
+import com.addressbookprocessor.domain.Person;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import static com.addressbookprocessor.facade.AddressBookFacadeImpl.GENDER_COUNT_ON;
+import static com.addressbookprocessor.facade.AddressBookFacadeImpl.OLDER_PERSON_A;
+import static com.addressbookprocessor.facade.AddressBookFacadeImpl.OLDER_PERSON_B;
+import static java.util.Collections.unmodifiableList;
+
+public class AddressBookSummarySubscriber implements Subscriber<Person> {
+
+    private static final Logger LOGGER = Logger.getLogger(AddressBookSummarySubscriber.class.getName());
+
+    private static final int DEFAULT_REQUEST_SIZE = 1024;
+
+    private final int requestSize;
+
+    private final long intermediateInterval;
+
+    private final Consumer<AddressBookSummary> intermediateListener;
+
+    private final CompletableFuture<AddressBookSummary> result = new CompletableFuture<>();
+
+    private final PersonAggregation aggregation = new PersonAggregation();
+
+    private final GenderCountAccumulator countMales = aggregation.register(new GenderCountAccumulator(GENDER_COUNT_ON));
+
+    private final OldestPersonAccumulator oldestPerson = aggregation.register(new OldestPersonAccumulator());
+
+    private final DaysBetweenPersonsAccumulator daysOlder =
+            aggregation.register(new DaysBetweenPersonsAccumulator(OLDER_PERSON_A, OLDER_PERSON_B));
+
+    private Subscription subscription;
+
+    private long received;
+
+    public AddressBookSummarySubscriber() {
+
+        this(DEFAULT_REQUEST_SIZE, 0, summary -> { });
+    }
+
+    public AddressBookSummarySubscriber(int requestSize, long intermediateInterval,
+                                        Consumer<AddressBookSummary> intermediateListener) {
+
+        boolean areParamsValid = requestSize > 0 && intermediateInterval >= 0 && intermediateListener != null;
+        if (!areParamsValid) {
+            LOGGER.warning("Request size not positive, intermediate interval negative or listener missing");
+            throw new IllegalArgumentException("Request size must be positive and intermediate listener given");
+        }
+
+        this.requestSize = requestSize;
+        this.intermediateInterval = intermediateInterval;
+        this.intermediateListener = intermediateListener;
+    }
+
+    public CompletableFuture<AddressBookSummary> getResult() {
+
+        return result;
+    }
+
+    public void cancel() {
+
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        result.cancel(false);
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+
+        this.subscription = subscription;
+        subscription.request(requestSize);
+    }
+
+    @Override
+    public void onNext(Person person) {
+
+        aggregation.accumulate(person);
+        received++;
+
+        if (intermediateInterval > 0 && received % intermediateInterval == 0) {
+            intermediateListener.accept(intermediateSummary());
+        }
+        if (received % requestSize == 0) {
+            subscription.request(requestSize);
+        }
+    }
+
+    @Override
+    public void onError(Throwable error) {
+
+        result.completeExceptionally(error);
+    }
+
+    @Override
+    public void onComplete() {
+
+        result.complete(AddressBookSummary.of(countMales, oldestPerson, daysOlder));
+    }
+
+    private AddressBookSummary intermediateSummary() {
+
+        return new AddressBookSummary(
+                countMales.getResult(),
+                oldestPerson.getResult().orElse(null),
+                daysOlder.getResultOrError().getOrNull(),
+                unmodifiableList(daysOlder.getMatchedPersons()),
+                daysOlder.getMatchCount());
+    }
+}
@@ -0,0 +1,204 @@
+package com.addressbookprocessor.facade;
+
+import com.addressbookprocessor.aggregation.DaysBetweenPersonsAccumulator;
+import com.addressbookprocessor.aggregation.GenderCountAccumulator;
+import com.addressbookprocessor.aggregation.OldestPersonAccumulator;
+import com.addressbookprocessor.aggregation.PersonAccumulator;
+import com.addressbookprocessor.aggregation.PersonAggregation;
+import com.addressbookprocessor.checkpoint.AddressBookCheckpoint;
+import com.addressbookprocessor.checkpoint.AddressBookCheckpointStore;
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.metrics.AddressBookMetrics;
+import com.addressbookprocessor.reader.AddressBookCsvReader;
+import com.addressbookprocessor.reader.Compression;
+import com.addressbookprocessor.reader.exception.ProvidedFileHasErrorException;
+import io.vavr.control.Try;
+import lombok.AllArgsConstructor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.addressbookprocessor.checkpoint.AddressBookCheckpointStore.checksumPrecedingBytes;
+import static com.addressbookprocessor.facade.AddressBookFacadeImpl.GENDER_COUNT_ON;
+import static com.addressbookprocessor.facade.AddressBookFacadeImpl.OLDER_PERSON_A;
+import static com.addressbookprocessor.facade.AddressBookFacadeImpl.OLDER_PERSON_B;
+import static com.addressbookprocessor.facade.AddressBookFacadeImpl.SUMMARIZE_QUERY;
+import static com.addressbookprocessor.facade.AddressBookFacadeImpl.screenOutput;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.logging.Level.SEVERE;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Summarizes append-only address books from their last checkpoint on. Only lines terminated by a line feed are
+ * parsed, a last line still being appended is left for the next run.
+ */
+@AllArgsConstructor
+public class IncrementalAddressBookFacadeImpl implements AddressBookFacade {
+
+    private static final Logger LOGGER = Logger.getLogger(IncrementalAddressBookFacadeImpl.class.getName());
+
+    private static final int LINE_SCAN_SIZE = 8192;
+    private static final byte LINE_FEED = '\n';
+
+    private AddressBookCsvReader csvReader;
+
+    private AddressBookCheckpointStore checkpointStore;
+
+    private AddressBookMetrics metrics;
+
+    public IncrementalAddressBookFacadeImpl(AddressBookCsvReader csvReader, AddressBookCheckpointStore checkpointStore) {
+
+        this(csvReader, checkpointStore, AddressBookMetrics.NOOP);
+    }
+
+    @Override
+    public String processAddressBook(String addressBookFilePath) {
+
+        return screenOutput(summarizeAddressBook(addressBookFilePath));
+    }
+
+    @Override
+    public AddressBookSummary summarizeAddressBook(String addressBookFilePath) {
+
+        boolean isParamValid = isNotBlank(addressBookFilePath);
+        if (!isParamValid) {
+            LOGGER.severe("Given addressBookFilePath is blank");
+            throw new IllegalArgumentException("Given addressBookFilePath is blank");
+        }
+
+        Path addressBookPath = Paths.get(addressBookFilePath);
+        boolean isCompressed = Try.of(() -> Compression.detect(addressBookPath)).getOrElse(Compression.NONE) != Compression.NONE;
+        if (isCompressed) {
+            LOGGER.info("Compressed address book has no byte offsets to resume from, reading it completely");
+            return new AddressBookFacadeImpl(csvReader, metrics).summarizeAddressBook(addressBookFilePath);
+        }
+
+        return metrics.timeQuery(SUMMARIZE_QUERY, () -> summarizeIncrementally(addressBookPath));
+    }
+
+    private AddressBookSummary summarizeIncrementally(Path addressBookPath) {
+
+        String addressBookFilePath = addressBookPath.toString();
+        try (FileChannel addressBookChannel = FileChannel.open(addressBookPath, READ)) {
+
+            long fileSize = addressBookChannel.size();
+            AddressBookCheckpoint checkpoint = checkpointStore.load(addressBookPath)
+                    .filter(c -> isCheckpointValid(addressBookChannel, fileSize, c))
+                    .orElseGet(AddressBookCheckpoint::empty);
+            long completeLinesEnd = findCompleteLinesEnd(addressBookChannel, checkpoint.getByteOffset(), fileSize);
+
+            CheckpointAggregation aggregation = new CheckpointAggregation(checkpoint);
+            aggregate(aggregation, addressBookFilePath, checkpoint.getByteOffset(), completeLinesEnd);
+            checkpointStore.save(addressBookPath,
+                    aggregation.toCheckpoint(completeLinesEnd, checksumPrecedingBytes(addressBookChannel, completeLinesEnd)));
+            if (completeLinesEnd < fileSize) {
+                LOGGER.info("Last line of address book is not terminated yet, it is summarized once it is complete");
+            }
+            return AddressBookSummary.of(
+                    aggregation.genderCounts.get(GENDER_COUNT_ON), aggregation.oldestPerson, aggregation.daysOlder);
+        } catch (IOException ex) {
+            LOGGER.log(SEVERE, "File on provided path cannot be read", ex);
+            throw new ProvidedFileHasErrorException("File on provided path cannot be read");
+        }
+    }
+
+    private void aggregate(CheckpointAggregation aggregation, String addressBookFilePath, long fromOffset, long toOffset) {
+
+        if (fromOffset == toOffset) {
+            return;
+        }
+
+        try (Stream<Person> persons = csvReader.streamPersonsFromCsv(addressBookFilePath, fromOffset, toOffset)) {
+            aggregation.aggregate(persons);
+        }
+    }
+
+    private boolean isCheckpointValid(FileChannel addressBookChannel, long fileSize, AddressBookCheckpoint checkpoint) {
+
+        try {
+            boolean isCheckpointValid = checkpoint.getByteOffset() <= fileSize
+                    && checksumPrecedingBytes(addressBookChannel, checkpoint.getByteOffset()) == checkpoint.getPrecedingBytesChecksum();
+            if (!isCheckpointValid) {
+                LOGGER.warning("Address book changed before its checkpoint, processing it from the start");
+            }
+            return isCheckpointValid;
+        } catch (IOException ex) {
+            LOGGER.log(SEVERE, "Checkpoint cannot be verified, processing address book from the start", ex);
+            return false;
+        }
+    }
+
+    private long findCompleteLinesEnd(FileChannel addressBookChannel, long fromOffset, long fileSize) throws IOException {
+
+        ByteBuffer scanBuffer = ByteBuffer.allocate(LINE_SCAN_SIZE);
+        long scanEnd = fileSize;
+        while (scanEnd > fromOffset) {
+
+            long scanStart = Math.max(fromOffset, scanEnd - LINE_SCAN_SIZE);
+            scanBuffer.clear();
+            scanBuffer.limit((int) (scanEnd - scanStart));
+            int read = 0;
+            while (scanBuffer.hasRemaining() && read >= 0) {
+                read = addressBookChannel.read(scanBuffer, scanStart + scanBuffer.position());
+            }
+
+            for (int i = scanBuffer.position() - 1; i >= 0; i--) {
+                if (scanBuffer.get(i) == LINE_FEED) {
+                    return scanStart + i + 1;
+                }
+            }
+            scanEnd = scanStart;
+        }
+        return fromOffset;
+    }
+
+    private static final class CheckpointAggregation extends PersonAggregation {
+
+        private final Map<Gender, GenderCountAccumulator> genderCounts = new EnumMap<>(Gender.class);
+
+        private final OldestPersonAccumulator oldestPerson;
+
+        private final DaysBetweenPersonsAccumulator daysOlder;
+
+        private final PersonAccumulator<Long> recordCount;
+
+        private final long initialRecordCount;
+
+        private CheckpointAggregation(AddressBookCheckpoint checkpoint) {
+
+            for (Gender gender : Gender.values()) {
+                genderCounts.put(gender, register(new GenderCountAccumulator(gender, checkpoint.getGenderCount(gender))));
+            }
+            oldestPerson = register(new OldestPersonAccumulator(checkpoint.getOldestPerson()));
+            daysOlder = register(new DaysBetweenPersonsAccumulator(OLDER_PERSON_A, OLDER_PERSON_B,
+                    checkpoint.getOlderPersonMatches(), checkpoint.getOlderPersonMatchCount()));
+            recordCount = register(PersonAccumulator.of(Collectors.counting()));
+            initialRecordCount = checkpoint.getRecordCount();
+        }
+
+        private AddressBookCheckpoint toCheckpoint(long byteOffset, long precedingBytesChecksum) {
+
+            Map<Gender, Long> counts = new EnumMap<>(Gender.class);
+            genderCounts.forEach((gender, count) -> counts.put(gender, count.getResult()));
+
+            return AddressBookCheckpoint.builder()
+                    .byteOffset(byteOffset)
+                    .precedingBytesChecksum(precedingBytesChecksum)
+                    .recordCount(initialRecordCount + recordCount.getResult())
+                    .genderCounts(counts)
+                    .oldestPerson(oldestPerson.getResult().orElse(null))
+                    .olderPersonMatches(daysOlder.getMatchedPersons())
+                    .olderPersonMatchCount(daysOlder.getMatchCount())
+                    .build();
+        }
+    }
+}
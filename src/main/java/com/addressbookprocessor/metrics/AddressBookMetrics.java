@@ -0,0 +1,35 @@
+package com.addressbookprocessor.metrics;
+
+import java.util.function.Supplier;
+
+public interface AddressBookMetrics {
+
+    AddressBookMetrics NOOP = new AddressBookMetrics() {
+    };
+
+    /**
+     * Allocated bytes are negative when the JVM cannot measure allocation of the reading thread, or when the read was
+     * parsed across several threads.
+     */
+    default void recordFileRead(String source, long rows, long bytes, long elapsedNanos, long allocatedBytes) {
+    }
+
+    default void recordParseFailure(String source) {
+    }
+
+    default void recordQuery(String queryName, long elapsedNanos) {
+    }
+
+    /**
+     * Runs the query and records its latency, also when it fails.
+     */
+    default <T> T timeQuery(String queryName, Supplier<T> query) {
+
+        long startNanos = System.nanoTime();
+        try {
+            return query.get();
+        } finally {
+            recordQuery(queryName, System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.addressbookprocessor.metrics;
+
+import java.util.Map;
+
+public interface AddressBookMetricsMXBean {
+
+    long getFilesRead();
+
+    long getRowsParsed();
+
+    long getBytesRead();
+
+    long getParseFailures();
+
+    double getRowsPerSecond();
+
+    long getAllocatedBytes();
+
+    Map<String, Long> getQueryCounts();
+
+    Map<String, Long> getQueryMeanNanos();
+
+    Map<String, Long> getQueryP99Nanos();
+
+    Map<String, Long> getQueryMaxNanos();
+}
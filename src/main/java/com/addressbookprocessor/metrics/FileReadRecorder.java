@@ -0,0 +1,77 @@
+package com.addressbookprocessor.metrics;
+
+import java.util.function.LongSupplier;
+
+public final class FileReadRecorder {
+
+    private static final long UNKNOWN_ALLOCATION = -1;
+
+    private final AddressBookMetrics metrics;
+
+    private final String source;
+
+    private final LongSupplier bytes;
+
+    private final boolean isAllocationMeasured;
+
+    private final long startNanos;
+
+    private final long startAllocatedBytes;
+
+    private long rows;
+
+    private boolean isFinished;
+
+    private FileReadRecorder(AddressBookMetrics metrics, String source, LongSupplier bytes, boolean isAllocationMeasured) {
+
+        this.metrics = metrics;
+        this.source = source;
+        this.bytes = bytes;
+        this.isAllocationMeasured = isAllocationMeasured;
+        this.startNanos = System.nanoTime();
+        this.startAllocatedBytes = isAllocationMeasured ? ThreadAllocation.currentThreadAllocatedBytes() : UNKNOWN_ALLOCATION;
+    }
+
+    public static FileReadRecorder start(AddressBookMetrics metrics, String source, long bytes) {
+
+        return new FileReadRecorder(metrics, source, () -> bytes, true);
+    }
+
+    /**
+     * For reads parsed on other threads than the one starting and finishing them, allocation is then only counted
+     * per thread and not reported. The bytes are asked for when the read finishes.
+     */
+    public static FileReadRecorder startAcrossThreads(AddressBookMetrics metrics, String source, LongSupplier bytes) {
+
+        return new FileReadRecorder(metrics, source, bytes, false);
+    }
+
+    public void rowParsed() {
+
+        rows++;
+    }
+
+    public void rowsParsed(long count) {
+
+        rows += count;
+    }
+
+    public void parseFailed() {
+
+        metrics.recordParseFailure(source);
+    }
+
+    public void finish() {
+
+        if (isFinished) {
+            return;
+        }
+        isFinished = true;
+
+        long endAllocatedBytes = isAllocationMeasured ? ThreadAllocation.currentThreadAllocatedBytes() : UNKNOWN_ALLOCATION;
+        long allocatedBytes = startAllocatedBytes < 0 || endAllocatedBytes < 0
+                ? UNKNOWN_ALLOCATION
+                : endAllocatedBytes - startAllocatedBytes;
+        metrics.recordFileRead(source, rows, bytes.getAsLong(), System.nanoTime() - startNanos, allocatedBytes);
+    }
+}
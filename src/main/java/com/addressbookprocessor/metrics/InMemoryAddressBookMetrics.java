@@ -0,0 +1,170 @@
+package com.addressbookprocessor.metrics;
+
+import io.vavr.control.Try;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.WARNING;
+
+public class InMemoryAddressBookMetrics implements AddressBookMetrics, AddressBookMetricsMXBean {
+
+    private static final Logger LOGGER = Logger.getLogger(InMemoryAddressBookMetrics.class.getName());
+
+    private static final String OBJECT_NAME_PREFIX = "com.addressbookprocessor:type=AddressBookMetrics,name=";
+
+    private final LongAdder filesRead = new LongAdder();
+
+    private final LongAdder rowsParsed = new LongAdder();
+
+    private final LongAdder bytesRead = new LongAdder();
+
+    private final LongAdder parseNanos = new LongAdder();
+
+    private final LongAdder parseFailures = new LongAdder();
+
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    private final ConcurrentMap<String, LatencyHistogram> queryLatencies = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordFileRead(String source, long rows, long bytes, long elapsedNanos, long allocated) {
+
+        filesRead.increment();
+        rowsParsed.add(rows);
+        bytesRead.add(bytes);
+        parseNanos.add(elapsedNanos);
+        if (allocated > 0) {
+            allocatedBytes.add(allocated);
+        }
+    }
+
+    @Override
+    public void recordParseFailure(String source) {
+
+        parseFailures.increment();
+    }
+
+    @Override
+    public void recordQuery(String queryName, long elapsedNanos) {
+
+        queryLatencies.computeIfAbsent(queryName, name -> new LatencyHistogram()).record(elapsedNanos);
+    }
+
+    public Optional<ObjectName> registerMBean(String name) {
+
+        return Try.of(() -> {
+
+                    ObjectName objectName = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+                    ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+                    return objectName;
+                })
+                .onFailure(ex -> LOGGER.log(WARNING, "Address book metrics cannot be registered as MBean", ex))
+                .toJavaOptional();
+    }
+
+    @Override
+    public long getFilesRead() {
+
+        return filesRead.sum();
+    }
+
+    @Override
+    public long getRowsParsed() {
+
+        return rowsParsed.sum();
+    }
+
+    @Override
+    public long getBytesRead() {
+
+        return bytesRead.sum();
+    }
+
+    @Override
+    public long getParseFailures() {
+
+        return parseFailures.sum();
+    }
+
+    @Override
+    public double getRowsPerSecond() {
+
+        long nanos = parseNanos.sum();
+        return nanos == 0 ? 0 : rowsParsed.sum() * (double) SECONDS.toNanos(1) / nanos;
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+
+        return allocatedBytes.sum();
+    }
+
+    @Override
+    public Map<String, Long> getQueryCounts() {
+
+        return queryStatistic(LatencyHistogram::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getQueryMeanNanos() {
+
+        return queryStatistic(LatencyHistogram::getMeanNanos);
+    }
+
+    @Override
+    public Map<String, Long> getQueryP99Nanos() {
+
+        return queryStatistic(latencies -> latencies.getPercentileNanos(99));
+    }
+
+    @Override
+    public Map<String, Long> getQueryMaxNanos() {
+
+        return queryStatistic(LatencyHistogram::getMaxNanos);
+    }
+
+    public LatencyHistogram getQueryLatencies(String queryName) {
+
+        return queryLatencies.get(queryName);
+    }
+
+    public String report() {
+
+        StringBuilder builder = new StringBuilder(500);
+        builder.append("Files read: ").append(getFilesRead())
+                .append(", rows parsed: ").append(getRowsParsed())
+                .append(String.format(" (%.0f rows/s)", getRowsPerSecond()))
+                .append(", bytes read: ").append(getBytesRead())
+                .append(", parse failures: ").append(getParseFailures())
+                .append(", allocated bytes: ").append(getAllocatedBytes())
+                .append(System.lineSeparator());
+        new TreeMap<>(queryLatencies).forEach((queryName, latencies) -> builder
+                .append("Query ").append(queryName)
+                .append(": count ").append(latencies.getCount())
+                .append(", mean ").append(NANOSECONDS.toMicros(latencies.getMeanNanos())).append(" us")
+                .append(", p50 <= ").append(NANOSECONDS.toMicros(latencies.getPercentileNanos(50))).append(" us")
+                .append(", p99 <= ").append(NANOSECONDS.toMicros(latencies.getPercentileNanos(99))).append(" us")
+                .append(", max ").append(NANOSECONDS.toMicros(latencies.getMaxNanos())).append(" us")
+                .append(System.lineSeparator()));
+
+        return builder.toString();
+    }
+
+    private Map<String, Long> queryStatistic(ToLongFunction<LatencyHistogram> statistic) {
+
+        Map<String, Long> statistics = new TreeMap<>();
+        queryLatencies.forEach((queryName, latencies) -> statistics.put(queryName, statistic.applyAsLong(latencies)));
+        return statistics;
+    }
+}
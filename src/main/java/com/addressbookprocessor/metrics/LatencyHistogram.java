@@ -0,0 +1,76 @@
+package com.addressbookprocessor.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies are counted in power-of-two nanosecond buckets, so percentiles are upper bounds within a factor of two.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = 64;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public void record(long elapsedNanos) {
+
+        long nanos = Math.max(elapsedNanos, 0);
+        bucketCounts.incrementAndGet(BUCKET_COUNT - Long.numberOfLeadingZeros(nanos));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+
+        return count.sum();
+    }
+
+    public long getMeanNanos() {
+
+        long currentCount = count.sum();
+        return currentCount == 0 ? 0 : totalNanos.sum() / currentCount;
+    }
+
+    public long getMaxNanos() {
+
+        return maxNanos.get();
+    }
+
+    public long getPercentileNanos(double percentile) {
+
+        boolean isParamValid = percentile > 0 && percentile <= 100;
+        if (!isParamValid) {
+            throw new IllegalArgumentException("Percentile must be within (0, 100]");
+        }
+
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[bucket] = bucketCounts.get(bucket);
+            total += counts[bucket];
+        }
+
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank && seen > 0) {
+                return Math.min(bucketUpperBound(bucket), getMaxNanos());
+            }
+        }
+        return 0;
+    }
+
+    private static long bucketUpperBound(int bucket) {
+
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,27 @@
+package com.addressbookprocessor.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+final class ThreadAllocation {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = allocationMeasuringThreadMXBean();
+
+    private ThreadAllocation() {
+    }
+
+    static long currentThreadAllocatedBytes() {
+
+        return THREAD_MX_BEAN == null ? -1 : THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMeasuringThreadMXBean() {
+
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        boolean isAllocationMeasurable = threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled();
+
+        return isAllocationMeasurable ? (com.sun.management.ThreadMXBean) threadMXBean : null;
+    }
+}
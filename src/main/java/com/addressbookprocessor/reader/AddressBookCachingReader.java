@@ -0,0 +1,51 @@
+package com.addressbookprocessor.reader;
+
+import com.addressbookprocessor.domain.PersonTable;
+import io.vavr.control.Try;
+import lombok.AllArgsConstructor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+@AllArgsConstructor
+public class AddressBookCachingReader {
+
+    private static final Logger LOGGER = Logger.getLogger(AddressBookCachingReader.class.getName());
+
+    private AddressBookFastCsvReader fastCsvReader;
+
+    private PersonTableBinaryFile binaryFile;
+
+    public AddressBookCachingReader() {
+
+        this(new AddressBookFastCsvReader(), new PersonTableBinaryFile());
+    }
+
+    public PersonTable readPersonTable(final String addressBookFilePath) {
+
+        boolean isParamValid = isNotBlank(addressBookFilePath);
+        if (!isParamValid) {
+            LOGGER.warning("Given addressBookFilePath is blank");
+            throw new IllegalArgumentException("Given addressBookFilePath is blank");
+        }
+
+        Path addressBookPath = Paths.get(addressBookFilePath);
+        Optional<PersonTable> cachedPersonTable = binaryFile.load(addressBookPath);
+        if (cachedPersonTable.isPresent()) {
+            return cachedPersonTable.get();
+        }
+
+        // attributes of the parsed version, an address book changing during the parse leaves a stale binary file
+        Optional<BasicFileAttributes> sourceAttributes =
+                Try.of(() -> Files.readAttributes(addressBookPath, BasicFileAttributes.class)).toJavaOptional();
+        PersonTable personTable = fastCsvReader.readPersonTable(addressBookFilePath);
+        sourceAttributes.ifPresent(attributes -> binaryFile.write(addressBookPath, personTable, attributes));
+        return personTable;
+    }
+}
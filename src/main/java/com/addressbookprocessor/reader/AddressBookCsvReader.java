@@ -2,25 +2,39 @@ package com.addressbookprocessor.reader;
 
 import com.addressbookprocessor.domain.Gender;
 import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.metrics.AddressBookMetrics;
+import com.addressbookprocessor.metrics.FileReadRecorder;
 import com.addressbookprocessor.reader.exception.ProvidedFileHasErrorException;
+import io.vavr.control.Either;
 import io.vavr.control.Try;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.addressbookprocessor.domain.Gender.valueOf;
-import static java.time.LocalDate.now;
-import static java.time.LocalDate.parse;
-import static java.time.format.DateTimeFormatter.ofPattern;
-import static java.time.temporal.ChronoUnit.YEARS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.logging.Level.SEVERE;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.commons.lang3.StringUtils.join;
@@ -30,9 +44,33 @@ public class AddressBookCsvReader {
     private static final Logger LOGGER = Logger.getLogger(AddressBookCsvReader.class.getName());
 
     private static final String DATE_FORMAT = "d/M/yy";
+    private static final int COLUMN_COUNT = 3;
+
+    private final AddressBookMetrics metrics;
+
+    public AddressBookCsvReader() {
+
+        this(AddressBookMetrics.NOOP);
+    }
+
+    public AddressBookCsvReader(AddressBookMetrics metrics) {
+
+        this.metrics = metrics;
+    }
 
     public List<Person> readPersonsFromCsv(final String addressBookFilePath) {
 
+        try (Stream<Person> persons = streamPersonsFromCsv(addressBookFilePath)) {
+            return persons.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Lazily parses the persons of the given CSV file, one record at a time. The returned stream holds the
+     * underlying file open and must be closed by the caller, preferably with try-with-resources.
+     */
+    public Stream<Person> streamPersonsFromCsv(final String addressBookFilePath) {
+
         boolean isParamValid = isNotBlank(addressBookFilePath);
         if (!isParamValid) {
             LOGGER.warning("Given addressBookFilePath is blank");
@@ -40,48 +78,176 @@ public class AddressBookCsvReader {
         }
 
         final CSVParser addressBookFileParser = intialiseCSVParser(addressBookFilePath);
-        List<Person> persons = parsePersons(addressBookFileParser);
+        long addressBookSize = Try.of(() -> Files.size(Paths.get(addressBookFilePath))).getOrElse(0L);
+        return parsePersons(addressBookFileParser, FileReadRecorder.start(metrics, addressBookFilePath, addressBookSize));
+    }
+
+    public Stream<Person> streamPersonsFromCsv(final String addressBookFilePath, final long fromOffset, final long toOffset) {
+
+        boolean areParamsValid = isNotBlank(addressBookFilePath) && fromOffset >= 0 && toOffset >= fromOffset;
+        if (!areParamsValid) {
+            LOGGER.warning("Given addressBookFilePath is blank or byte range invalid");
+            throw new IllegalArgumentException("Given addressBookFilePath is blank or byte range invalid");
+        }
+
+        final FileChannel addressBookChannel =
+                Try.of(() -> FileChannel.open(Paths.get(addressBookFilePath), READ).position(fromOffset))
+                .onFailure(ex -> {
+
+                    LOGGER.log(
+                            SEVERE,
+                            "File on provided path cannot be read",
+                            ex);
+                    throw new ProvidedFileHasErrorException("File on provided path cannot be read");
+                })
+                .get();
+
+        InputStream addressBookRange = new ByteRangeInputStream(Channels.newInputStream(addressBookChannel), toOffset - fromOffset);
+        final CSVParser addressBookRangeParser =
+                intialiseCSVParser(new BufferedReader(new InputStreamReader(addressBookRange, UTF_8)));
+        return parsePersons(addressBookRangeParser, FileReadRecorder.start(metrics, addressBookFilePath, toOffset - fromOffset));
+    }
+
+    /**
+     * Parses persons of an in-memory or caller-owned reader. No file read is recorded, callers reading a file record
+     * it with its real source and size.
+     */
+    public Stream<Person> streamPersonsFromCsv(final Reader addressBookReader) {
+
+        boolean isParamValid = addressBookReader != null;
+        if (!isParamValid) {
+            LOGGER.warning("Given addressBookReader is null");
+            throw new IllegalArgumentException("Given addressBookReader is null");
+        }
 
-        return persons;
+        final CSVParser addressBookParser = intialiseCSVParser(addressBookReader);
+        return parsePersons(addressBookParser, FileReadRecorder.start(AddressBookMetrics.NOOP, null, 0));
     }
 
-    private List<Person> parsePersons(CSVParser addressBookFileParser) {
+    /**
+     * Lazily parses the persons of a byte stream which may be pulled from different threads, so the read is recorded
+     * with the bytes actually consumed and without allocation figures.
+     */
+    Stream<Person> streamPersonsFromCsvAcrossThreads(final InputStream addressBookStream, final String source) {
+
+        CountingInputStream countingStream = new CountingInputStream(addressBookStream);
+        final CSVParser addressBookParser =
+                intialiseCSVParser(new BufferedReader(new InputStreamReader(countingStream, UTF_8)));
+        return parsePersons(addressBookParser, FileReadRecorder.startAcrossThreads(metrics, source, countingStream::getCount));
+    }
+
+    /**
+     * Skips malformed rows instead of failing on the first one. Their line numbers and reasons are kept in a
+     * bounded report, the read is only aborted when the share of malformed rows exceeds the allowed error rate.
+     */
+    public LenientReadResult readPersonsFromCsvLeniently(final String addressBookFilePath, final LenientParseOptions options) {
+
+        boolean areParamsValid = isNotBlank(addressBookFilePath) && options != null;
+        if (!areParamsValid) {
+            LOGGER.warning("Given addressBookFilePath is blank or parse options missing");
+            throw new IllegalArgumentException("Given addressBookFilePath is blank or parse options missing");
+        }
 
+        long addressBookSize = Try.of(() -> Files.size(Paths.get(addressBookFilePath))).getOrElse(0L);
+        FileReadRecorder fileRead = FileReadRecorder.start(metrics, addressBookFilePath, addressBookSize);
+        ParseErrorReport errorReport = new ParseErrorReport(options.getMaxRecordedErrors());
+        BirthDateDecoder birthDateDecoder = BirthDateDecoder.forToday();
         List<Person> persons = new ArrayList<>();
-        for (CSVRecord personEntry : addressBookFileParser) {
-
-            Person person =
-                    Try.of(() -> {
-
-                        String fullName = personEntry.get(0);
-                        Gender gender = valueOf(personEntry.get(1));
-                        LocalDate birthDate = parse(personEntry.get(2), ofPattern(DATE_FORMAT));
-
-                        boolean isBirthdateInFuture = birthDate.isAfter(now());
-                        if (isBirthdateInFuture) {
-                            birthDate = birthDate.minus(100, YEARS);
-                        }
-
-                        return new Person(fullName, gender, birthDate);
-                    })
-                    .onFailure(ex -> {
-
-                        LOGGER.log(
-                                SEVERE,
-                                join("File on provided path cannot be read: CSV structure/data unexpected of: ", personEntry),
-                                ex);
-                        throw new ProvidedFileHasErrorException("File on provided path cannot be read: CSV structure/data unexpected");
-                    })
-                    .get();
-            persons.add(person);
+
+        try (CSVParser addressBookFileParser = intialiseCSVParser(addressBookFilePath)) {
+
+            long previousLineNumber = 0;
+            for (CSVRecord personEntry : addressBookFileParser) {
+
+                long lineNumber = Math.max(addressBookFileParser.getCurrentLineNumber(), previousLineNumber + 1);
+                previousLineNumber = lineNumber;
+
+                Either<String, Person> person = parsePersonOrReason(personEntry, birthDateDecoder);
+                if (person.isRight()) {
+                    fileRead.rowParsed();
+                    errorReport.rowParsed();
+                    persons.add(person.get());
+                } else {
+                    fileRead.parseFailed();
+                    errorReport.rowFailed(lineNumber, person.getLeft());
+                    abortOnErrorRate(options, errorReport);
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            LOGGER.log(SEVERE, "File on provided path cannot be read: CSV reader error", ex);
+            throw new ProvidedFileHasErrorException("File on provided path cannot be read: CSV reader error");
+        } finally {
+            fileRead.finish();
+        }
+
+        abortOnErrorRate(options, errorReport);
+        if (errorReport.getErrorCount() > 0) {
+            LOGGER.warning(join("Skipped ", errorReport.getErrorCount(), " malformed rows of ", addressBookFilePath));
+        }
+        return new LenientReadResult(persons, errorReport);
+    }
+
+    private void abortOnErrorRate(LenientParseOptions options, ParseErrorReport errorReport) {
+
+        boolean isErrorRateExceeded = options.isErrorRateExceeded(errorReport);
+        if (isErrorRateExceeded) {
+            LOGGER.severe(join("Error rate threshold exceeded, first errors: ", errorReport.getErrors()));
+            throw new ProvidedFileHasErrorException(join("File on provided path cannot be read: ",
+                    errorReport.getErrorCount(), " of ", errorReport.getRowCount(), " rows malformed"));
+        }
+    }
+
+    private Stream<Person> parsePersons(CSVParser addressBookFileParser, FileReadRecorder fileRead) {
+
+        BirthDateDecoder birthDateDecoder = BirthDateDecoder.forToday();
+        return StreamSupport.stream(spliteratorUnknownSize(addressBookFileParser.iterator(), ORDERED | NONNULL), false)
+                .map(personEntry -> parsePerson(personEntry, birthDateDecoder, fileRead))
+                .onClose(() -> {
+
+                    fileRead.finish();
+                    closeCSVParser(addressBookFileParser);
+                });
+    }
+
+    private Person parsePerson(CSVRecord personEntry, BirthDateDecoder birthDateDecoder, FileReadRecorder fileRead) {
+
+        Either<String, Person> person = parsePersonOrReason(personEntry, birthDateDecoder);
+        if (person.isLeft()) {
+
+            fileRead.parseFailed();
+            LOGGER.severe(join("File on provided path cannot be read: CSV structure/data unexpected of: ", personEntry,
+                    ", ", person.getLeft()));
+            throw new ProvidedFileHasErrorException("File on provided path cannot be read: CSV structure/data unexpected");
         }
-        return persons;
+
+        fileRead.rowParsed();
+        return person.get();
+    }
+
+    private Either<String, Person> parsePersonOrReason(CSVRecord personEntry, BirthDateDecoder birthDateDecoder) {
+
+        boolean hasAllColumns = personEntry.size() >= COLUMN_COUNT;
+        if (!hasAllColumns) {
+            return Either.left(join("Expected ", COLUMN_COUNT, " columns but found ", personEntry.size()));
+        }
+
+        Try<Gender> gender = Try.of(() -> valueOf(personEntry.get(1)));
+        if (gender.isFailure()) {
+            return Either.left(join("Unknown gender '", personEntry.get(1), "'"));
+        }
+
+        LocalDate birthDate = birthDateDecoder.decode(personEntry.get(2));
+        if (birthDate == null) {
+            return Either.left(join("Birth date '", personEntry.get(2), "' not in ", DATE_FORMAT, " format"));
+        }
+
+        return Either.right(new Person(personEntry.get(0), gender.get(), birthDate));
     }
 
     private CSVParser intialiseCSVParser(String addressBookFilePath) {
 
         final Reader addressBookFileReader =
-                Try.of(() -> Files.newBufferedReader(Paths.get(addressBookFilePath)))
+                Try.of(() -> openDecompressed(addressBookFilePath))
                 .onFailure(ex -> {
 
                     LOGGER.log(
@@ -92,9 +258,20 @@ public class AddressBookCsvReader {
                 })
                 .get();
 
+        return intialiseCSVParser(addressBookFileReader);
+    }
+
+    private Reader openDecompressed(String addressBookFilePath) throws IOException {
+
+        return new BufferedReader(new InputStreamReader(Compression.open(Paths.get(addressBookFilePath)), UTF_8.newDecoder()));
+    }
+
+    private CSVParser intialiseCSVParser(Reader addressBookFileReader) {
+
         return Try.of(() -> new CSVParser(addressBookFileReader, CSVFormat.DEFAULT.withTrim()))
         .onFailure(ex -> {
 
+            closeReader(addressBookFileReader);
             LOGGER.log(
                     SEVERE,
                     "File on provided path cannot be read: CSV reader error",
@@ -103,4 +280,20 @@ public class AddressBookCsvReader {
         })
         .get();
     }
+
+    private void closeCSVParser(CSVParser addressBookFileParser) {
+
+        try {
+            addressBookFileParser.close();
+        } catch (IOException ex) {
+            LOGGER.log(SEVERE, "File on provided path cannot be closed", ex);
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void closeReader(Reader addressBookFileReader) {
+
+        Try.run(addressBookFileReader::close)
+                .onFailure(ex -> LOGGER.log(SEVERE, "File on provided path cannot be closed", ex));
+    }
 }
@@ -0,0 +1,290 @@
+package com.addressbookprocessor.reader;
+
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.OffHeapPersonStore;
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.domain.PersonTable;
+import com.addressbookprocessor.metrics.AddressBookMetrics;
+import com.addressbookprocessor.metrics.FileReadRecorder;
+import com.addressbookprocessor.reader.exception.ProvidedFileHasErrorException;
+import io.vavr.control.Try;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.logging.Level.SEVERE;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+public class AddressBookFastCsvReader {
+
+    private static final Logger LOGGER = Logger.getLogger(AddressBookFastCsvReader.class.getName());
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte FIELD_SEPARATOR = ',';
+    private static final byte QUOTE = '"';
+
+    private static final Gender[] GENDERS = Gender.values();
+    private static final byte[][] GENDER_NAMES = new byte[GENDERS.length][];
+    static {
+
+        for (int i = 0; i < GENDERS.length; i++) {
+            GENDER_NAMES[i] = GENDERS[i].name().getBytes(UTF_8);
+        }
+    }
+
+    private final AddressBookCsvReader fallbackCsvReader;
+
+    private final AddressBookMetrics metrics;
+
+    public AddressBookFastCsvReader() {
+
+        this(new AddressBookCsvReader());
+    }
+
+    public AddressBookFastCsvReader(AddressBookCsvReader fallbackCsvReader) {
+
+        this(fallbackCsvReader, AddressBookMetrics.NOOP);
+    }
+
+    public AddressBookFastCsvReader(AddressBookCsvReader fallbackCsvReader, AddressBookMetrics metrics) {
+
+        this.fallbackCsvReader = fallbackCsvReader;
+        this.metrics = metrics;
+    }
+
+    public List<Person> readPersonsFromCsv(final String addressBookFilePath) {
+
+        List<Person> persons = new ArrayList<>();
+        readPersons(addressBookFilePath, (nameBuffer, nameOffset, nameLength, gender, birthEpochDay) ->
+                persons.add(new Person(
+                        new String(nameBuffer, nameOffset, nameLength, UTF_8),
+                        gender,
+                        LocalDate.ofEpochDay(birthEpochDay))));
+        return persons;
+    }
+
+    public PersonTable readPersonTable(final String addressBookFilePath) {
+
+        PersonTable.Builder personTableBuilder = PersonTable.builder();
+        readPersons(addressBookFilePath, personTableBuilder::add);
+        return personTableBuilder.build();
+    }
+
+    public OffHeapPersonStore readOffHeapPersonStore(final String addressBookFilePath) {
+
+        OffHeapPersonStore.Builder personStoreBuilder = OffHeapPersonStore.builder();
+        readPersons(addressBookFilePath, personStoreBuilder::add);
+        return personStoreBuilder.build();
+    }
+
+    public void readPersons(final String addressBookFilePath, final PersonRowHandler rowHandler) {
+
+        boolean areParamsValid = isNotBlank(addressBookFilePath) && rowHandler != null;
+        if (!areParamsValid) {
+            LOGGER.warning("Given addressBookFilePath is blank or row handler missing");
+            throw new IllegalArgumentException("Given addressBookFilePath is blank");
+        }
+
+        final InputStream addressBookStream =
+                Try.of(() -> Compression.open(Paths.get(addressBookFilePath)))
+                .onFailure(ex -> {
+
+                    LOGGER.log(
+                            SEVERE,
+                            "File on provided path cannot be read",
+                            ex);
+                    throw new ProvidedFileHasErrorException("File on provided path cannot be read");
+                })
+                .get();
+
+        long addressBookSize = Try.of(() -> Files.size(Paths.get(addressBookFilePath))).getOrElse(0L);
+        FileReadRecorder fileRead = FileReadRecorder.start(metrics, addressBookFilePath, addressBookSize);
+        try (InputStream input = addressBookStream) {
+            readPersons(input, (nameBuffer, nameOffset, nameLength, gender, birthEpochDay) -> {
+
+                rowHandler.handle(nameBuffer, nameOffset, nameLength, gender, birthEpochDay);
+                fileRead.rowParsed();
+            });
+        } catch (IOException ex) {
+            LOGGER.log(SEVERE, "File on provided path cannot be read", ex);
+            throw new ProvidedFileHasErrorException("File on provided path cannot be read");
+        } catch (ProvidedFileHasErrorException ex) {
+            fileRead.parseFailed();
+            throw ex;
+        } finally {
+            fileRead.finish();
+        }
+    }
+
+    public void readPersons(final InputStream addressBookStream, final PersonRowHandler rowHandler) throws IOException {
+
+        new RowParser(rowHandler, BirthDateDecoder.forToday()).parse(addressBookStream);
+    }
+
+    private final class RowParser {
+
+        private final PersonRowHandler rowHandler;
+
+        private final BirthDateDecoder birthDateDecoder;
+
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+        private long lineNumber;
+
+        private RowParser(PersonRowHandler rowHandler, BirthDateDecoder birthDateDecoder) {
+
+            this.rowHandler = rowHandler;
+            this.birthDateDecoder = birthDateDecoder;
+        }
+
+        private void parse(InputStream input) throws IOException {
+
+            int lineStart = 0;
+            int filled = 0;
+            int scanned = 0;
+            int read;
+            while ((read = input.read(buffer, filled, buffer.length - filled)) != -1) {
+
+                filled += read;
+                for (int i = scanned; i < filled; i++) {
+                    if (buffer[i] == LINE_FEED) {
+                        parseLine(lineStart, i);
+                        lineStart = i + 1;
+                    }
+                }
+
+                int pending = filled - lineStart;
+                if (lineStart == 0 && filled == buffer.length) {
+                    byte[] grownBuffer = new byte[buffer.length * 2];
+                    System.arraycopy(buffer, 0, grownBuffer, 0, filled);
+                    buffer = grownBuffer;
+                } else if (lineStart > 0) {
+                    System.arraycopy(buffer, lineStart, buffer, 0, pending);
+                }
+                filled = pending;
+                scanned = pending;
+                lineStart = 0;
+            }
+
+            if (filled > 0) {
+                parseLine(0, filled);
+            }
+        }
+
+        private void parseLine(int start, int end) {
+
+            lineNumber++;
+
+            int lineEnd = trimEnd(start, end);
+            int lineStart = trimStart(start, lineEnd);
+            if (lineStart == lineEnd) {
+                return;
+            }
+
+            for (int i = lineStart; i < lineEnd; i++) {
+                if (buffer[i] == QUOTE) {
+                    parseQuotedLine(lineStart, lineEnd);
+                    return;
+                }
+            }
+
+            int nameEnd = indexOf(FIELD_SEPARATOR, lineStart, lineEnd);
+            int genderEnd = indexOf(FIELD_SEPARATOR, nameEnd + 1, lineEnd);
+            int dateEnd = indexOf(FIELD_SEPARATOR, genderEnd + 1, lineEnd);
+            boolean hasThreeColumns = nameEnd < lineEnd && genderEnd < lineEnd;
+            if (!hasThreeColumns) {
+                throw unexpectedRow(lineStart, lineEnd);
+            }
+
+            int nameStart = lineStart;
+            int nameLength = trimEnd(nameStart, nameEnd) - nameStart;
+            Gender gender = parseGender(trimStart(nameEnd + 1, genderEnd), trimEnd(nameEnd + 1, genderEnd));
+            int birthEpochDay =
+                    birthDateDecoder.decodeEpochDay(buffer, trimStart(genderEnd + 1, dateEnd), trimEnd(genderEnd + 1, dateEnd));
+            if (gender == null || birthEpochDay == BirthDateDecoder.INVALID) {
+                throw unexpectedRow(lineStart, lineEnd);
+            }
+
+            rowHandler.handle(buffer, nameStart, nameLength, gender, birthEpochDay);
+        }
+
+        private void parseQuotedLine(int start, int end) {
+
+            String line = new String(buffer, start, end - start, UTF_8);
+            try (Stream<Person> persons = fallbackCsvReader.streamPersonsFromCsv(new StringReader(line))) {
+                persons.forEach(person -> {
+
+                    byte[] name = person.getName().getBytes(UTF_8);
+                    rowHandler.handle(name, 0, name.length, person.getGender(), (int) person.getBirthDate().toEpochDay());
+                });
+            }
+        }
+
+        private Gender parseGender(int start, int end) {
+
+            for (int i = 0; i < GENDER_NAMES.length; i++) {
+                if (bytesEqual(GENDER_NAMES[i], start, end)) {
+                    return GENDERS[i];
+                }
+            }
+            return null;
+        }
+
+        private boolean bytesEqual(byte[] expected, int start, int end) {
+
+            if (expected.length != end - start) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (expected[i] != buffer[start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int indexOf(byte value, int start, int end) {
+
+            for (int i = start; i < end; i++) {
+                if (buffer[i] == value) {
+                    return i;
+                }
+            }
+            return end;
+        }
+
+        private int trimStart(int start, int end) {
+
+            while (start < end && buffer[start] <= ' ' && buffer[start] >= 0) {
+                start++;
+            }
+            return start;
+        }
+
+        private int trimEnd(int start, int end) {
+
+            while (end > start && buffer[end - 1] <= ' ' && buffer[end - 1] >= 0) {
+                end--;
+            }
+            return end;
+        }
+
+        private ProvidedFileHasErrorException unexpectedRow(int start, int end) {
+
+            LOGGER.severe("File on provided path cannot be read: CSV structure/data unexpected at line " + lineNumber
+                    + ": " + new String(buffer, start, end - start, UTF_8));
+            return new ProvidedFileHasErrorException("File on provided path cannot be read: CSV structure/data unexpected");
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.addressbookprocessor.reader;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.metrics.AddressBookMetrics;
+import com.addressbookprocessor.metrics.FileReadRecorder;
+import com.addressbookprocessor.reader.exception.ProvidedFileHasErrorException;
+import io.vavr.control.Try;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.CodingErrorAction.REPORT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.logging.Level.SEVERE;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+public class AddressBookParallelCsvReader {
+
+    private static final Logger LOGGER = Logger.getLogger(AddressBookParallelCsvReader.class.getName());
+
+    private static final long DEFAULT_CHUNK_SIZE = 8L * 1024 * 1024;
+    private static final int BOUNDARY_SCAN_SIZE = 4096;
+    private static final byte RECORD_SEPARATOR = '\n';
+    private static final int DECODE_BUFFER_SIZE = 8 * 1024;
+
+    private final AddressBookCsvReader csvReader;
+
+    private final AddressBookFastCsvReader fastCsvReader;
+
+    private final AddressBookMetrics metrics;
+
+    private final ForkJoinPool parsePool;
+
+    private final long chunkSize;
+
+    public AddressBookParallelCsvReader() {
+
+        this(new AddressBookCsvReader(), ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public AddressBookParallelCsvReader(AddressBookCsvReader csvReader, ForkJoinPool parsePool, long chunkSize) {
+
+        this(csvReader, AddressBookMetrics.NOOP, parsePool, chunkSize);
+    }
+
+    public AddressBookParallelCsvReader(AddressBookCsvReader csvReader, AddressBookMetrics metrics, ForkJoinPool parsePool,
+                                        long chunkSize) {
+
+        boolean areParamsValid = csvReader != null && metrics != null && parsePool != null
+                && chunkSize > 0 && chunkSize < Integer.MAX_VALUE;
+        if (!areParamsValid) {
+            LOGGER.warning("Parallel reader not configured properly");
+            throw new IllegalArgumentException("CSV reader, metrics, parse pool and a chunk size below 2GB must be given");
+        }
+
+        this.csvReader = csvReader;
+        this.fastCsvReader = new AddressBookFastCsvReader(csvReader);
+        this.metrics = metrics;
+        this.parsePool = parsePool;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<Person> readPersonsFromCsv(final String addressBookFilePath) {
+
+        boolean isParamValid = isNotBlank(addressBookFilePath);
+        if (!isParamValid) {
+            LOGGER.warning("Given addressBookFilePath is blank");
+            throw new IllegalArgumentException("Given addressBookFilePath is blank");
+        }
+
+        Compression compression = Try.of(() -> Compression.detect(Paths.get(addressBookFilePath))).getOrElse(Compression.NONE);
+        if (compression != Compression.NONE) {
+            return csvReader.readPersonsFromCsv(addressBookFilePath);
+        }
+
+        // chunks are parsed on the pool, one read is recorded for the whole file and without allocation figures
+        long addressBookSize = Try.of(() -> Files.size(Paths.get(addressBookFilePath))).getOrElse(0L);
+        FileReadRecorder fileRead = FileReadRecorder.startAcrossThreads(metrics, addressBookFilePath, () -> addressBookSize);
+        List<CompletableFuture<List<Person>>> chunkParses = new ArrayList<>();
+        try (FileChannel addressBookChannel = FileChannel.open(Paths.get(addressBookFilePath), READ)) {
+
+            for (FileChunk chunk : splitAtRecordBoundaries(addressBookChannel)) {
+                chunkParses.add(CompletableFuture.supplyAsync(() -> parseChunk(addressBookChannel, chunk), parsePool));
+            }
+
+            List<Person> persons = new ArrayList<>();
+            for (CompletableFuture<List<Person>> chunkParse : chunkParses) {
+                persons.addAll(chunkParse.get());
+            }
+            fileRead.rowsParsed(persons.size());
+            return persons;
+        } catch (IOException ex) {
+            LOGGER.log(SEVERE, "File on provided path cannot be read", ex);
+            throw new ProvidedFileHasErrorException("File on provided path cannot be read");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ProvidedFileHasErrorException("File on provided path cannot be read: parsing interrupted");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof ProvidedFileHasErrorException) {
+                fileRead.parseFailed();
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            LOGGER.log(SEVERE, "File on provided path cannot be read", ex.getCause());
+            throw new ProvidedFileHasErrorException("File on provided path cannot be read");
+        } finally {
+            chunkParses.forEach(chunkParse -> chunkParse.cancel(false));
+            fileRead.finish();
+        }
+    }
+
+    private List<FileChunk> splitAtRecordBoundaries(FileChannel addressBookChannel) throws IOException {
+
+        long fileSize = addressBookChannel.size();
+        List<FileChunk> chunks = new ArrayList<>();
+
+        long chunkStart = 0;
+        while (chunkStart < fileSize) {
+
+            long chunkEnd = chunkStart + chunkSize >= fileSize
+                    ? fileSize
+                    : findRecordEnd(addressBookChannel, chunkStart + chunkSize, fileSize);
+            chunks.add(new FileChunk(chunkStart, chunkEnd - chunkStart));
+            chunkStart = chunkEnd;
+        }
+        return chunks;
+    }
+
+    private long findRecordEnd(FileChannel addressBookChannel, long position, long fileSize) throws IOException {
+
+        ByteBuffer scanBuffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long scanPosition = position;
+        while (scanPosition < fileSize) {
+
+            scanBuffer.clear();
+            int readBytes = addressBookChannel.read(scanBuffer, scanPosition);
+            for (int i = 0; i < readBytes; i++) {
+                if (scanBuffer.get(i) == RECORD_SEPARATOR) {
+                    return scanPosition + i + 1;
+                }
+            }
+            scanPosition += Math.max(readBytes, 0);
+        }
+        return fileSize;
+    }
+
+    /**
+     * Parses the mapped chunk in place with the byte level parser, after checking it is valid UTF-8 in a pass that
+     * decodes into a small reused buffer.
+     */
+    private List<Person> parseChunk(FileChannel addressBookChannel, FileChunk chunk) {
+
+        ByteBuffer chunkBytes = Try.of(() -> addressBookChannel.map(READ_ONLY, chunk.start, chunk.length))
+                .onFailure(ex -> {
+
+                    LOGGER.log(SEVERE, "File on provided path cannot be read: chunk cannot be mapped", ex);
+                    throw new ProvidedFileHasErrorException("File on provided path cannot be read");
+                })
+                .get();
+        validateUtf8(chunkBytes.duplicate());
+
+        List<Person> persons = new ArrayList<>();
+        Try.run(() -> fastCsvReader.readPersons(new ByteBufferInputStream(chunkBytes),
+                        (nameBuffer, nameOffset, nameLength, gender, birthEpochDay) -> persons.add(new Person(
+                                new String(nameBuffer, nameOffset, nameLength, UTF_8),
+                                gender,
+                                LocalDate.ofEpochDay(birthEpochDay)))))
+                .onFailure(IOException.class, ex -> {
+
+                    LOGGER.log(SEVERE, "File on provided path cannot be read", ex);
+                    throw new ProvidedFileHasErrorException("File on provided path cannot be read");
+                })
+                .get();
+        return persons;
+    }
+
+    private static void validateUtf8(ByteBuffer chunkBytes) {
+
+        CharsetDecoder decoder = UTF_8.newDecoder()
+                .onMalformedInput(REPORT)
+                .onUnmappableCharacter(REPORT);
+        CharBuffer decoded = CharBuffer.allocate(DECODE_BUFFER_SIZE);
+        CoderResult result;
+        do {
+            decoded.clear();
+            result = decoder.decode(chunkBytes, decoded, true);
+        } while (result.isOverflow());
+
+        if (result.isError()) {
+            LOGGER.severe("File on provided path cannot be read: chunk is not valid UTF-8, " + result);
+            throw new ProvidedFileHasErrorException("File on provided path cannot be read: not valid UTF-8");
+        }
+    }
+
+    private static final class FileChunk {
+
+        private final long start;
+
+        private final long length;
+
+        private FileChunk(long start, long length) {
+
+            this.start = start;
+            this.length = length;
+        }
+    }
+}
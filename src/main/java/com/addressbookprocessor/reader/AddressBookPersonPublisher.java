@@ -0,0 +1,192 @@
+package com.addressbookprocessor.reader;
+
+import com.addressbookprocessor.domain.Person;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Publishes the persons of a single CSV byte stream to one subscriber. Rows are only read and parsed while the
+ * subscriber has outstanding demand, the stream is closed on completion, error or cancellation.
+ */
+public class AddressBookPersonPublisher implements Publisher<Person> {
+
+    private static final Logger LOGGER = Logger.getLogger(AddressBookPersonPublisher.class.getName());
+
+    private static final String STREAM_SOURCE = "stream";
+
+    private final AddressBookCsvReader csvReader;
+
+    private final String source;
+
+    private final InputStream addressBookStream;
+
+    private final Executor executor;
+
+    private final AtomicBoolean isSubscribed = new AtomicBoolean();
+
+    public AddressBookPersonPublisher(AddressBookCsvReader csvReader, InputStream addressBookStream, Executor executor) {
+
+        this(csvReader, STREAM_SOURCE, addressBookStream, executor);
+    }
+
+    /**
+     * The source names the stream in the file read metrics, which count the bytes the subscriber's demand consumed.
+     */
+    public AddressBookPersonPublisher(AddressBookCsvReader csvReader, String source, InputStream addressBookStream,
+                                      Executor executor) {
+
+        boolean areParamsValid = csvReader != null && source != null && addressBookStream != null && executor != null;
+        if (!areParamsValid) {
+            LOGGER.warning("Given csvReader, source, addressBookStream or executor is null");
+            throw new IllegalArgumentException("Given csvReader, source, addressBookStream or executor is null");
+        }
+
+        this.csvReader = csvReader;
+        this.source = source;
+        this.addressBookStream = addressBookStream;
+        this.executor = executor;
+    }
+
+    public AddressBookPersonPublisher(AddressBookCsvReader csvReader, ReadableByteChannel addressBookChannel, Executor executor) {
+
+        this(csvReader, addressBookChannel == null ? null : Channels.newInputStream(addressBookChannel), executor);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Person> subscriber) {
+
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must be given");
+        }
+
+        if (!isSubscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new PersonSubscription(null));
+            subscriber.onError(new IllegalStateException("Address book stream can only be subscribed once"));
+            return;
+        }
+
+        PersonSubscription subscription = new PersonSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class PersonSubscription implements Subscription {
+
+        private final Subscriber<? super Person> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+
+        private volatile boolean isCancelled;
+
+        private volatile Throwable requestError;
+
+        private Stream<Person> persons;
+
+        private Iterator<Person> personIterator;
+
+        private boolean isDone;
+
+        private PersonSubscription(Subscriber<? super Person> subscriber) {
+
+            this.subscriber = subscriber;
+            this.isDone = subscriber == null;
+        }
+
+        @Override
+        public void request(long count) {
+
+            if (count <= 0) {
+                requestError = new IllegalArgumentException("Requested count of persons must be positive");
+            } else {
+                demand.getAndUpdate(current -> current + count < 0 ? Long.MAX_VALUE : current + count);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+
+            isCancelled = true;
+            drain();
+        }
+
+        private void drain() {
+
+            if (subscriber != null && pendingDrains.getAndIncrement() == 0) {
+                executor.execute(this::emit);
+            }
+        }
+
+        private void emit() {
+
+            do {
+                if (isDone) {
+                    continue;
+                }
+                try {
+                    if (isCancelled) {
+                        finish();
+                    } else if (requestError != null) {
+                        finish();
+                        subscriber.onError(requestError);
+                    } else {
+                        emitDemanded();
+                    }
+                } catch (RuntimeException ex) {
+                    finish();
+                    subscriber.onError(ex);
+                }
+            } while (pendingDrains.decrementAndGet() != 0);
+        }
+
+        private void emitDemanded() {
+
+            if (personIterator == null) {
+                persons = csvReader.streamPersonsFromCsvAcrossThreads(addressBookStream, source);
+                personIterator = persons.iterator();
+            }
+
+            while (demand.get() > 0 && !isCancelled) {
+                if (!personIterator.hasNext()) {
+                    finish();
+                    subscriber.onComplete();
+                    return;
+                }
+                subscriber.onNext(personIterator.next());
+                demand.decrementAndGet();
+            }
+
+            // the end of input is only looked for with outstanding demand, looking parses the next row
+            if (isCancelled) {
+                finish();
+            }
+        }
+
+        private void finish() {
+
+            isDone = true;
+            try {
+                if (persons != null) {
+                    persons.close();
+                } else {
+                    addressBookStream.close();
+                }
+            } catch (Exception ex) {
+                LOGGER.warning("Address book stream cannot be closed");
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.addressbookprocessor.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decompresses BGZF, a series of gzip members that state their own compressed size in a BC extra field. The next
+ * blocks are cut from the stream without inflating them and inflated in parallel while the current block is
+ * consumed, blocks are handed out in stream order.
+ */
+class BgzfInputStream extends InputStream {
+
+    private static final int FIXED_HEADER_SIZE = 12;
+    private static final int TRAILER_SIZE = 8;
+    private static final int SUBFIELD_HEADER_SIZE = 4;
+    private static final int GZIP_FLAG_EXTRA = 4;
+    private static final int MAX_BLOCK_SIZE = 64 * 1024;
+    private static final byte[] NO_BYTES = new byte[0];
+
+    private final InputStream in;
+
+    private final ExecutorService inflatePool;
+
+    private final int readAheadBlocks;
+
+    private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+
+    private byte[] block = NO_BYTES;
+
+    private int position;
+
+    private boolean isEndOfInput;
+
+    BgzfInputStream(InputStream in, ExecutorService inflatePool, int readAheadBlocks) {
+
+        this.in = in;
+        this.inflatePool = inflatePool;
+        this.readAheadBlocks = Math.max(1, readAheadBlocks);
+    }
+
+    @Override
+    public int read() throws IOException {
+
+        if (!ensureBlock()) {
+            return -1;
+        }
+        return block[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureBlock()) {
+            return -1;
+        }
+
+        int count = Math.min(length, block.length - position);
+        System.arraycopy(block, position, buffer, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+
+        return block.length - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        pendingBlocks.forEach(pendingBlock -> pendingBlock.cancel(true));
+        pendingBlocks.clear();
+        block = NO_BYTES;
+        position = 0;
+        isEndOfInput = true;
+        in.close();
+    }
+
+    private boolean ensureBlock() throws IOException {
+
+        while (position == block.length) {
+            scheduleBlocks();
+            Future<byte[]> nextBlock = pendingBlocks.poll();
+            if (nextBlock == null) {
+                return false;
+            }
+            block = awaitBlock(nextBlock);
+            position = 0;
+        }
+        return true;
+    }
+
+    private void scheduleBlocks() throws IOException {
+
+        while (!isEndOfInput && pendingBlocks.size() < readAheadBlocks) {
+            byte[] compressedBlock = readCompressedBlock();
+            if (compressedBlock == null) {
+                isEndOfInput = true;
+            } else {
+                pendingBlocks.add(inflatePool.submit(() -> inflate(compressedBlock)));
+            }
+        }
+    }
+
+    private byte[] readCompressedBlock() throws IOException {
+
+        byte[] header = new byte[FIXED_HEADER_SIZE];
+        int headerLength = readFully(header, 0, FIXED_HEADER_SIZE);
+        if (headerLength == 0) {
+            return null;
+        }
+
+        boolean isBgzfHeader = headerLength == FIXED_HEADER_SIZE && (header[0] & 0xFF) == 0x1F
+                && (header[1] & 0xFF) == 0x8B && header[2] == 8 && (header[3] & GZIP_FLAG_EXTRA) != 0;
+        if (!isBgzfHeader) {
+            throw new IOException("Not a BGZF block header");
+        }
+
+        int extraLength = unsignedShort(header, 10);
+        byte[] extra = new byte[extraLength];
+        if (readFully(extra, 0, extraLength) != extraLength) {
+            throw new IOException("Truncated BGZF block header");
+        }
+
+        int blockSize = findBlockSize(extra) + 1;
+        if (blockSize < FIXED_HEADER_SIZE + extraLength + TRAILER_SIZE) {
+            throw new IOException("Missing or invalid BGZF block size");
+        }
+
+        byte[] compressedBlock = new byte[blockSize];
+        System.arraycopy(header, 0, compressedBlock, 0, FIXED_HEADER_SIZE);
+        System.arraycopy(extra, 0, compressedBlock, FIXED_HEADER_SIZE, extraLength);
+        int dataOffset = FIXED_HEADER_SIZE + extraLength;
+        if (readFully(compressedBlock, dataOffset, blockSize - dataOffset) != blockSize - dataOffset) {
+            throw new IOException("Truncated BGZF block");
+        }
+        return compressedBlock;
+    }
+
+    private static int findBlockSize(byte[] extra) {
+
+        int subfield = 0;
+        while (subfield + SUBFIELD_HEADER_SIZE <= extra.length) {
+            int subfieldLength = unsignedShort(extra, subfield + 2);
+            boolean isBlockSize = extra[subfield] == 'B' && extra[subfield + 1] == 'C' && subfieldLength == 2
+                    && subfield + SUBFIELD_HEADER_SIZE + 2 <= extra.length;
+            if (isBlockSize) {
+                return unsignedShort(extra, subfield + SUBFIELD_HEADER_SIZE);
+            }
+            subfield += SUBFIELD_HEADER_SIZE + subfieldLength;
+        }
+        return -1;
+    }
+
+    private static byte[] inflate(byte[] compressedBlock) throws IOException {
+
+        int dataOffset = FIXED_HEADER_SIZE + unsignedShort(compressedBlock, 10);
+        int trailerOffset = compressedBlock.length - TRAILER_SIZE;
+        int blockSize = readInt(compressedBlock, trailerOffset + 4);
+        if (blockSize < 0 || blockSize > MAX_BLOCK_SIZE) {
+            throw new IOException("Corrupt BGZF block: uncompressed size exceeds 64KB");
+        }
+
+        byte[] block = new byte[blockSize];
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressedBlock, dataOffset, trailerOffset - dataOffset);
+            int inflated = 0;
+            while (!inflater.finished() && !inflater.needsInput() && inflated < block.length) {
+                inflated += inflater.inflate(block, inflated, block.length - inflated);
+            }
+
+            CRC32 checksum = new CRC32();
+            checksum.update(block, 0, inflated);
+            boolean isBlockIntact = inflated == block.length
+                    && (int) checksum.getValue() == readInt(compressedBlock, trailerOffset);
+            if (!isBlockIntact) {
+                throw new IOException("Corrupt BGZF block: size or checksum mismatch");
+            }
+            return block;
+        } catch (DataFormatException ex) {
+            throw new IOException("Corrupt BGZF block", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] awaitBlock(Future<byte[]> pendingBlock) throws IOException {
+
+        try {
+            return pendingBlock.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("BGZF decompression interrupted");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IOException("BGZF block cannot be inflated", ex.getCause());
+        }
+    }
+
+    private int readFully(byte[] buffer, int offset, int length) throws IOException {
+
+        int total = 0;
+        int read;
+        while (total < length && (read = in.read(buffer, offset + total, length - total)) != -1) {
+            total += read;
+        }
+        return total;
+    }
+
+    private static int unsignedShort(byte[] bytes, int index) {
+
+        return (bytes[index] & 0xFF) | (bytes[index + 1] & 0xFF) << 8;
+    }
+
+    private static int readInt(byte[] bytes, int index) {
+
+        return unsignedShort(bytes, index) | unsignedShort(bytes, index + 2) << 16;
+    }
+}
@@ -0,0 +1,220 @@
+package com.addressbookprocessor.reader;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Decodes d/M/yy birth dates. Two digit years resolve to 20yy, or to 19yy when 20yy lies after the pivot day,
+ * and days beyond the month length clamp to its last day like a SMART resolving formatter does. Every decoded
+ * day, month and year combination is cached, so a run decodes each distinct birth date only once.
+ */
+public final class BirthDateDecoder {
+
+    public static final int INVALID = Integer.MIN_VALUE;
+
+    private static final int MAX_DIGITS = 9;
+    private static final int MAX_DAY = 31;
+    private static final int MAX_MONTH = 12;
+    private static final int YEARS_PER_CENTURY = 100;
+    private static final int UNRESOLVED = Integer.MAX_VALUE;
+    private static final char DATE_SEPARATOR = '/';
+
+    private static final AtomicReference<BirthDateDecoder> TODAY_DECODER = new AtomicReference<>();
+
+    private final LocalDate pivotDate;
+
+    private final long pivotEpochDay;
+
+    private final int[] epochDays = new int[MAX_DAY * MAX_MONTH * YEARS_PER_CENTURY];
+
+    private final LocalDate[] birthDates = new LocalDate[epochDays.length];
+
+    public BirthDateDecoder(LocalDate pivotDate) {
+
+        this.pivotDate = pivotDate;
+        this.pivotEpochDay = pivotDate.toEpochDay();
+        Arrays.fill(epochDays, UNRESOLVED);
+    }
+
+    public static BirthDateDecoder forToday() {
+
+        LocalDate today = LocalDate.now();
+        BirthDateDecoder decoder = TODAY_DECODER.get();
+        if (decoder == null || !decoder.pivotDate.equals(today)) {
+            decoder = new BirthDateDecoder(today);
+            TODAY_DECODER.set(decoder);
+        }
+        return decoder;
+    }
+
+    public int decodeEpochDay(int day, int month, int twoDigitYear) {
+
+        int slot = slotOf(day, month, twoDigitYear);
+        return slot == INVALID ? INVALID : epochDayOf(slot);
+    }
+
+    public int decodeEpochDay(CharSequence text, int start, int end) {
+
+        int slot = slotOf(text, start, end);
+        return slot == INVALID ? INVALID : epochDayOf(slot);
+    }
+
+    public int decodeEpochDay(byte[] buffer, int start, int end) {
+
+        int daySeparator = indexOf(buffer, start, end);
+        int monthSeparator = indexOf(buffer, daySeparator + 1, end);
+        boolean isTwoDigitYear = monthSeparator < end && end - monthSeparator - 1 == 2;
+        if (!isTwoDigitYear) {
+            return INVALID;
+        }
+
+        int slot = slotOf(
+                parseNumber(buffer, start, daySeparator),
+                parseNumber(buffer, daySeparator + 1, monthSeparator),
+                parseNumber(buffer, monthSeparator + 1, end));
+        return slot == INVALID ? INVALID : epochDayOf(slot);
+    }
+
+    public LocalDate decode(CharSequence text) {
+
+        int slot = slotOf(text, 0, text.length());
+        if (slot == INVALID) {
+            return null;
+        }
+
+        LocalDate birthDate = birthDates[slot];
+        if (birthDate == null) {
+            birthDate = LocalDate.ofEpochDay(epochDayOf(slot));
+            birthDates[slot] = birthDate;
+        }
+        return birthDate;
+    }
+
+    private int epochDayOf(int slot) {
+
+        int cachedEpochDay = epochDays[slot];
+        if (cachedEpochDay != UNRESOLVED) {
+            return cachedEpochDay;
+        }
+
+        int day = slot % MAX_DAY + 1;
+        int month = slot / MAX_DAY % MAX_MONTH + 1;
+        int twoDigitYear = slot / (MAX_DAY * MAX_MONTH);
+
+        long birthEpochDay = epochDay(2000 + twoDigitYear, month, day);
+        boolean isBirthdateInFuture = birthEpochDay > pivotEpochDay;
+        if (isBirthdateInFuture) {
+            birthEpochDay = epochDay(1900 + twoDigitYear, month, day);
+        }
+        epochDays[slot] = (int) birthEpochDay;
+        return (int) birthEpochDay;
+    }
+
+    private static int slotOf(int day, int month, int twoDigitYear) {
+
+        boolean isDateValid = day >= 1 && day <= MAX_DAY && month >= 1 && month <= MAX_MONTH
+                && twoDigitYear >= 0 && twoDigitYear < YEARS_PER_CENTURY;
+        return isDateValid ? (twoDigitYear * MAX_MONTH + month - 1) * MAX_DAY + day - 1 : INVALID;
+    }
+
+    private static int slotOf(CharSequence text, int start, int end) {
+
+        int daySeparator = indexOf(text, start, end);
+        int monthSeparator = indexOf(text, daySeparator + 1, end);
+        boolean isTwoDigitYear = monthSeparator < end && end - monthSeparator - 1 == 2;
+        if (!isTwoDigitYear) {
+            return INVALID;
+        }
+
+        return slotOf(
+                parseNumber(text, start, daySeparator),
+                parseNumber(text, daySeparator + 1, monthSeparator),
+                parseNumber(text, monthSeparator + 1, end));
+    }
+
+    static long epochDay(int year, int month, int day) {
+
+        int monthLength = monthLength(year, month);
+        int dayOfMonth = Math.min(day, monthLength);
+
+        long shiftedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(shiftedYear, 400);
+        long yearOfEra = shiftedYear - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int monthLength(int year, int month) {
+
+        switch (month) {
+            case 2:
+                boolean isLeapYear = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return isLeapYear ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int indexOf(CharSequence text, int start, int end) {
+
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == DATE_SEPARATOR) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static int indexOf(byte[] buffer, int start, int end) {
+
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == DATE_SEPARATOR) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static int parseNumber(CharSequence text, int start, int end) {
+
+        boolean isLengthValid = end > start && end - start <= MAX_DIGITS;
+        if (!isLengthValid) {
+            return INVALID;
+        }
+
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            number = number * 10 + digit;
+        }
+        return number;
+    }
+
+    private static int parseNumber(byte[] buffer, int start, int end) {
+
+        boolean isLengthValid = end > start && end - start <= MAX_DIGITS;
+        if (!isLengthValid) {
+            return INVALID;
+        }
+
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            number = number * 10 + digit;
+        }
+        return number;
+    }
+}
@@ -0,0 +1,121 @@
+package com.addressbookprocessor.reader;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Compression of an address book file, detected by its leading magic bytes rather than by its file name.
+ * Compressed files are decompressed while being parsed, without a temporary copy on disk.
+ */
+public enum Compression {
+
+    NONE {
+        @Override
+        InputStream decompress(InputStream compressedStream) {
+
+            return compressedStream;
+        }
+    },
+
+    /**
+     * Single or multi-member gzip, inflated sequentially since member boundaries are only known after inflating.
+     */
+    GZIP {
+        @Override
+        InputStream decompress(InputStream compressedStream) throws IOException {
+
+            return new GZIPInputStream(compressedStream, BUFFER_SIZE);
+        }
+    },
+
+    /**
+     * Gzip members of at most 64KB carrying their compressed size, as written by bgzip, inflated in parallel.
+     */
+    BGZF {
+        @Override
+        InputStream decompress(InputStream compressedStream) {
+
+            ForkJoinPool inflatePool = ForkJoinPool.commonPool();
+            return new BgzfInputStream(compressedStream, inflatePool, 2 * inflatePool.getParallelism());
+        }
+    },
+
+    ZSTD {
+        @Override
+        InputStream decompress(InputStream compressedStream) throws IOException {
+
+            throw new IOException("Zstandard compressed address books are not supported, decompress them first");
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int HEADER_SIZE = 16;
+
+    private static final int GZIP_FLAG_EXTRA = 4;
+    private static final int DEFLATE_METHOD = 8;
+
+    public static Compression detect(Path addressBookPath) throws IOException {
+
+        try (InputStream addressBookStream = Files.newInputStream(addressBookPath)) {
+            byte[] header = new byte[HEADER_SIZE];
+            return detect(header, readHeader(addressBookStream, header));
+        }
+    }
+
+    /**
+     * Opens the given file for reading its decompressed content.
+     */
+    public static InputStream open(Path addressBookPath) throws IOException {
+
+        InputStream addressBookStream = new BufferedInputStream(Files.newInputStream(addressBookPath), BUFFER_SIZE);
+        try {
+            byte[] header = new byte[HEADER_SIZE];
+            addressBookStream.mark(HEADER_SIZE);
+            int headerLength = readHeader(addressBookStream, header);
+            addressBookStream.reset();
+            return detect(header, headerLength).decompress(addressBookStream);
+        } catch (IOException | RuntimeException ex) {
+            addressBookStream.close();
+            throw ex;
+        }
+    }
+
+    abstract InputStream decompress(InputStream compressedStream) throws IOException;
+
+    static Compression detect(byte[] header, int headerLength) {
+
+        boolean isGzip = headerLength >= 3 && unsigned(header, 0) == 0x1F && unsigned(header, 1) == 0x8B
+                && header[2] == DEFLATE_METHOD;
+        if (isGzip) {
+            boolean isBgzf = headerLength >= HEADER_SIZE && (header[3] & GZIP_FLAG_EXTRA) != 0
+                    && unsigned(header, 10) + (unsigned(header, 11) << 8) >= 6
+                    && header[12] == 'B' && header[13] == 'C' && header[14] == 2 && header[15] == 0;
+            return isBgzf ? BGZF : GZIP;
+        }
+
+        boolean isZstd = headerLength >= 4 && unsigned(header, 0) == 0x28 && unsigned(header, 1) == 0xB5
+                && unsigned(header, 2) == 0x2F && unsigned(header, 3) == 0xFD;
+        return isZstd ? ZSTD : NONE;
+    }
+
+    private static int readHeader(InputStream addressBookStream, byte[] header) throws IOException {
+
+        int headerLength = 0;
+        int read;
+        while (headerLength < header.length
+                && (read = addressBookStream.read(header, headerLength, header.length - headerLength)) != -1) {
+            headerLength += read;
+        }
+        return headerLength;
+    }
+
+    private static int unsigned(byte[] header, int index) {
+
+        return header[index] & 0xFF;
+    }
+}
@@ -0,0 +1,35 @@
+package com.addressbookprocessor.reader;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class LenientParseOptions {
+
+    @Builder.Default
+    private int maxRecordedErrors = 100;
+
+    @Builder.Default
+    private double maxErrorRate = 0.01;
+
+    @Builder.Default
+    private long minRowsForErrorRate = 1000;
+
+    public static LenientParseOptions defaults() {
+
+        return LenientParseOptions.builder().build();
+    }
+
+    /**
+     * The rate is judged only once {@code minRowsForErrorRate} rows were read, also at the end of a file, so a few
+     * malformed rows in a small file are skipped rather than failing it.
+     */
+    boolean isErrorRateExceeded(ParseErrorReport errorReport) {
+
+        boolean hasEnoughRows = errorReport.getRowCount() >= minRowsForErrorRate;
+        return hasEnoughRows && errorReport.getErrorRate() > maxErrorRate;
+    }
+}
@@ -0,0 +1,18 @@
+package com.addressbookprocessor.reader;
+
+import com.addressbookprocessor.domain.Person;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class LenientReadResult {
+
+    private List<Person> persons;
+
+    private ParseErrorReport errorReport;
+}
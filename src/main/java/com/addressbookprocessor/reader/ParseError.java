@@ -0,0 +1,15 @@
+package com.addressbookprocessor.reader;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class ParseError {
+
+    private long lineNumber;
+
+    private String reason;
+}
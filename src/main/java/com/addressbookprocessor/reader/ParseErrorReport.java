@@ -0,0 +1,64 @@
+package com.addressbookprocessor.reader;
+
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+@ToString
+public class ParseErrorReport {
+
+    private final int maxRecordedErrors;
+
+    private final List<ParseError> errors = new ArrayList<>();
+
+    private long rowCount;
+
+    private long errorCount;
+
+    ParseErrorReport(int maxRecordedErrors) {
+
+        this.maxRecordedErrors = maxRecordedErrors;
+    }
+
+    void rowParsed() {
+
+        rowCount++;
+    }
+
+    void rowFailed(long lineNumber, String reason) {
+
+        rowCount++;
+        errorCount++;
+        if (errors.size() < maxRecordedErrors) {
+            errors.add(new ParseError(lineNumber, reason));
+        }
+    }
+
+    public List<ParseError> getErrors() {
+
+        return unmodifiableList(errors);
+    }
+
+    public long getRowCount() {
+
+        return rowCount;
+    }
+
+    public long getErrorCount() {
+
+        return errorCount;
+    }
+
+    public boolean isTruncated() {
+
+        return errorCount > errors.size();
+    }
+
+    public double getErrorRate() {
+
+        return rowCount == 0 ? 0 : (double) errorCount / rowCount;
+    }
+}
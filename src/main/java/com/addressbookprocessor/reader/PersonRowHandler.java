@@ -0,0 +1,12 @@
+package com.addressbookprocessor.reader;
+
+import com.addressbookprocessor.domain.Gender;
+
+@FunctionalInterface
+public interface PersonRowHandler {
+
+    /**
+     * The name bytes are UTF-8 encoded and only valid during the call, the buffer is reused for the next rows.
+     */
+    void handle(byte[] nameBuffer, int nameOffset, int nameLength, Gender gender, int birthEpochDay);
+}
@@ -0,0 +1,249 @@
+package com.addressbookprocessor.reader;
+
+import com.addressbookprocessor.domain.NameDictionary;
+import com.addressbookprocessor.domain.PersonTable;
+import io.vavr.control.Try;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.logging.Level.WARNING;
+import static org.apache.commons.lang3.StringUtils.join;
+
+/**
+ * Person table kept next to its address book, a header with the source size and modification time followed by the
+ * columns. A load maps the file and serves the columns in place, checking only the header and source attributes
+ * unless payload verification is enabled, which reads the whole payload for its CRC32 first. Payloads are limited to
+ * 2GB since buffers are int indexed, larger address books are not written and are parsed on every load.
+ */
+public class PersonTableBinaryFile {
+
+    private static final Logger LOGGER = Logger.getLogger(PersonTableBinaryFile.class.getName());
+
+    public static final String BINARY_SUFFIX = ".abpt";
+    private static final int MAGIC = 0x41425054;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 48;
+    private static final long MAX_PAYLOAD_SIZE = Integer.MAX_VALUE - HEADER_SIZE;
+
+    private final boolean isPayloadVerified;
+
+    private final boolean isWritable;
+
+    public PersonTableBinaryFile() {
+
+        this(false);
+    }
+
+    public PersonTableBinaryFile(boolean isPayloadVerified) {
+
+        this(isPayloadVerified, true);
+    }
+
+    private PersonTableBinaryFile(boolean isPayloadVerified, boolean isWritable) {
+
+        this.isPayloadVerified = isPayloadVerified;
+        this.isWritable = isWritable;
+    }
+
+    /**
+     * Loads binary files already written but never writes one, for callers that must not create files next to the
+     * address books they are asked for.
+     */
+    public static PersonTableBinaryFile readOnly() {
+
+        return new PersonTableBinaryFile(false, false);
+    }
+
+    public Path getBinaryPath(Path addressBookPath) {
+
+        return Paths.get(addressBookPath.toString() + BINARY_SUFFIX);
+    }
+
+    /**
+     * Writes the table parsed from the address book, the given source attributes must be read before parsing.
+     */
+    public void write(Path addressBookPath, PersonTable personTable, BasicFileAttributes sourceAttributes) {
+
+        if (!isWritable) {
+            return;
+        }
+
+        Path binaryPath = getBinaryPath(addressBookPath);
+        Path binaryDirectory = binaryPath.toAbsolutePath().getParent();
+        NameDictionary dictionary = personTable.getNameDictionary();
+        long payloadSize = payloadSize(personTable.size(), personTable.nameTokenIds().remaining(), dictionary.size(),
+                dictionary.tokenBytes().remaining());
+        if (payloadSize > MAX_PAYLOAD_SIZE) {
+            LOGGER.info(join("Address book ", addressBookPath, " exceeds the 2GB binary person table limit, not writing it"));
+            return;
+        }
+
+        Try.run(() -> {
+
+                    Path temporaryPath = Files.createTempFile(binaryDirectory, binaryPath.getFileName().toString(), ".tmp");
+                    ByteBuffer payload = toPayload(personTable);
+                    NameDictionary nameDictionary = personTable.getNameDictionary();
+                    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                            .putInt(MAGIC)
+                            .putInt(VERSION)
+                            .putInt(personTable.size())
+                            .putInt(personTable.nameTokenIds().remaining())
+                            .putInt(nameDictionary.size())
+                            .putInt(nameDictionary.tokenBytes().remaining())
+                            .putLong(sourceAttributes.size())
+                            .putLong(sourceAttributes.lastModifiedTime().toMillis())
+                            .putLong(checksum(payload.duplicate()));
+                    header.flip();
+
+                    try {
+                        try (FileChannel binaryChannel = FileChannel.open(temporaryPath, WRITE, TRUNCATE_EXISTING)) {
+                            while (header.hasRemaining()) {
+                                binaryChannel.write(header);
+                            }
+                            while (payload.hasRemaining()) {
+                                binaryChannel.write(payload);
+                            }
+                        }
+                        Files.move(temporaryPath, binaryPath, REPLACE_EXISTING, ATOMIC_MOVE);
+                    } finally {
+                        Files.deleteIfExists(temporaryPath);
+                    }
+                })
+                .onFailure(ex -> LOGGER.log(WARNING, join("Binary person table cannot be written for ", addressBookPath), ex));
+    }
+
+    public Optional<PersonTable> load(Path addressBookPath) {
+
+        Path binaryPath = getBinaryPath(addressBookPath);
+        if (!Files.isRegularFile(binaryPath)) {
+            return Optional.empty();
+        }
+
+        return Try.of(() -> {
+
+                    BasicFileAttributes sourceAttributes = Files.readAttributes(addressBookPath, BasicFileAttributes.class);
+                    try (FileChannel binaryChannel = FileChannel.open(binaryPath, READ)) {
+
+                        MappedByteBuffer binary = binaryChannel.map(READ_ONLY, 0, binaryChannel.size());
+                        binary.order(ByteOrder.LITTLE_ENDIAN);
+                        return fromBinary(binary, sourceAttributes);
+                    }
+                })
+                .onFailure(ex -> LOGGER.log(WARNING, join("Binary person table cannot be read for ", addressBookPath), ex))
+                .toJavaOptional()
+                .flatMap(personTable -> personTable);
+    }
+
+    private ByteBuffer toPayload(PersonTable personTable) {
+
+        NameDictionary nameDictionary = personTable.getNameDictionary();
+        int rows = personTable.size();
+        int nameTokens = personTable.nameTokenIds().remaining();
+        int dictionaryTokens = nameDictionary.size();
+        int dictionaryBytes = nameDictionary.tokenBytes().remaining();
+
+        ByteBuffer payload = ByteBuffer.allocate((int) payloadSize(rows, nameTokens, dictionaryTokens, dictionaryBytes))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        IntBuffer intColumns = payload.asIntBuffer();
+        intColumns.put(personTable.birthEpochDays());
+        intColumns.put(personTable.nameTokenOffsets());
+        intColumns.put(personTable.nameTokenIds());
+        intColumns.put(nameDictionary.tokenOffsets());
+        payload.position(intColumns.position() * Integer.BYTES);
+        payload.put(personTable.genders());
+        payload.put(nameDictionary.tokenBytes());
+        payload.flip();
+        return payload;
+    }
+
+    private Optional<PersonTable> fromBinary(ByteBuffer binary, BasicFileAttributes sourceAttributes) {
+
+        boolean isHeaderValid = binary.remaining() >= HEADER_SIZE
+                && binary.getInt() == MAGIC
+                && binary.getInt() == VERSION;
+        if (!isHeaderValid) {
+            LOGGER.warning("Binary person table has unknown format, ignoring it");
+            return Optional.empty();
+        }
+
+        int rows = binary.getInt();
+        int nameTokens = binary.getInt();
+        int dictionaryTokens = binary.getInt();
+        int dictionaryBytes = binary.getInt();
+        boolean isSourceUnchanged = binary.getLong() == sourceAttributes.size()
+                && binary.getLong() == sourceAttributes.lastModifiedTime().toMillis();
+        long expectedChecksum = binary.getLong();
+        if (!isSourceUnchanged) {
+            LOGGER.info("Binary person table is stale, address book changed since it was written");
+            return Optional.empty();
+        }
+
+        ByteBuffer payload = binary.slice().order(ByteOrder.LITTLE_ENDIAN);
+        boolean isPayloadValid = rows >= 0 && nameTokens >= 0 && dictionaryTokens >= 0 && dictionaryBytes >= 0
+                && payload.remaining() == payloadSize(rows, nameTokens, dictionaryTokens, dictionaryBytes)
+                && (!isPayloadVerified || checksum(payload.duplicate()) == expectedChecksum);
+        if (!isPayloadValid) {
+            LOGGER.warning("Binary person table is corrupt, ignoring it");
+            return Optional.empty();
+        }
+
+        int intColumnsEnd = (rows + rows + 1 + nameTokens + dictionaryTokens + 1) * Integer.BYTES;
+        IntBuffer intColumns = byteColumn(payload, 0, intColumnsEnd).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        IntBuffer birthEpochDays = intColumn(intColumns, 0, rows);
+        IntBuffer nameTokenOffsets = intColumn(intColumns, rows, rows + 1);
+        IntBuffer nameTokenIds = intColumn(intColumns, rows + rows + 1, nameTokens);
+        IntBuffer dictionaryTokenOffsets = intColumn(intColumns, rows + rows + 1 + nameTokens, dictionaryTokens + 1);
+        ByteBuffer genders = byteColumn(payload, intColumnsEnd, rows);
+        ByteBuffer dictionaryTokenBytes = byteColumn(payload, intColumnsEnd + rows, dictionaryBytes);
+
+        return Try.of(() -> PersonTable.of(birthEpochDays, genders, nameTokenOffsets, nameTokenIds,
+                        NameDictionary.of(dictionaryTokenOffsets, dictionaryTokenBytes)))
+                .onFailure(ex -> LOGGER.warning("Binary person table has inconsistent columns, ignoring it"))
+                .toJavaOptional();
+    }
+
+    private static IntBuffer intColumn(IntBuffer intColumns, int start, int length) {
+
+        IntBuffer column = intColumns.duplicate();
+        column.position(start).limit(start + length);
+        return column.slice();
+    }
+
+    private static ByteBuffer byteColumn(ByteBuffer payload, int start, int length) {
+
+        ByteBuffer column = payload.duplicate();
+        column.position(start).limit(start + length);
+        return column.slice();
+    }
+
+    private static long payloadSize(int rows, int nameTokens, int dictionaryTokens, int dictionaryBytes) {
+
+        long intColumns = (long) rows + rows + 1 + nameTokens + dictionaryTokens + 1;
+        return intColumns * Integer.BYTES + rows + dictionaryBytes;
+    }
+
+    private static long checksum(ByteBuffer payload) {
+
+        CRC32 checksum = new CRC32();
+        checksum.update(payload);
+        return checksum.getValue();
+    }
+}
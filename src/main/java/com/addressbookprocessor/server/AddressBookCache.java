@@ -0,0 +1,280 @@
+package com.addressbookprocessor.server;
+
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.NameDictionary;
+import com.addressbookprocessor.domain.PersonTable;
+import com.addressbookprocessor.metrics.AddressBookMetrics;
+import com.addressbookprocessor.reader.AddressBookCachingReader;
+import com.addressbookprocessor.reader.exception.ProvidedFileHasErrorException;
+import com.addressbookprocessor.service.AddressBookService;
+import com.addressbookprocessor.service.MetricsAddressBookService;
+import com.addressbookprocessor.service.PersonTableAddressBookService;
+import io.vavr.control.Try;
+
+import java.nio.Buffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.SEVERE;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.apache.commons.lang3.StringUtils.join;
+
+/**
+ * Keeps loaded address books by path, least recently used first out once their estimated heap size exceeds the
+ * budget. Columns mapped from binary files are tracked apart since they are not on the heap. An entry is reloaded
+ * when the size or modification time of its file changed, concurrent requests for an address book being loaded wait
+ * for that load instead of parsing it again.
+ */
+public class AddressBookCache {
+
+    private static final Logger LOGGER = Logger.getLogger(AddressBookCache.class.getName());
+
+    private static final long ARRAY_HEADER_BYTES = 16;
+    private static final long REFERENCE_BYTES = Integer.BYTES;
+    private static final long LOOKUP_SLOT_BYTES = 4 * Integer.BYTES;
+    private static final long TRIGRAM_BYTES = 3 * Integer.BYTES;
+    private static final long MAX_HISTOGRAM_DAYS = 1 << 20;
+    private static final long HISTOGRAM_DAY_BYTES = (Gender.values().length + 2) * Integer.BYTES;
+
+    private final AddressBookCachingReader cachingReader;
+
+    private final long memoryBudgetBytes;
+
+    private final AddressBookMetrics metrics;
+
+    private final Map<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<Path, CompletableFuture<Entry>> loads = new HashMap<>();
+
+    private long usedBytes;
+
+    private long mappedBytes;
+
+    public AddressBookCache(AddressBookCachingReader cachingReader, long memoryBudgetBytes) {
+
+        this(cachingReader, memoryBudgetBytes, AddressBookMetrics.NOOP);
+    }
+
+    public AddressBookCache(AddressBookCachingReader cachingReader, long memoryBudgetBytes, AddressBookMetrics metrics) {
+
+        boolean areParamsValid = cachingReader != null && memoryBudgetBytes > 0 && metrics != null;
+        if (!areParamsValid) {
+            LOGGER.warning("Caching reader or metrics not given or memory budget not positive");
+            throw new IllegalArgumentException("Caching reader, metrics and positive memory budget must be given");
+        }
+
+        this.cachingReader = cachingReader;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.metrics = metrics;
+    }
+
+    public AddressBookService getAddressBook(String addressBookFilePath) {
+
+        boolean isParamValid = isNotBlank(addressBookFilePath);
+        if (!isParamValid) {
+            LOGGER.warning("Given addressBookFilePath is blank");
+            throw new IllegalArgumentException("Given addressBookFilePath is blank");
+        }
+
+        Path addressBookPath = Paths.get(addressBookFilePath).toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Try.of(() -> Files.readAttributes(addressBookPath, BasicFileAttributes.class))
+                .onFailure(ex -> {
+
+                    LOGGER.log(SEVERE, "File on provided path cannot be read", ex);
+                    throw new ProvidedFileHasErrorException("File on provided path cannot be read");
+                })
+                .get();
+        long modifiedMillis = attributes.lastModifiedTime().toMillis();
+
+        long fileSize = attributes.size();
+        while (true) {
+
+            CompletableFuture<Entry> load;
+            boolean isLoader = false;
+            synchronized (this) {
+                Entry entry = entries.get(addressBookPath);
+                if (entry != null && entry.isCurrent(modifiedMillis, fileSize)) {
+                    return entry.addressBook;
+                }
+
+                load = loads.get(addressBookPath);
+                if (load == null) {
+                    load = new CompletableFuture<>();
+                    loads.put(addressBookPath, load);
+                    isLoader = true;
+                }
+            }
+
+            if (isLoader) {
+                return loadEntry(addressBookPath, modifiedMillis, fileSize, load).addressBook;
+            }
+            Entry loadedEntry = awaitLoad(load);
+            if (loadedEntry.isCurrent(modifiedMillis, fileSize)) {
+                return loadedEntry.addressBook;
+            }
+        }
+    }
+
+    public synchronized int size() {
+
+        return entries.size();
+    }
+
+    /**
+     * Estimated heap bytes of the cached address books and the indexes their queries build, bounded by the budget.
+     */
+    public synchronized long getUsedBytes() {
+
+        return usedBytes;
+    }
+
+    /**
+     * Bytes of cached address books served from memory-mapped binary files, held outside the heap and not budgeted.
+     */
+    public synchronized long getMappedBytes() {
+
+        return mappedBytes;
+    }
+
+    public synchronized boolean contains(String addressBookFilePath) {
+
+        return entries.containsKey(Paths.get(addressBookFilePath).toAbsolutePath().normalize());
+    }
+
+    /**
+     * Heap columns of the table plus what its service builds on the heap: the dictionary lookup slots, the name index
+     * with a row array and the trigrams per token, and the birth date histogram, a few counts per distinct birth day.
+     */
+    static long estimateHeapBytes(PersonTable personTable) {
+
+        long rows = personTable.size();
+        long nameTokens = personTable.nameTokenIds().remaining();
+        long dictionaryTokens = personTable.getNameDictionary().size();
+        long dictionaryBytes = personTable.getNameDictionary().tokenBytes().remaining();
+
+        long nameIndexBytes = nameTokens * Integer.BYTES
+                + dictionaryTokens * (ARRAY_HEADER_BYTES + REFERENCE_BYTES + Integer.BYTES)
+                + dictionaryBytes * TRIGRAM_BYTES;
+        long histogramBytes = Math.min(rows, MAX_HISTOGRAM_DAYS) * HISTOGRAM_DAY_BYTES;
+
+        long columnBytes = columnBuffers(personTable).stream()
+                .filter(buffer -> !buffer.isDirect())
+                .mapToLong(AddressBookCache::bufferBytes)
+                .sum();
+
+        return columnBytes
+                + dictionaryTokens * LOOKUP_SLOT_BYTES
+                + nameIndexBytes
+                + histogramBytes;
+    }
+
+    static long estimateMappedBytes(PersonTable personTable) {
+
+        return columnBuffers(personTable).stream()
+                .filter(Buffer::isDirect)
+                .mapToLong(AddressBookCache::bufferBytes)
+                .sum();
+    }
+
+    private static List<Buffer> columnBuffers(PersonTable personTable) {
+
+        NameDictionary nameDictionary = personTable.getNameDictionary();
+        return Arrays.asList(personTable.birthEpochDays(), personTable.genders(), personTable.nameTokenOffsets(),
+                personTable.nameTokenIds(), nameDictionary.tokenOffsets(), nameDictionary.tokenBytes());
+    }
+
+    private static long bufferBytes(Buffer buffer) {
+
+        return (long) buffer.remaining() * (buffer instanceof IntBuffer ? Integer.BYTES : Byte.BYTES);
+    }
+
+    private Entry loadEntry(Path addressBookPath, long modifiedMillis, long fileSize, CompletableFuture<Entry> load) {
+
+        try {
+            PersonTable personTable = cachingReader.readPersonTable(addressBookPath.toString());
+            Entry loadedEntry = new Entry(modifiedMillis, fileSize,
+                    new MetricsAddressBookService(new PersonTableAddressBookService(personTable), metrics),
+                    estimateHeapBytes(personTable), estimateMappedBytes(personTable));
+
+            synchronized (this) {
+                Entry replacedEntry = entries.put(addressBookPath, loadedEntry);
+                usedBytes += loadedEntry.heapBytes - (replacedEntry == null ? 0 : replacedEntry.heapBytes);
+                mappedBytes += loadedEntry.mappedBytes - (replacedEntry == null ? 0 : replacedEntry.mappedBytes);
+                evictOverBudget();
+                loads.remove(addressBookPath);
+            }
+            load.complete(loadedEntry);
+            return loadedEntry;
+        } catch (RuntimeException | Error ex) {
+            synchronized (this) {
+                loads.remove(addressBookPath);
+            }
+            load.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private static Entry awaitLoad(CompletableFuture<Entry> load) {
+
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    private void evictOverBudget() {
+
+        Iterator<Map.Entry<Path, Entry>> eldestEntries = entries.entrySet().iterator();
+        while (usedBytes > memoryBudgetBytes && entries.size() > 1 && eldestEntries.hasNext()) {
+
+            Map.Entry<Path, Entry> eldestEntry = eldestEntries.next();
+            usedBytes -= eldestEntry.getValue().heapBytes;
+            mappedBytes -= eldestEntry.getValue().mappedBytes;
+            eldestEntries.remove();
+            LOGGER.info(join("Evicted address book ", eldestEntry.getKey(), " from cache"));
+        }
+    }
+
+    private static final class Entry {
+
+        private final long modifiedMillis;
+
+        private final long fileSize;
+
+        private final AddressBookService addressBook;
+
+        private final long heapBytes;
+
+        private final long mappedBytes;
+
+        private Entry(long modifiedMillis, long fileSize, AddressBookService addressBook, long heapBytes, long mappedBytes) {
+
+            this.modifiedMillis = modifiedMillis;
+            this.fileSize = fileSize;
+            this.addressBook = addressBook;
+            this.heapBytes = heapBytes;
+            this.mappedBytes = mappedBytes;
+        }
+
+        private boolean isCurrent(long modifiedMillis, long fileSize) {
+
+            return this.modifiedMillis == modifiedMillis && this.fileSize == fileSize;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.addressbookprocessor.server;
+
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.service.AddressBookService;
+import io.vavr.control.Try;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Answers address book queries over a line protocol on the loopback interface. Requests are tab separated,
+ * one per line, and each gets a single line answer starting with OK or ERR:
+ * <pre>
+ * COUNT  &lt;Male|Female&gt;  &lt;path&gt;
+ * OLDEST &lt;path&gt;
+ * DAYS   &lt;path&gt;  &lt;person A name&gt;  &lt;person B name&gt;
+ * QUIT
+ * </pre>
+ */
+public class AddressBookServer implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(AddressBookServer.class.getName());
+
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String OK = "OK ";
+    private static final String ERROR = "ERR ";
+
+    private final AddressBookCache addressBookCache;
+
+    private final ServerSocket serverSocket;
+
+    private final ExecutorService connectionExecutor;
+
+    public AddressBookServer(AddressBookCache addressBookCache, int port, int maxConnections) throws IOException {
+
+        boolean areParamsValid = addressBookCache != null && port >= 0 && maxConnections > 0;
+        if (!areParamsValid) {
+            LOGGER.warning("Cache not given, port negative or connection count not positive");
+            throw new IllegalArgumentException("Cache, valid port and positive connection count must be given");
+        }
+
+        this.addressBookCache = addressBookCache;
+        this.serverSocket = new ServerSocket(port, maxConnections, InetAddress.getLoopbackAddress());
+        this.connectionExecutor = Executors.newFixedThreadPool(maxConnections + 1, runnable -> {
+
+            Thread thread = new Thread(runnable, "address-book-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getPort() {
+
+        return serverSocket.getLocalPort();
+    }
+
+    public AddressBookServer start() {
+
+        connectionExecutor.execute(this::acceptConnections);
+        return this;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        serverSocket.close();
+        connectionExecutor.shutdownNow();
+    }
+
+    String answer(String request) {
+
+        String[] fields = request.split(FIELD_SEPARATOR);
+        return Try.of(() -> {
+
+                    switch (fields[0].trim().toUpperCase()) {
+                        case "COUNT":
+                            requireFieldCount(fields, 3);
+                            return OK + addressBook(fields[2]).countPersonsOfGender(Gender.valueOf(fields[1].trim()));
+                        case "OLDEST":
+                            requireFieldCount(fields, 2);
+                            Optional<Person> oldestPerson = addressBook(fields[1]).getOldestPerson();
+                            return OK + (oldestPerson.isPresent() ? oldestPerson.get().getName() : "");
+                        case "DAYS":
+                            requireFieldCount(fields, 4);
+                            return OK + addressBook(fields[1]).getDaysPersonAIsOlderPersonB(fields[2], fields[3]);
+                        default:
+                            throw new IllegalArgumentException("Unknown command, expected COUNT, OLDEST, DAYS or QUIT");
+                    }
+                })
+                .recover(ex -> ERROR + singleLine(ex.getMessage()))
+                .get();
+    }
+
+    private void acceptConnections() {
+
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket connection = serverSocket.accept();
+                connectionExecutor.execute(() -> serve(connection));
+            } catch (SocketException ex) {
+                LOGGER.fine("Address book server socket closed");
+            } catch (IOException ex) {
+                LOGGER.log(WARNING, "Connection to address book server cannot be accepted", ex);
+            }
+        }
+    }
+
+    private void serve(Socket connection) {
+
+        try (Socket socket = connection;
+             BufferedReader requests = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+             Writer answers = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), UTF_8))) {
+
+            String request;
+            while ((request = requests.readLine()) != null && !"QUIT".equalsIgnoreCase(request.trim())) {
+                answers.write(answer(request));
+                answers.write('\n');
+                answers.flush();
+            }
+        } catch (IOException ex) {
+            LOGGER.log(WARNING, "Address book server connection failed", ex);
+        }
+    }
+
+    private AddressBookService addressBook(String addressBookFilePath) {
+
+        return addressBookCache.getAddressBook(addressBookFilePath.trim());
+    }
+
+    private static void requireFieldCount(String[] fields, int fieldCount) {
+
+        if (fields.length != fieldCount) {
+            throw new IllegalArgumentException("Expected " + (fieldCount - 1) + " tab separated arguments");
+        }
+    }
+
+    private static String singleLine(String message) {
+
+        return message == null ? "" : message.replace('\n', ' ').replace('\r', ' ');
+    }
+}
@@ -1,10 +1,18 @@
 package com.addressbookprocessor.service;
 
+import com.addressbookprocessor.aggregation.PersonSummary;
 import com.addressbookprocessor.domain.Gender;
 import com.addressbookprocessor.domain.Person;
 
+import io.vavr.control.Either;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
 
 public interface AddressBookService {
 
@@ -12,7 +20,19 @@ public interface AddressBookService {
 
     Optional<Person> getOldestPerson();
 
+    List<Person> getOldestPersons(int count);
+
+    List<Person> getYoungestPersons(int count);
+
     Long getDaysPersonAIsOlderPersonB(String personAName, String personBName);
 
+    Map<Pair<String, String>, Either<String, Long>> getDaysBetween(Collection<Pair<String, String>> personNamePairs);
+
+    Long countBornBetween(LocalDate from, LocalDate to, Gender gender);
+
+    SortedMap<Integer, Long> getAgeHistogram(LocalDate referenceDate, int bucketYears, Gender gender);
+
+    PersonSummary summarize(int topCount);
+
     void setPersons(List<Person> persons);
 }
\ No newline at end of file
@@ -1,37 +1,55 @@
 package com.addressbookprocessor.service;
 
+import com.addressbookprocessor.aggregation.PersonSummary;
 import com.addressbookprocessor.domain.Gender;
 import com.addressbookprocessor.domain.Person;
+import io.vavr.control.Either;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
+import org.apache.commons.lang3.tuple.Pair;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
-import static java.time.temporal.ChronoUnit.DAYS;
-import static org.apache.commons.lang3.StringUtils.isNotBlank;
-import static org.apache.commons.lang3.StringUtils.join;
-
-@Setter
 @NoArgsConstructor
 public class AddressBookServiceImpl implements AddressBookService {
 
     private static final Logger LOGGER = Logger.getLogger(AddressBookServiceImpl.class.getName());
 
-    private List<Person> persons;
+    private final AtomicReference<AddressBookSnapshot> snapshot = new AtomicReference<>();
 
     public AddressBookServiceImpl(List<Person> persons) {
 
-        this.persons = persons;
-        validatePersons();
+        setPersons(persons);
+        getSnapshot();
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+
+        snapshot.set(persons == null ? null : AddressBookSnapshot.of(persons));
+    }
+
+    public AddressBookSnapshot getSnapshot() {
+
+        AddressBookSnapshot currentSnapshot = snapshot.get();
+        boolean isPersonsListValid = currentSnapshot != null;
+        if (!isPersonsListValid) {
+            LOGGER.warning("Persons list not given");
+            throw new IllegalArgumentException("Persons list must be set");
+        }
+        return currentSnapshot;
     }
 
     @Override
     public Long countPersonsOfGender(Gender gender) {
 
-        validatePersons();
+        AddressBookSnapshot currentSnapshot = getSnapshot();
 
         boolean isParamValid = gender != null;
         if (!isParamValid) {
@@ -39,83 +57,54 @@ public class AddressBookServiceImpl implements AddressBookService {
             throw new IllegalArgumentException("Gender must be given");
         }
 
-        return persons.stream()
-                .filter(p -> p != null && gender.equals(p.getGender()))
-                .count();
+        return currentSnapshot.getGenderCount(gender);
     }
 
     @Override
     public Optional<Person> getOldestPerson() {
 
-        validatePersons();
+        return getSnapshot().getOldestPerson();
+    }
 
-        return persons.stream()
-                .sorted((p1, p2) -> {
+    @Override
+    public List<Person> getOldestPersons(int count) {
 
-                    boolean isP1Valid = p1 != null && p1.getBirthDate() != null;
-                    if (!isP1Valid) {
-                        return 1;
-                    }
+        return getSnapshot().getOldestPersons(count);
+    }
 
-                    boolean isP2Valid = p2 != null && p2.getBirthDate() != null;
-                    if (!isP2Valid) {
-                        return -1;
-                    }
+    @Override
+    public List<Person> getYoungestPersons(int count) {
 
-                    return p1.getBirthDate().compareTo(p2.getBirthDate());
-                })
-                .findFirst();
+        return getSnapshot().getYoungestPersons(count);
     }
 
     @Override
     public Long getDaysPersonAIsOlderPersonB(String personAName, String personBName) {
 
-        validatePersons();
-
-        boolean areParamsValid = isNotBlank(personAName) && isNotBlank(personBName);
-        if (!areParamsValid) {
-            LOGGER.warning("Person name are (A and/or B) not given");
-            throw new IllegalArgumentException("PersonA and B names must be given");
-        }
+        return getSnapshot().getDaysPersonAIsOlderPersonB(personAName, personBName);
+    }
 
-        List<Person> persons = this.persons.parallelStream()
-                .filter(p -> p != null
-                        && p.getName() != null
-                        && (p.getName().contains(personAName) || p.getName().contains(personBName)))
-                .collect(Collectors.toList());
+    @Override
+    public Map<Pair<String, String>, Either<String, Long>> getDaysBetween(Collection<Pair<String, String>> personNamePairs) {
 
-        return calculateDaysBetweenPersons(persons, personAName, personBName);
+        return getSnapshot().getDaysBetween(personNamePairs);
     }
 
-    private void validatePersons() {
+    @Override
+    public Long countBornBetween(LocalDate from, LocalDate to, Gender gender) {
 
-        boolean isPersonsListValid = persons != null;
-        if (!isPersonsListValid) {
-            LOGGER.warning("Persons list not given");
-            throw new IllegalArgumentException("Persons list must be set");
-        }
+        return getSnapshot().getBirthDateHistogram().countBornBetween(from, to, gender);
     }
 
-    private Long calculateDaysBetweenPersons(List<Person> persons, String personAName, String personBName) {
+    @Override
+    public SortedMap<Integer, Long> getAgeHistogram(LocalDate referenceDate, int bucketYears, Gender gender) {
 
-        boolean areTwoPersonFound = persons.size() == 2;
-        if (!areTwoPersonFound) {
-            LOGGER.warning(join("Inaccurate sub results: Less or more then 2 peope found for ", personAName, " and ", personBName));
-            throw new IllegalArgumentException("Less than or more than 2 people found");
-        }
+        return getSnapshot().getBirthDateHistogram().getAgeHistogram(referenceDate, bucketYears, gender);
+    }
 
-        Person person1 = persons.get(0);
-        Person person2 = persons.get(1);
-        boolean isPerson1PersonA = person1.getName().contains(personAName) && person2.getName().contains(personBName);
-        boolean isPerson2PersonA = person2.getName().contains(personAName) && person1.getName().contains(personBName);
-
-        if (isPerson1PersonA) {
-            return DAYS.between(person1.getBirthDate(), person2.getBirthDate());
-        } else if (isPerson2PersonA) {
-            return DAYS.between(person2.getBirthDate(), person1.getBirthDate());
-        } else {
-            LOGGER.warning(join("Inaccurate sub results: One person found more times for ", personAName, " or ", personBName));
-            throw new IllegalArgumentException("Person A or B not found");
-        }
+    @Override
+    public PersonSummary summarize(int topCount) {
+
+        return getSnapshot().getPersons().parallelStream().collect(PersonSummary.collector(topCount));
     }
 }
@@ -0,0 +1,144 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.aggregation.GenderCountAccumulator;
+import com.addressbookprocessor.aggregation.OldestPersonAccumulator;
+import com.addressbookprocessor.aggregation.PersonAggregation;
+import com.addressbookprocessor.aggregation.TopPersonsAccumulator;
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+import io.vavr.control.Either;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import static com.addressbookprocessor.domain.PersonTable.NO_BIRTH_DATE;
+import static com.addressbookprocessor.domain.PersonTable.NO_GENDER;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+public final class AddressBookSnapshot {
+
+    private static final Logger LOGGER = Logger.getLogger(AddressBookSnapshot.class.getName());
+
+    private final List<Person> persons;
+
+    private final Map<Gender, Long> genderCounts;
+
+    private final Optional<Person> oldestPerson;
+
+    private final PersonPairResolver personPairResolver;
+
+    private final BirthDateHistogram birthDateHistogram;
+
+    private AddressBookSnapshot(List<Person> persons, Map<Gender, Long> genderCounts, Optional<Person> oldestPerson,
+                                PersonPairResolver personPairResolver, BirthDateHistogram birthDateHistogram) {
+
+        this.persons = persons;
+        this.genderCounts = genderCounts;
+        this.oldestPerson = oldestPerson;
+        this.personPairResolver = personPairResolver;
+        this.birthDateHistogram = birthDateHistogram;
+    }
+
+    public static AddressBookSnapshot of(List<Person> persons) {
+
+        boolean isParamValid = persons != null;
+        if (!isParamValid) {
+            LOGGER.warning("Persons list not given");
+            throw new IllegalArgumentException("Persons list must be set");
+        }
+
+        List<Person> snapshotPersons = unmodifiableList(new ArrayList<>(persons));
+
+        PersonAggregation aggregation = new PersonAggregation();
+        Map<Gender, GenderCountAccumulator> genderCountAccumulators = new EnumMap<>(Gender.class);
+        for (Gender gender : Gender.values()) {
+            genderCountAccumulators.put(gender, aggregation.register(new GenderCountAccumulator(gender)));
+        }
+        OldestPersonAccumulator oldestPerson = aggregation.register(new OldestPersonAccumulator());
+        aggregation.aggregate(snapshotPersons);
+
+        Map<Gender, Long> genderCounts = new EnumMap<>(Gender.class);
+        genderCountAccumulators.forEach((gender, count) -> genderCounts.put(gender, count.getResult()));
+
+        PersonNameIndex nameIndex = PersonNameIndex.of(snapshotPersons.size(), row -> nameOf(snapshotPersons.get(row)));
+
+        return new AddressBookSnapshot(
+                snapshotPersons,
+                unmodifiableMap(genderCounts),
+                oldestPerson.getResult(),
+                new PersonPairResolver(nameIndex::findContaining, snapshotPersons::get),
+                BirthDateHistogram.of(snapshotPersons.size(),
+                        row -> birthEpochDayOf(snapshotPersons.get(row)),
+                        row -> genderOrdinalOf(snapshotPersons.get(row))));
+    }
+
+    public List<Person> getPersons() {
+
+        return persons;
+    }
+
+    public Long getGenderCount(Gender gender) {
+
+        return genderCounts.get(gender);
+    }
+
+    public Optional<Person> getOldestPerson() {
+
+        return oldestPerson;
+    }
+
+    public List<Person> getOldestPersons(int count) {
+
+        TopPersonsAccumulator oldestPersons = TopPersonsAccumulator.oldest(count);
+        persons.forEach(oldestPersons::accumulate);
+
+        return oldestPersons.getResult();
+    }
+
+    public List<Person> getYoungestPersons(int count) {
+
+        TopPersonsAccumulator youngestPersons = TopPersonsAccumulator.youngest(count);
+        persons.forEach(youngestPersons::accumulate);
+
+        return youngestPersons.getResult();
+    }
+
+    public Long getDaysPersonAIsOlderPersonB(String personAName, String personBName) {
+
+        return personPairResolver.getDaysBetween(personAName, personBName);
+    }
+
+    public Map<Pair<String, String>, Either<String, Long>> getDaysBetween(Collection<Pair<String, String>> personNamePairs) {
+
+        return personPairResolver.getDaysBetween(personNamePairs);
+    }
+
+    public BirthDateHistogram getBirthDateHistogram() {
+
+        return birthDateHistogram;
+    }
+
+    private static int birthEpochDayOf(Person person) {
+
+        return person == null || person.getBirthDate() == null
+                ? NO_BIRTH_DATE
+                : Math.toIntExact(person.getBirthDate().toEpochDay());
+    }
+
+    private static int genderOrdinalOf(Person person) {
+
+        return person == null || person.getGender() == null ? NO_GENDER : person.getGender().ordinal();
+    }
+
+    private static String nameOf(Person person) {
+
+        return person == null ? null : person.getName();
+    }
+}
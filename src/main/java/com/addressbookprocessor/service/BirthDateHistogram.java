@@ -0,0 +1,197 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.domain.Gender;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.IntUnaryOperator;
+import java.util.logging.Logger;
+
+import static com.addressbookprocessor.domain.PersonTable.NO_BIRTH_DATE;
+import static java.util.Collections.unmodifiableSortedMap;
+
+public final class BirthDateHistogram {
+
+    private static final Logger LOGGER = Logger.getLogger(BirthDateHistogram.class.getName());
+
+    private static final int GENDER_COUNT = Gender.values().length;
+    private static final int ALL_GENDERS = GENDER_COUNT;
+    private static final int MAX_DENSE_DAYS = 1 << 20;
+
+    private final int[] birthEpochDays;
+
+    private final int[][] cumulativeCounts;
+
+    private BirthDateHistogram(int[] birthEpochDays, int[][] cumulativeCounts) {
+
+        this.birthEpochDays = birthEpochDays;
+        this.cumulativeCounts = cumulativeCounts;
+    }
+
+    public static BirthDateHistogram of(int size, IntUnaryOperator birthEpochDay, IntUnaryOperator genderOrdinal) {
+
+        int minEpochDay = Integer.MAX_VALUE;
+        int maxEpochDay = Integer.MIN_VALUE;
+        for (int row = 0; row < size; row++) {
+            int epochDay = birthEpochDay.applyAsInt(row);
+            if (epochDay != NO_BIRTH_DATE) {
+                minEpochDay = Math.min(minEpochDay, epochDay);
+                maxEpochDay = Math.max(maxEpochDay, epochDay);
+            }
+        }
+
+        boolean isDomainDense = minEpochDay <= maxEpochDay && (long) maxEpochDay - minEpochDay < MAX_DENSE_DAYS;
+        return isDomainDense
+                ? ofDense(size, birthEpochDay, genderOrdinal, minEpochDay, maxEpochDay - minEpochDay + 1)
+                : ofSorted(size, birthEpochDay, genderOrdinal);
+    }
+
+    /**
+     * Counts directly per day of the birth date domain, so building takes no memory proportional to the rows.
+     */
+    private static BirthDateHistogram ofDense(int size, IntUnaryOperator birthEpochDay, IntUnaryOperator genderOrdinal,
+                                              int minEpochDay, int dayRange) {
+
+        int[][] counts = new int[GENDER_COUNT + 1][dayRange];
+        for (int row = 0; row < size; row++) {
+            int epochDay = birthEpochDay.applyAsInt(row);
+            if (epochDay != NO_BIRTH_DATE) {
+                int gender = genderOrdinal.applyAsInt(row);
+                int day = epochDay - minEpochDay;
+                if (gender >= 0) {
+                    counts[gender][day]++;
+                }
+                counts[ALL_GENDERS][day]++;
+            }
+        }
+
+        int[] days = new int[dayRange];
+        int[][] cumulativeCounts = new int[GENDER_COUNT + 1][dayRange + 1];
+        int dayCount = 0;
+        for (int day = 0; day < dayRange; day++) {
+            if (counts[ALL_GENDERS][day] == 0) {
+                continue;
+            }
+            days[dayCount++] = minEpochDay + day;
+            for (int gender = 0; gender <= GENDER_COUNT; gender++) {
+                cumulativeCounts[gender][dayCount] = cumulativeCounts[gender][dayCount - 1] + counts[gender][day];
+            }
+        }
+
+        for (int gender = 0; gender <= GENDER_COUNT; gender++) {
+            cumulativeCounts[gender] = Arrays.copyOf(cumulativeCounts[gender], dayCount + 1);
+        }
+        return new BirthDateHistogram(Arrays.copyOf(days, dayCount), cumulativeCounts);
+    }
+
+    private static BirthDateHistogram ofSorted(int size, IntUnaryOperator birthEpochDay, IntUnaryOperator genderOrdinal) {
+
+        long[] keys = new long[size];
+        int keyCount = 0;
+        for (int row = 0; row < size; row++) {
+            int epochDay = birthEpochDay.applyAsInt(row);
+            if (epochDay != NO_BIRTH_DATE) {
+                int gender = genderOrdinal.applyAsInt(row);
+                keys[keyCount++] = (long) epochDay * (GENDER_COUNT + 1) + (gender < 0 ? GENDER_COUNT : gender);
+            }
+        }
+        Arrays.parallelSort(keys, 0, keyCount);
+
+        int[] days = new int[keyCount];
+        int[][] counts = new int[GENDER_COUNT + 1][keyCount + 1];
+        int dayCount = 0;
+        for (int i = 0; i < keyCount; i++) {
+            int epochDay = (int) Math.floorDiv(keys[i], GENDER_COUNT + 1);
+            int gender = (int) Math.floorMod(keys[i], GENDER_COUNT + 1);
+            if (dayCount == 0 || days[dayCount - 1] != epochDay) {
+                days[dayCount++] = epochDay;
+            }
+            if (gender < GENDER_COUNT) {
+                counts[gender][dayCount]++;
+            }
+            counts[ALL_GENDERS][dayCount]++;
+        }
+
+        int[][] cumulativeCounts = new int[GENDER_COUNT + 1][];
+        for (int gender = 0; gender <= GENDER_COUNT; gender++) {
+            int[] cumulative = Arrays.copyOf(counts[gender], dayCount + 1);
+            for (int i = 1; i <= dayCount; i++) {
+                cumulative[i] += cumulative[i - 1];
+            }
+            cumulativeCounts[gender] = cumulative;
+        }
+        return new BirthDateHistogram(Arrays.copyOf(days, dayCount), cumulativeCounts);
+    }
+
+    /**
+     * Counts persons born between both dates inclusive, of any gender when gender is null.
+     */
+    public Long countBornBetween(LocalDate from, LocalDate to, Gender gender) {
+
+        boolean isParamValid = from != null && to != null;
+        if (!isParamValid) {
+            LOGGER.warning("Birth date range not given");
+            throw new IllegalArgumentException("Birth date range must be given");
+        }
+
+        boolean isRangeValid = !from.isAfter(to);
+        if (!isRangeValid) {
+            LOGGER.warning("Birth date range starts after it ends");
+            throw new IllegalArgumentException("Birth date range must not start after it ends");
+        }
+
+        return (long) countBetween(from.toEpochDay(), to.toEpochDay(), gender);
+    }
+
+    /**
+     * Counts persons by completed years of age on the reference date, keyed by the lowest age of
+     * each bucket. Buckets run from age 0 to the oldest person, persons born later are left out.
+     */
+    public SortedMap<Integer, Long> getAgeHistogram(LocalDate referenceDate, int bucketYears, Gender gender) {
+
+        boolean isParamValid = referenceDate != null && bucketYears > 0;
+        if (!isParamValid) {
+            LOGGER.warning("Reference date not given or bucket size not positive");
+            throw new IllegalArgumentException("Reference date and positive bucket size must be given");
+        }
+
+        SortedMap<Integer, Long> ageHistogram = new TreeMap<>();
+        if (birthEpochDays.length == 0 || referenceDate.toEpochDay() < birthEpochDays[0]) {
+            return unmodifiableSortedMap(ageHistogram);
+        }
+
+        for (int bucket = 0; ; bucket++) {
+            long youngestAge = (long) bucket * bucketYears;
+            long latestBirthDay = referenceDate.minusYears(youngestAge).toEpochDay();
+            if (latestBirthDay < birthEpochDays[0]) {
+                break;
+            }
+            long earliestBirthDay = referenceDate.minusYears(youngestAge + bucketYears).toEpochDay() + 1;
+            ageHistogram.put((int) youngestAge, (long) countBetween(earliestBirthDay, latestBirthDay, gender));
+        }
+        return unmodifiableSortedMap(ageHistogram);
+    }
+
+    private int countBetween(long fromEpochDay, long toEpochDay, Gender gender) {
+
+        int[] cumulative = cumulativeCounts[gender == null ? ALL_GENDERS : gender.ordinal()];
+        return cumulative[firstIndexAfter(toEpochDay)] - cumulative[firstIndexAfter(fromEpochDay - 1)];
+    }
+
+    private int firstIndexAfter(long epochDay) {
+
+        int low = 0;
+        int high = birthEpochDays.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (birthEpochDays[middle] <= epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,88 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.aggregation.PersonSummary;
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.metrics.AddressBookMetrics;
+import io.vavr.control.Either;
+import lombok.AllArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+
+@AllArgsConstructor
+public class MetricsAddressBookService implements AddressBookService {
+
+    private final AddressBookService addressBookService;
+
+    private final AddressBookMetrics metrics;
+
+    @Override
+    public Long countPersonsOfGender(Gender gender) {
+
+        return metrics.timeQuery("countPersonsOfGender", () -> addressBookService.countPersonsOfGender(gender));
+    }
+
+    @Override
+    public Optional<Person> getOldestPerson() {
+
+        return metrics.timeQuery("getOldestPerson", addressBookService::getOldestPerson);
+    }
+
+    @Override
+    public List<Person> getOldestPersons(int count) {
+
+        return metrics.timeQuery("getOldestPersons", () -> addressBookService.getOldestPersons(count));
+    }
+
+    @Override
+    public List<Person> getYoungestPersons(int count) {
+
+        return metrics.timeQuery("getYoungestPersons", () -> addressBookService.getYoungestPersons(count));
+    }
+
+    @Override
+    public Long getDaysPersonAIsOlderPersonB(String personAName, String personBName) {
+
+        return metrics.timeQuery("getDaysPersonAIsOlderPersonB", () -> addressBookService.getDaysPersonAIsOlderPersonB(personAName, personBName));
+    }
+
+    @Override
+    public Map<Pair<String, String>, Either<String, Long>> getDaysBetween(Collection<Pair<String, String>> personNamePairs) {
+
+        return metrics.timeQuery("getDaysBetween", () -> addressBookService.getDaysBetween(personNamePairs));
+    }
+
+    @Override
+    public Long countBornBetween(LocalDate from, LocalDate to, Gender gender) {
+
+        return metrics.timeQuery("countBornBetween", () -> addressBookService.countBornBetween(from, to, gender));
+    }
+
+    @Override
+    public SortedMap<Integer, Long> getAgeHistogram(LocalDate referenceDate, int bucketYears, Gender gender) {
+
+        return metrics.timeQuery("getAgeHistogram", () -> addressBookService.getAgeHistogram(referenceDate, bucketYears, gender));
+    }
+
+    @Override
+    public PersonSummary summarize(int topCount) {
+
+        return metrics.timeQuery("summarize", () -> addressBookService.summarize(topCount));
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+
+        metrics.timeQuery("setPersons", () -> {
+
+            addressBookService.setPersons(persons);
+            return null;
+        });
+    }
+}
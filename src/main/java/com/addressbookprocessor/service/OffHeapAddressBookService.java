@@ -0,0 +1,64 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.domain.OffHeapPersonStore;
+import com.addressbookprocessor.domain.Person;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Address book service over an {@link OffHeapPersonStore}. No per row name index is kept on the heap, name
+ * lookups scan the off-heap name arena instead.
+ */
+@NoArgsConstructor
+public class OffHeapAddressBookService extends PersonRowsAddressBookService<OffHeapPersonStore> {
+
+    public OffHeapAddressBookService(OffHeapPersonStore personStore) {
+
+        setPersonStore(personStore);
+        validatePersonRows();
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+
+        if (persons == null) {
+            setPersonStore(null);
+            return;
+        }
+
+        OffHeapPersonStore.Builder builder = OffHeapPersonStore.builder();
+        persons.forEach(builder::add);
+        setPersonStore(builder.build());
+    }
+
+    public void setPersonStore(OffHeapPersonStore personStore) {
+
+        setPersonRows(personStore);
+    }
+
+    @Override
+    protected Function<String, int[]> rowsContainingName(OffHeapPersonStore personStore) {
+
+        return namePart -> findContaining(personStore, namePart.getBytes(UTF_8));
+    }
+
+    private static int[] findContaining(OffHeapPersonStore personStore, byte[] namePart) {
+
+        int[] rows = new int[16];
+        int count = 0;
+        for (int row = 0; row < personStore.size(); row++) {
+            if (personStore.nameContains(row, namePart)) {
+                if (count == rows.length) {
+                    rows = Arrays.copyOf(rows, count << 1);
+                }
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+}
@@ -0,0 +1,243 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.domain.NameDictionary;
+import com.addressbookprocessor.domain.PersonTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public final class PersonNameIndex {
+
+    private static final char TOKEN_SEPARATOR = ' ';
+    private static final int[] NO_ROWS = new int[0];
+
+    private final int size;
+
+    private final IntFunction<String> nameOfRow;
+
+    private final NameDictionary nameDictionary;
+
+    private final int[][] rowsByTokenId;
+
+    private final int[] tokenIdsByLength;
+
+    private final TokenTrigramIndex trigramIndex;
+
+    private PersonNameIndex(int size, IntFunction<String> nameOfRow, NameDictionary nameDictionary, int[][] rowsByTokenId) {
+
+        this.size = size;
+        this.nameOfRow = nameOfRow;
+        this.nameDictionary = nameDictionary;
+        this.rowsByTokenId = rowsByTokenId;
+        this.tokenIdsByLength = IntStream.range(0, rowsByTokenId.length)
+                .filter(tokenId -> rowsByTokenId[tokenId].length > 0)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(nameDictionary::tokenLength).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.trigramIndex = TokenTrigramIndex.of(nameDictionary, tokenId -> rowsByTokenId[tokenId].length > 0);
+    }
+
+    public static PersonNameIndex of(int size, IntFunction<String> nameOfRow) {
+
+        NameDictionary nameDictionary = NameDictionary.create();
+        RowLists tokenRows = new RowLists();
+        for (int row = 0; row < size; row++) {
+
+            String name = nameOfRow.apply(row);
+            if (name == null) {
+                continue;
+            }
+
+            byte[] nameBytes = name.getBytes(UTF_8);
+            int tokenStart = 0;
+            for (int i = 0; i <= nameBytes.length; i++) {
+                if (i == nameBytes.length || nameBytes[i] == TOKEN_SEPARATOR) {
+                    tokenRows.addOnce(nameDictionary.intern(nameBytes, tokenStart, i - tokenStart), row);
+                    tokenStart = i + 1;
+                }
+            }
+        }
+
+        return new PersonNameIndex(size, nameOfRow, nameDictionary, tokenRows.toArrays(nameDictionary.size()));
+    }
+
+    public static PersonNameIndex of(PersonTable personTable) {
+
+        RowLists tokenRows = new RowLists();
+        for (int row = 0; row < personTable.size(); row++) {
+            for (int token = 0; token < personTable.getNameTokenCount(row); token++) {
+                tokenRows.addOnce(personTable.getNameTokenId(row, token), row);
+            }
+        }
+
+        NameDictionary nameDictionary = personTable.getNameDictionary();
+        return new PersonNameIndex(personTable.size(), personTable::getName, nameDictionary,
+                tokenRows.toArrays(nameDictionary.size()));
+    }
+
+    public int[] findByToken(String token) {
+
+        int tokenId = nameDictionary.indexOf(token);
+        return tokenId == NameDictionary.NOT_FOUND ? NO_ROWS : rowsByTokenId[tokenId].clone();
+    }
+
+    public int[] findContaining(String namePart) {
+
+        if (namePart.indexOf(TOKEN_SEPARATOR) < 0) {
+            return findWithTokenContaining(namePart);
+        }
+
+        String longestToken = "";
+        for (String token : namePart.split(String.valueOf(TOKEN_SEPARATOR))) {
+            if (token.length() > longestToken.length()) {
+                longestToken = token;
+            }
+        }
+        return verifyContaining(longestToken.isEmpty() ? null : findWithTokenContaining(longestToken), namePart);
+    }
+
+    public int[] findContainingAny(String namePartA, String namePartB) {
+
+        return union(findContaining(namePartA), findContaining(namePartB));
+    }
+
+    static int[] union(int[] rowsA, int[] rowsB) {
+
+        int[] rows = new int[rowsA.length + rowsB.length];
+        int a = 0;
+        int b = 0;
+        int count = 0;
+        while (a < rowsA.length || b < rowsB.length) {
+
+            int row;
+            if (b == rowsB.length || (a < rowsA.length && rowsA[a] < rowsB[b])) {
+                row = rowsA[a++];
+            } else if (a == rowsA.length || rowsB[b] < rowsA[a]) {
+                row = rowsB[b++];
+            } else {
+                row = rowsA[a++];
+                b++;
+            }
+            rows[count++] = row;
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    private int[] findWithTokenContaining(String tokenPart) {
+
+        byte[] tokenPartBytes = tokenPart.getBytes(UTF_8);
+        List<int[]> matchedRows = new ArrayList<>();
+        if (tokenPartBytes.length >= TokenTrigramIndex.GRAM_LENGTH) {
+            for (int tokenId : trigramIndex.findCandidates(tokenPartBytes)) {
+                if (nameDictionary.tokenContains(tokenId, tokenPartBytes)) {
+                    matchedRows.add(rowsByTokenId[tokenId]);
+                }
+            }
+        } else {
+            addRowsOfTokensContainingShortPart(matchedRows, tokenPart, tokenPartBytes);
+        }
+
+        if (matchedRows.isEmpty()) {
+            return NO_ROWS;
+        }
+        if (matchedRows.size() == 1) {
+            return matchedRows.get(0).clone();
+        }
+        while (matchedRows.size() > 1) {
+
+            List<int[]> mergedRows = new ArrayList<>((matchedRows.size() + 1) / 2);
+            for (int i = 0; i < matchedRows.size(); i += 2) {
+                mergedRows.add(i + 1 < matchedRows.size() ? union(matchedRows.get(i), matchedRows.get(i + 1)) : matchedRows.get(i));
+            }
+            matchedRows = mergedRows;
+        }
+        return matchedRows.get(0);
+    }
+
+    /**
+     * Parts shorter than a trigram are found by the exact token and a scan of the longer tokens, longest first, which
+     * costs a pass over the dictionary but such parts match a large share of the rows anyway.
+     */
+    private void addRowsOfTokensContainingShortPart(List<int[]> matchedRows, String tokenPart, byte[] tokenPartBytes) {
+
+        int exactTokenId = nameDictionary.indexOf(tokenPart);
+        if (exactTokenId != NameDictionary.NOT_FOUND) {
+            matchedRows.add(rowsByTokenId[exactTokenId]);
+        }
+
+        for (int i = 0; i < tokenIdsByLength.length; i++) {
+
+            int tokenId = tokenIdsByLength[i];
+            if (nameDictionary.tokenLength(tokenId) <= tokenPartBytes.length) {
+                break;
+            }
+            if (nameDictionary.tokenContains(tokenId, tokenPartBytes)) {
+                matchedRows.add(rowsByTokenId[tokenId]);
+            }
+        }
+    }
+
+    private int[] verifyContaining(int[] candidates, String namePart) {
+
+        int candidateCount = candidates == null ? size : candidates.length;
+        int[] rows = new int[candidateCount];
+        int count = 0;
+        for (int i = 0; i < candidateCount; i++) {
+
+            int row = candidates == null ? i : candidates[i];
+            String name = nameOfRow.apply(row);
+            if (name != null && name.contains(namePart)) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    private static final class RowLists {
+
+        private int[][] rows = new int[256][];
+
+        private int[] counts = new int[256];
+
+        private void addOnce(int tokenId, int row) {
+
+            if (tokenId >= rows.length) {
+                int capacity = Math.max(tokenId + 1, rows.length * 2);
+                rows = Arrays.copyOf(rows, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+            }
+
+            int[] tokenRows = rows[tokenId];
+            int count = counts[tokenId];
+            if (tokenRows == null) {
+                tokenRows = new int[2];
+                rows[tokenId] = tokenRows;
+            } else if (tokenRows[count - 1] == row) {
+                return;
+            } else if (count == tokenRows.length) {
+                tokenRows = Arrays.copyOf(tokenRows, count * 2);
+                rows[tokenId] = tokenRows;
+            }
+            tokenRows[count] = row;
+            counts[tokenId] = count + 1;
+        }
+
+        private int[][] toArrays(int tokenCount) {
+
+            int[][] rowArrays = new int[tokenCount][];
+            for (int tokenId = 0; tokenId < tokenCount; tokenId++) {
+                rowArrays[tokenId] = tokenId < rows.length && rows[tokenId] != null
+                        ? Arrays.copyOf(rows[tokenId], counts[tokenId])
+                        : NO_ROWS;
+            }
+            return rowArrays;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.aggregation.DaysBetweenPersonsAccumulator;
+import com.addressbookprocessor.domain.Person;
+import io.vavr.control.Either;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+final class PersonPairResolver {
+
+    private static final Logger LOGGER = Logger.getLogger(PersonPairResolver.class.getName());
+
+    private final Function<String, int[]> rowsContaining;
+
+    private final IntFunction<Person> personOfRow;
+
+    PersonPairResolver(Function<String, int[]> rowsContaining, IntFunction<Person> personOfRow) {
+
+        this.rowsContaining = rowsContaining;
+        this.personOfRow = personOfRow;
+    }
+
+    Long getDaysBetween(String personAName, String personBName) {
+
+        DaysBetweenPersonsAccumulator daysBetweenPersons = new DaysBetweenPersonsAccumulator(personAName, personBName);
+        accumulate(daysBetweenPersons, PersonNameIndex.union(rowsContaining.apply(personAName), rowsContaining.apply(personBName)));
+
+        return daysBetweenPersons.getResult();
+    }
+
+    Map<Pair<String, String>, Either<String, Long>> getDaysBetween(Collection<Pair<String, String>> personNamePairs) {
+
+        boolean isParamValid = personNamePairs != null && !personNamePairs.contains(null);
+        if (!isParamValid) {
+            LOGGER.warning("Person name pairs not given");
+            throw new IllegalArgumentException("Person name pairs must be given");
+        }
+
+        Map<String, int[]> rowsByName = new HashMap<>();
+        Map<Pair<String, String>, Either<String, Long>> daysByPair = new LinkedHashMap<>();
+        for (Pair<String, String> personNamePair : personNamePairs) {
+
+            String personAName = personNamePair.getLeft();
+            String personBName = personNamePair.getRight();
+            boolean areNamesValid = isNotBlank(personAName) && isNotBlank(personBName);
+            if (!areNamesValid) {
+                daysByPair.put(personNamePair, Either.left("PersonA and B names must be given"));
+                continue;
+            }
+
+            int[] rows = PersonNameIndex.union(
+                    rowsByName.computeIfAbsent(personAName, rowsContaining),
+                    rowsByName.computeIfAbsent(personBName, rowsContaining));
+            DaysBetweenPersonsAccumulator daysBetweenPersons = new DaysBetweenPersonsAccumulator(personAName, personBName);
+            accumulate(daysBetweenPersons, rows);
+            daysByPair.put(personNamePair, daysBetweenPersons.getResultOrError());
+        }
+        return daysByPair;
+    }
+
+    private void accumulate(DaysBetweenPersonsAccumulator daysBetweenPersons, int[] rows) {
+
+        int matchLimit = Math.min(rows.length, 3);
+        for (int i = 0; i < matchLimit; i++) {
+            daysBetweenPersons.accumulate(personOfRow.apply(rows[i]));
+        }
+    }
+}
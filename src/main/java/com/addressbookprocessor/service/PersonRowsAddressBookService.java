@@ -0,0 +1,291 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.aggregation.PersonSummary;
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.domain.PersonRows;
+import io.vavr.Lazy;
+import io.vavr.control.Either;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import static com.addressbookprocessor.domain.PersonTable.NO_BIRTH_DATE;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Answers the address book queries by scanning person rows column-wise, persons are only created for results.
+ * Subclasses decide where the rows live and how rows are looked up by name.
+ */
+public abstract class PersonRowsAddressBookService<R extends PersonRows> implements AddressBookService {
+
+    private static final Logger LOGGER = Logger.getLogger(PersonRowsAddressBookService.class.getName());
+
+    private final AtomicReference<RowsSnapshot<R>> snapshot = new AtomicReference<>();
+
+    protected abstract Function<String, int[]> rowsContainingName(R personRows);
+
+    /**
+     * Publishes the rows together with their name lookup and birth date histogram at once, queries running
+     * concurrently keep answering from the rows they started with. Lookup and histogram are built by the first
+     * query needing them, so scans over freshly mapped rows start right away.
+     */
+    protected void setPersonRows(R personRows) {
+
+        snapshot.set(personRows == null ? null : new RowsSnapshot<>(personRows,
+                Lazy.of(() -> new PersonPairResolver(rowsContainingName(personRows), personRows::getPerson)),
+                Lazy.of(() -> BirthDateHistogram.of(personRows.size(), personRows::getBirthEpochDay,
+                        personRows::getGenderOrdinal))));
+    }
+
+    @Override
+    public Long countPersonsOfGender(Gender gender) {
+
+        RowsSnapshot<R> currentSnapshot = getRowsSnapshot();
+
+        boolean isParamValid = gender != null;
+        if (!isParamValid) {
+            LOGGER.warning("Gender not given");
+            throw new IllegalArgumentException("Gender must be given");
+        }
+
+        return countGenderOrdinal(currentSnapshot.personRows, (byte) gender.ordinal());
+    }
+
+    @Override
+    public Optional<Person> getOldestPerson() {
+
+        R rows = getRowsSnapshot().personRows;
+        if (rows.size() == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(rows.getPerson(findOldestRow(rows)));
+    }
+
+    @Override
+    public List<Person> getOldestPersons(int count) {
+
+        return getTopPersons(getRowsSnapshot().personRows, count, true);
+    }
+
+    @Override
+    public List<Person> getYoungestPersons(int count) {
+
+        return getTopPersons(getRowsSnapshot().personRows, count, false);
+    }
+
+    @Override
+    public Long getDaysPersonAIsOlderPersonB(String personAName, String personBName) {
+
+        return getRowsSnapshot().personPairResolver.get().getDaysBetween(personAName, personBName);
+    }
+
+    @Override
+    public Map<Pair<String, String>, Either<String, Long>> getDaysBetween(Collection<Pair<String, String>> personNamePairs) {
+
+        return getRowsSnapshot().personPairResolver.get().getDaysBetween(personNamePairs);
+    }
+
+    @Override
+    public Long countBornBetween(LocalDate from, LocalDate to, Gender gender) {
+
+        return getRowsSnapshot().birthDateHistogram.get().countBornBetween(from, to, gender);
+    }
+
+    @Override
+    public SortedMap<Integer, Long> getAgeHistogram(LocalDate referenceDate, int bucketYears, Gender gender) {
+
+        return getRowsSnapshot().birthDateHistogram.get().getAgeHistogram(referenceDate, bucketYears, gender);
+    }
+
+    @Override
+    public PersonSummary summarize(int topCount) {
+
+        R rows = getRowsSnapshot().personRows;
+        return IntStream.range(0, rows.size())
+                .parallel()
+                .mapToObj(rows::getPerson)
+                .collect(PersonSummary.collector(topCount));
+    }
+
+    protected long countGenderOrdinal(R rows, byte genderOrdinal) {
+
+        long count = 0;
+        for (int row = 0; row < rows.size(); row++) {
+            if (rows.getGenderOrdinal(row) == genderOrdinal) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    protected int findOldestRow(R rows) {
+
+        int oldestRow = 0;
+        int oldestEpochDay = rows.getBirthEpochDay(0);
+        for (int row = 1; row < rows.size(); row++) {
+            int birthEpochDay = rows.getBirthEpochDay(row);
+            if (birthEpochDay < oldestEpochDay) {
+                oldestRow = row;
+                oldestEpochDay = birthEpochDay;
+            }
+        }
+        return oldestRow;
+    }
+
+    private List<Person> getTopPersons(R rows, int count, boolean isOldestFirst) {
+
+        boolean isParamValid = count > 0;
+        if (!isParamValid) {
+            LOGGER.warning("Count of persons not positive");
+            throw new IllegalArgumentException("Count of persons must be positive");
+        }
+
+        RowHeap rowHeap = new RowHeap(rows, Math.min(count, rows.size()), isOldestFirst);
+        for (int row = 0; row < rows.size(); row++) {
+            if (rows.getBirthEpochDay(row) != NO_BIRTH_DATE) {
+                rowHeap.offer(row);
+            }
+        }
+
+        int[] topRows = rowHeap.drainBestFirst();
+        List<Person> persons = new ArrayList<>(topRows.length);
+        for (int row : topRows) {
+            persons.add(rows.getPerson(row));
+        }
+        return unmodifiableList(persons);
+    }
+
+    protected void validatePersonRows() {
+
+        getRowsSnapshot();
+    }
+
+    private RowsSnapshot<R> getRowsSnapshot() {
+
+        RowsSnapshot<R> currentSnapshot = snapshot.get();
+        boolean isPersonRowsValid = currentSnapshot != null;
+        if (!isPersonRowsValid) {
+            LOGGER.warning("Persons list not given");
+            throw new IllegalArgumentException("Persons list must be set");
+        }
+        return currentSnapshot;
+    }
+
+    private static final class RowsSnapshot<R extends PersonRows> {
+
+        private final R personRows;
+
+        private final Lazy<PersonPairResolver> personPairResolver;
+
+        private final Lazy<BirthDateHistogram> birthDateHistogram;
+
+        private RowsSnapshot(R personRows, Lazy<PersonPairResolver> personPairResolver,
+                             Lazy<BirthDateHistogram> birthDateHistogram) {
+
+            this.personRows = personRows;
+            this.personPairResolver = personPairResolver;
+            this.birthDateHistogram = birthDateHistogram;
+        }
+    }
+
+    private static final class RowHeap {
+
+        private final PersonRows personRows;
+
+        private final int[] rows;
+
+        private final boolean isOldestFirst;
+
+        private int size;
+
+        private RowHeap(PersonRows personRows, int capacity, boolean isOldestFirst) {
+
+            this.personRows = personRows;
+            this.rows = new int[capacity];
+            this.isOldestFirst = isOldestFirst;
+        }
+
+        private void offer(int row) {
+
+            if (size < rows.length) {
+                rows[size] = row;
+                siftUp(size++);
+            } else if (size > 0 && isBetter(row, rows[0])) {
+                rows[0] = row;
+                siftDown(0, size);
+            }
+        }
+
+        private int[] drainBestFirst() {
+
+            int remaining = size;
+            while (remaining > 1) {
+                swap(0, --remaining);
+                siftDown(0, remaining);
+            }
+            return Arrays.copyOf(rows, size);
+        }
+
+        private boolean isBetter(int row, int otherRow) {
+
+            int birthEpochDay = personRows.getBirthEpochDay(row);
+            int otherBirthEpochDay = personRows.getBirthEpochDay(otherRow);
+            if (birthEpochDay != otherBirthEpochDay) {
+                return isOldestFirst ? birthEpochDay < otherBirthEpochDay : birthEpochDay > otherBirthEpochDay;
+            }
+            return row < otherRow;
+        }
+
+        private void siftUp(int index) {
+
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!isBetter(rows[parent], rows[index])) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index, int heapSize) {
+
+            while (true) {
+                int worst = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < heapSize && isBetter(rows[worst], rows[left])) {
+                    worst = left;
+                }
+                if (right < heapSize && isBetter(rows[worst], rows[right])) {
+                    worst = right;
+                }
+                if (worst == index) {
+                    return;
+                }
+                swap(index, worst);
+                index = worst;
+            }
+        }
+
+        private void swap(int first, int second) {
+
+            int row = rows[first];
+            rows[first] = rows[second];
+            rows[second] = row;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.domain.PersonTable;
+import com.addressbookprocessor.domain.ScanKernel;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+public class PersonTableAddressBookService extends PersonRowsAddressBookService<PersonTable> {
+
+    private static final Logger LOGGER = Logger.getLogger(PersonTableAddressBookService.class.getName());
+
+    private final ScanKernel scanKernel;
+
+    public PersonTableAddressBookService() {
+
+        this(ScanKernel.BRANCH_FREE);
+    }
+
+    public PersonTableAddressBookService(ScanKernel scanKernel) {
+
+        boolean isParamValid = scanKernel != null;
+        if (!isParamValid) {
+            LOGGER.warning("Scan kernel not given");
+            throw new IllegalArgumentException("Scan kernel must be given");
+        }
+
+        this.scanKernel = scanKernel;
+    }
+
+    public PersonTableAddressBookService(PersonTable personTable) {
+
+        this(personTable, ScanKernel.BRANCH_FREE);
+    }
+
+    public PersonTableAddressBookService(PersonTable personTable, ScanKernel scanKernel) {
+
+        this(scanKernel);
+        setPersonTable(personTable);
+        validatePersonRows();
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+
+        if (persons == null) {
+            setPersonTable(null);
+            return;
+        }
+
+        PersonTable.Builder builder = PersonTable.builder();
+        persons.forEach(builder::add);
+        setPersonTable(builder.build());
+    }
+
+    public void setPersonTable(PersonTable personTable) {
+
+        setPersonRows(personTable);
+    }
+
+    @Override
+    protected Function<String, int[]> rowsContainingName(PersonTable personTable) {
+
+        return PersonNameIndex.of(personTable)::findContaining;
+    }
+
+    @Override
+    protected long countGenderOrdinal(PersonTable personTable, byte genderOrdinal) {
+
+        return personTable.countGenderOrdinal(genderOrdinal, scanKernel);
+    }
+
+    @Override
+    protected int findOldestRow(PersonTable personTable) {
+
+        return personTable.findOldestRow(scanKernel);
+    }
+}
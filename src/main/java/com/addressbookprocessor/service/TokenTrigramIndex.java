@@ -0,0 +1,131 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.domain.NameDictionary;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Trigrams of the dictionary tokens, each with the ascending ids of the tokens holding it. A token containing a part
+ * holds every trigram of the part, so intersecting their token ids narrows a substring lookup to a few candidates.
+ */
+final class TokenTrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final int[] NO_TOKENS = new int[0];
+
+    private final int[] grams;
+
+    private final int[] tokenIdOffsets;
+
+    private final int[] tokenIds;
+
+    private TokenTrigramIndex(int[] grams, int[] tokenIdOffsets, int[] tokenIds) {
+
+        this.grams = grams;
+        this.tokenIdOffsets = tokenIdOffsets;
+        this.tokenIds = tokenIds;
+    }
+
+    static TokenTrigramIndex of(NameDictionary nameDictionary, IntPredicate isTokenIndexed) {
+
+        long gramCount = 0;
+        int maxTokenLength = 0;
+        for (int tokenId = 0; tokenId < nameDictionary.size(); tokenId++) {
+            if (isTokenIndexed.test(tokenId)) {
+                int tokenLength = nameDictionary.tokenLength(tokenId);
+                gramCount += Math.max(0, tokenLength - GRAM_LENGTH + 1);
+                maxTokenLength = Math.max(maxTokenLength, tokenLength);
+            }
+        }
+
+        long[] keys = new long[Math.toIntExact(gramCount)];
+        byte[] token = new byte[maxTokenLength];
+        int keyCount = 0;
+        for (int tokenId = 0; tokenId < nameDictionary.size(); tokenId++) {
+            if (!isTokenIndexed.test(tokenId)) {
+                continue;
+            }
+            int tokenLength = nameDictionary.copyToken(tokenId, token, 0);
+            for (int i = 0; i + GRAM_LENGTH <= tokenLength; i++) {
+                keys[keyCount++] = (long) gram(token, i) << Integer.SIZE | tokenId;
+            }
+        }
+        Arrays.parallelSort(keys, 0, keyCount);
+
+        int[] grams = new int[keyCount];
+        int[] tokenIdOffsets = new int[keyCount + 1];
+        int[] tokenIds = new int[keyCount];
+        int distinctGrams = 0;
+        int tokenIdCount = 0;
+        for (int i = 0; i < keyCount; i++) {
+            if (i > 0 && keys[i] == keys[i - 1]) {
+                continue;
+            }
+            int gram = (int) (keys[i] >>> Integer.SIZE);
+            if (distinctGrams == 0 || grams[distinctGrams - 1] != gram) {
+                grams[distinctGrams] = gram;
+                tokenIdOffsets[distinctGrams] = tokenIdCount;
+                distinctGrams++;
+            }
+            tokenIds[tokenIdCount++] = (int) keys[i];
+        }
+        tokenIdOffsets[distinctGrams] = tokenIdCount;
+
+        return new TokenTrigramIndex(Arrays.copyOf(grams, distinctGrams), Arrays.copyOf(tokenIdOffsets, distinctGrams + 1),
+                Arrays.copyOf(tokenIds, tokenIdCount));
+    }
+
+    /**
+     * Ascending ids of the tokens holding every trigram of the part, a superset of the tokens containing it. The part
+     * must be at least a trigram long.
+     */
+    int[] findCandidates(byte[] part) {
+
+        int partGrams = part.length - GRAM_LENGTH + 1;
+        int[] gramIndexes = new int[partGrams];
+        int rarestGram = 0;
+        for (int i = 0; i < partGrams; i++) {
+
+            int gramIndex = Arrays.binarySearch(grams, gram(part, i));
+            if (gramIndex < 0) {
+                return NO_TOKENS;
+            }
+            gramIndexes[i] = gramIndex;
+            if (postingSize(gramIndex) < postingSize(gramIndexes[rarestGram])) {
+                rarestGram = i;
+            }
+        }
+
+        int rarestGramIndex = gramIndexes[rarestGram];
+        int[] candidates = new int[postingSize(rarestGramIndex)];
+        int candidateCount = 0;
+        for (int i = tokenIdOffsets[rarestGramIndex]; i < tokenIdOffsets[rarestGramIndex + 1]; i++) {
+            if (holdsAllGrams(tokenIds[i], gramIndexes)) {
+                candidates[candidateCount++] = tokenIds[i];
+            }
+        }
+        return Arrays.copyOf(candidates, candidateCount);
+    }
+
+    private boolean holdsAllGrams(int tokenId, int[] gramIndexes) {
+
+        for (int gramIndex : gramIndexes) {
+            if (Arrays.binarySearch(tokenIds, tokenIdOffsets[gramIndex], tokenIdOffsets[gramIndex + 1], tokenId) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int postingSize(int gramIndex) {
+
+        return tokenIdOffsets[gramIndex + 1] - tokenIdOffsets[gramIndex];
+    }
+
+    private static int gram(byte[] bytes, int offset) {
+
+        return (bytes[offset] & 0xFF) << 16 | (bytes[offset + 1] & 0xFF) << 8 | bytes[offset + 2] & 0xFF;
+    }
+}
@@ -0,0 +1,119 @@
+package com.addressbookprocessor.sketch;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * Histogram of birth dates in fixed buckets of days over a bounded date range, dates outside of it are counted in
+ * the first or last bucket. Quantiles are exact up to the bucket width.
+ */
+public final class BirthDateQuantileSketch implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(BirthDateQuantileSketch.class.getName());
+
+    private static final LocalDate DEFAULT_FIRST_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate DEFAULT_LAST_DATE = LocalDate.of(2099, 12, 31);
+    private static final int DEFAULT_BUCKET_DAYS = 30;
+
+    private final long firstEpochDay;
+
+    private final int bucketDays;
+
+    private final long[] counts;
+
+    private long totalCount;
+
+    public BirthDateQuantileSketch(LocalDate firstDate, LocalDate lastDate, int bucketDays) {
+
+        boolean areParamsValid = firstDate != null && lastDate != null && !firstDate.isAfter(lastDate) && bucketDays > 0;
+        if (!areParamsValid) {
+            LOGGER.warning("Birth date sketch range or bucket size invalid");
+            throw new IllegalArgumentException("Birth date sketch range must be given in order and bucket size be positive");
+        }
+
+        this.firstEpochDay = firstDate.toEpochDay();
+        this.bucketDays = bucketDays;
+        this.counts = new long[(int) ((lastDate.toEpochDay() - firstEpochDay) / bucketDays) + 1];
+    }
+
+    public static BirthDateQuantileSketch create() {
+
+        return new BirthDateQuantileSketch(DEFAULT_FIRST_DATE, DEFAULT_LAST_DATE, DEFAULT_BUCKET_DAYS);
+    }
+
+    public void add(long birthEpochDay) {
+
+        long bucket = Math.floorDiv(birthEpochDay - firstEpochDay, bucketDays);
+        counts[(int) Math.max(0, Math.min(counts.length - 1, bucket))]++;
+        totalCount++;
+    }
+
+    /**
+     * Birth date below which the given fraction of persons were born, the middle day of the bucket holding it.
+     */
+    public Optional<LocalDate> getQuantile(double fraction) {
+
+        boolean isParamValid = fraction >= 0 && fraction <= 1;
+        if (!isParamValid) {
+            LOGGER.warning("Quantile fraction out of range");
+            throw new IllegalArgumentException("Quantile fraction must be between 0 and 1");
+        }
+
+        if (totalCount == 0) {
+            return Optional.empty();
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(fraction * totalCount));
+        long cumulativeCount = 0;
+        int bucket = 0;
+        while (cumulativeCount + counts[bucket] < rank) {
+            cumulativeCount += counts[bucket++];
+        }
+        return Optional.of(LocalDate.ofEpochDay(firstEpochDay + (long) bucket * bucketDays + bucketDays / 2));
+    }
+
+    /**
+     * Age in completed years on the reference date that the given fraction of persons do not exceed.
+     */
+    public Optional<Long> getAgePercentile(LocalDate referenceDate, double fraction) {
+
+        boolean isParamValid = referenceDate != null;
+        if (!isParamValid) {
+            LOGGER.warning("Reference date not given");
+            throw new IllegalArgumentException("Reference date must be given");
+        }
+
+        return getQuantile(1 - fraction).map(birthDate -> ChronoUnit.YEARS.between(birthDate, referenceDate));
+    }
+
+    public long getTotalCount() {
+
+        return totalCount;
+    }
+
+    public int getBucketDays() {
+
+        return bucketDays;
+    }
+
+    public BirthDateQuantileSketch merge(BirthDateQuantileSketch other) {
+
+        boolean isParamValid = other != null && other.firstEpochDay == firstEpochDay && other.bucketDays == bucketDays
+                && other.counts.length == counts.length;
+        if (!isParamValid) {
+            LOGGER.warning("Birth date sketch to merge not given or of other buckets");
+            throw new IllegalArgumentException("Birth date sketch to merge must be given and have the same buckets");
+        }
+
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            counts[bucket] += other.counts[bucket];
+        }
+        totalCount += other.totalCount;
+        return this;
+    }
+}
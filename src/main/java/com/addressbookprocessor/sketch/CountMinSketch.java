@@ -0,0 +1,95 @@
+package com.addressbookprocessor.sketch;
+
+import java.io.Serializable;
+import java.util.logging.Logger;
+
+/**
+ * Frequency estimates of 64-bit hashes that never undercount and, with probability {@code 1 - delta}, overcount
+ * by at most {@code epsilon} times the total count.
+ */
+public final class CountMinSketch implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(CountMinSketch.class.getName());
+
+    private final int width;
+
+    private final int depth;
+
+    private final long[] counts;
+
+    private long totalCount;
+
+    public CountMinSketch(int width, int depth) {
+
+        boolean areParamsValid = width > 0 && depth > 0 && (long) width * depth <= Integer.MAX_VALUE;
+        if (!areParamsValid) {
+            LOGGER.warning("Count-min sketch dimensions not positive or too large");
+            throw new IllegalArgumentException("Count-min sketch width and depth must be positive");
+        }
+
+        this.width = width;
+        this.depth = depth;
+        this.counts = new long[width * depth];
+    }
+
+    public static CountMinSketch withErrorBounds(double epsilon, double delta) {
+
+        boolean areParamsValid = epsilon > 0 && epsilon < 1 && delta > 0 && delta < 1;
+        if (!areParamsValid) {
+            LOGGER.warning("Count-min sketch error bounds out of range");
+            throw new IllegalArgumentException("Count-min sketch epsilon and delta must be between 0 and 1");
+        }
+
+        return new CountMinSketch((int) Math.ceil(Math.E / epsilon), (int) Math.ceil(Math.log(1 / delta)));
+    }
+
+    public void add(long hash, long count) {
+
+        for (int row = 0; row < depth; row++) {
+            counts[index(row, hash)] += count;
+        }
+        totalCount += count;
+    }
+
+    public long estimateCount(long hash) {
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[index(row, hash)]);
+        }
+        return estimate;
+    }
+
+    public long getTotalCount() {
+
+        return totalCount;
+    }
+
+    public double getEpsilon() {
+
+        return Math.E / width;
+    }
+
+    public CountMinSketch merge(CountMinSketch other) {
+
+        boolean isParamValid = other != null && other.width == width && other.depth == depth;
+        if (!isParamValid) {
+            LOGGER.warning("Count-min sketch to merge not given or of other dimensions");
+            throw new IllegalArgumentException("Count-min sketch to merge must be given and have the same dimensions");
+        }
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        return this;
+    }
+
+    private int index(int row, long hash) {
+
+        int combinedHash = (int) hash + row * (int) (hash >>> 32);
+        return row * width + (combinedHash & Integer.MAX_VALUE) % width;
+    }
+}
@@ -0,0 +1,95 @@
+package com.addressbookprocessor.sketch;
+
+import java.io.Serializable;
+import java.util.logging.Logger;
+
+/**
+ * Estimates the number of distinct 64-bit hashes in {@code 2^precision} bytes, with a relative standard error of
+ * about {@code 1.04 / sqrt(2^precision)}.
+ */
+public final class HyperLogLog implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(HyperLogLog.class.getName());
+
+    private static final int MIN_PRECISION = 4;
+    private static final int MAX_PRECISION = 18;
+
+    private final int precision;
+
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+
+        boolean isParamValid = precision >= MIN_PRECISION && precision <= MAX_PRECISION;
+        if (!isParamValid) {
+            LOGGER.warning("HyperLogLog precision out of range");
+            throw new IllegalArgumentException("HyperLogLog precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION);
+        }
+
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public void add(long hash) {
+
+        int register = (int) (hash >>> (Long.SIZE - precision));
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[register]) {
+            registers[register] = (byte) rank;
+        }
+    }
+
+    public long estimate() {
+
+        int registerCount = registers.length;
+        double inverseSum = 0;
+        int emptyRegisters = 0;
+        for (byte rank : registers) {
+            inverseSum += 1.0 / (1L << rank);
+            if (rank == 0) {
+                emptyRegisters++;
+            }
+        }
+
+        double estimate = alpha(registerCount) * registerCount * registerCount / inverseSum;
+        if (estimate <= 2.5 * registerCount && emptyRegisters > 0) {
+            estimate = registerCount * Math.log((double) registerCount / emptyRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    public double getRelativeStandardError() {
+
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    public HyperLogLog merge(HyperLogLog other) {
+
+        boolean isParamValid = other != null && other.precision == precision;
+        if (!isParamValid) {
+            LOGGER.warning("HyperLogLog to merge not given or of other precision");
+            throw new IllegalArgumentException("HyperLogLog to merge must be given and have the same precision");
+        }
+
+        for (int register = 0; register < registers.length; register++) {
+            registers[register] = (byte) Math.max(registers[register], other.registers[register]);
+        }
+        return this;
+    }
+
+    private static double alpha(int registerCount) {
+
+        switch (registerCount) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / registerCount);
+        }
+    }
+}
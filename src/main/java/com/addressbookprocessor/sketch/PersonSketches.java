@@ -0,0 +1,198 @@
+package com.addressbookprocessor.sketch;
+
+import com.addressbookprocessor.aggregation.PersonAccumulator;
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collector;
+
+import static com.addressbookprocessor.domain.PersonTable.NO_BIRTH_DATE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Approximate answers over an address book in constant memory: distinct names, name frequencies, birth date
+ * quantiles and a preview sample. Rows can be fed straight from the parser, persons are only created for the
+ * sample, and sketches of separate partitions merge into the sketches of the whole book.
+ */
+public final class PersonSketches implements PersonAccumulator<PersonSketches>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(PersonSketches.class.getName());
+
+    private static final int DEFAULT_PRECISION = 14;
+    private static final double DEFAULT_EPSILON = 0.001;
+    private static final double DEFAULT_DELTA = 0.01;
+    private static final int DEFAULT_SAMPLE_SIZE = 100;
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final HyperLogLog distinctNames;
+
+    private final CountMinSketch nameFrequencies;
+
+    private final BirthDateQuantileSketch birthDates;
+
+    private final ReservoirSample<Person> sample;
+
+    private long personCount;
+
+    public PersonSketches() {
+
+        this(new HyperLogLog(DEFAULT_PRECISION), CountMinSketch.withErrorBounds(DEFAULT_EPSILON, DEFAULT_DELTA),
+                BirthDateQuantileSketch.create(), new ReservoirSample<>(DEFAULT_SAMPLE_SIZE));
+    }
+
+    public PersonSketches(HyperLogLog distinctNames, CountMinSketch nameFrequencies, BirthDateQuantileSketch birthDates,
+                          ReservoirSample<Person> sample) {
+
+        boolean areParamsValid = distinctNames != null && nameFrequencies != null && birthDates != null && sample != null;
+        if (!areParamsValid) {
+            LOGGER.warning("Sketches not given");
+            throw new IllegalArgumentException("All sketches must be given");
+        }
+
+        this.distinctNames = distinctNames;
+        this.nameFrequencies = nameFrequencies;
+        this.birthDates = birthDates;
+        this.sample = sample;
+    }
+
+    public static Collector<Person, PersonSketches, PersonSketches> collector() {
+
+        return Collector.of(PersonSketches::new, PersonSketches::accumulate, PersonSketches::merge,
+                Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    @Override
+    public void accumulate(Person person) {
+
+        if (person == null) {
+            return;
+        }
+
+        byte[] name = person.getName() == null ? new byte[0] : person.getName().getBytes(UTF_8);
+        addRow(nameHash(name, 0, name.length), person.getBirthDate() == null
+                ? NO_BIRTH_DATE
+                : person.getBirthDate().toEpochDay());
+        sample.add(person);
+    }
+
+    /**
+     * Accumulates a parsed row without creating a person unless it enters the sample, usable as row handler of
+     * the fast CSV reader.
+     */
+    public void accumulate(byte[] nameBuffer, int nameOffset, int nameLength, Gender gender, int birthEpochDay) {
+
+        addRow(nameHash(nameBuffer, nameOffset, nameLength), birthEpochDay);
+        sample.add(() -> new Person(new String(nameBuffer, nameOffset, nameLength, UTF_8), gender,
+                birthEpochDay == NO_BIRTH_DATE ? null : LocalDate.ofEpochDay(birthEpochDay)));
+    }
+
+    @Override
+    public PersonSketches getResult() {
+
+        return this;
+    }
+
+    public PersonSketches merge(PersonSketches other) {
+
+        boolean isParamValid = other != null;
+        if (!isParamValid) {
+            LOGGER.warning("Sketches to merge not given");
+            throw new IllegalArgumentException("Sketches to merge must be given");
+        }
+
+        distinctNames.merge(other.distinctNames);
+        nameFrequencies.merge(other.nameFrequencies);
+        birthDates.merge(other.birthDates);
+        sample.merge(other.sample);
+        personCount += other.personCount;
+        return this;
+    }
+
+    public long getPersonCount() {
+
+        return personCount;
+    }
+
+    public long estimateDistinctNames() {
+
+        return distinctNames.estimate();
+    }
+
+    public long estimateNameCount(String name) {
+
+        boolean isParamValid = name != null;
+        if (!isParamValid) {
+            LOGGER.warning("Name not given");
+            throw new IllegalArgumentException("Name must be given");
+        }
+
+        byte[] nameBytes = name.getBytes(UTF_8);
+        return nameFrequencies.estimateCount(nameHash(nameBytes, 0, nameBytes.length));
+    }
+
+    public Optional<LocalDate> getBirthDateQuantile(double fraction) {
+
+        return birthDates.getQuantile(fraction);
+    }
+
+    public Optional<Long> getAgePercentile(LocalDate referenceDate, double fraction) {
+
+        return birthDates.getAgePercentile(referenceDate, fraction);
+    }
+
+    public List<Person> getSample() {
+
+        return sample.getElements();
+    }
+
+    public String report() {
+
+        String lineSeparator = System.lineSeparator();
+        LocalDate today = LocalDate.now();
+        return "Persons: " + personCount + lineSeparator
+                + "Distinct names: ~" + estimateDistinctNames()
+                + String.format(" (+-%.1f%%)", distinctNames.getRelativeStandardError() * 100) + lineSeparator
+                + "Median age: ~" + getAgePercentile(today, 0.5).map(String::valueOf).orElse("n/a")
+                + ", 90th percentile: ~" + getAgePercentile(today, 0.9).map(String::valueOf).orElse("n/a")
+                + " (+-" + birthDates.getBucketDays() + " days)" + lineSeparator
+                + "Sample: " + sample.getElements().size() + " persons";
+    }
+
+    private void addRow(long nameHash, long birthEpochDay) {
+
+        personCount++;
+        distinctNames.add(nameHash);
+        nameFrequencies.add(nameHash, 1);
+        if (birthEpochDay != NO_BIRTH_DATE) {
+            birthDates.add(birthEpochDay);
+        }
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes followed by the MurmurHash3 finalizer, stable across JVMs so that sketches built
+     * on different machines merge.
+     */
+    static long nameHash(byte[] nameBuffer, int nameOffset, int nameLength) {
+
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = nameOffset; i < nameOffset + nameLength; i++) {
+            hash = (hash ^ (nameBuffer[i] & 0xFF)) * FNV_PRIME;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,109 @@
+package com.addressbookprocessor.sketch;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Uniform random sample of at most {@code capacity} of all offered elements. Elements are only created when they
+ * enter the sample. Merging draws without replacement from both samples, each pick coming from one side with
+ * the probability of its share of the elements not drawn yet.
+ */
+public final class ReservoirSample<T extends Serializable> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(ReservoirSample.class.getName());
+
+    private final int capacity;
+
+    private final Random random;
+
+    private final ArrayList<T> elements;
+
+    private long seenCount;
+
+    public ReservoirSample(int capacity) {
+
+        this(capacity, new Random());
+    }
+
+    public ReservoirSample(int capacity, Random random) {
+
+        boolean areParamsValid = capacity > 0 && random != null;
+        if (!areParamsValid) {
+            LOGGER.warning("Reservoir capacity not positive or random not given");
+            throw new IllegalArgumentException("Reservoir capacity must be positive and random be given");
+        }
+
+        this.capacity = capacity;
+        this.random = random;
+        this.elements = new ArrayList<>(Math.min(capacity, 1024));
+    }
+
+    public void add(T element) {
+
+        add(() -> element);
+    }
+
+    public void add(Supplier<? extends T> element) {
+
+        seenCount++;
+        if (elements.size() < capacity) {
+            elements.add(element.get());
+            return;
+        }
+
+        long slot = (long) (random.nextDouble() * seenCount);
+        if (slot < capacity) {
+            elements.set((int) slot, element.get());
+        }
+    }
+
+    public List<T> getElements() {
+
+        return unmodifiableList(new ArrayList<>(elements));
+    }
+
+    public long getSeenCount() {
+
+        return seenCount;
+    }
+
+    public ReservoirSample<T> merge(ReservoirSample<T> other) {
+
+        boolean isParamValid = other != null && other.capacity == capacity;
+        if (!isParamValid) {
+            LOGGER.warning("Reservoir to merge not given or of other capacity");
+            throw new IllegalArgumentException("Reservoir to merge must be given and have the same capacity");
+        }
+
+        List<T> ownElements = new ArrayList<>(elements);
+        List<T> otherElements = new ArrayList<>(other.elements);
+        Collections.shuffle(ownElements, random);
+        Collections.shuffle(otherElements, random);
+
+        elements.clear();
+        long ownRemaining = seenCount;
+        long otherRemaining = other.seenCount;
+        int ownIndex = 0;
+        int otherIndex = 0;
+        while (elements.size() < capacity && ownRemaining + otherRemaining > 0) {
+            if (random.nextDouble() * (ownRemaining + otherRemaining) < ownRemaining) {
+                elements.add(ownElements.get(ownIndex++));
+                ownRemaining--;
+            } else {
+                elements.add(otherElements.get(otherIndex++));
+                otherRemaining--;
+            }
+        }
+        seenCount += other.seenCount;
+        return this;
+    }
+}
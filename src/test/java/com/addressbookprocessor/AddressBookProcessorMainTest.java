@@ -3,14 +3,52 @@ package com.addressbookprocessor;
 import com.addressbookprocessor.reader.AddressBookCsvReaderTest;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
 public class AddressBookProcessorMainTest {
 
     private static final String BASE_PATH = AddressBookCsvReaderTest.class.getResource("../../..").getPath();
     private static final String CORRECT_CSV = BASE_PATH + "/AddressBookCorrect";
 
+    private static String captureOutput(Runnable runnable) {
+
+        PrintStream standardOutput = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true));
+        try {
+            runnable.run();
+        } finally {
+            System.setOut(standardOutput);
+        }
+        return output.toString();
+    }
+
     @Test
     public void shouldExecuteMainSuccessfully() {
 
         AddressBookProcessorMain.main(new String[] {CORRECT_CSV});
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldExecuteMainWithMetricsSuccessfully() {
+
+        String output = captureOutput(() -> AddressBookProcessorMain.main(new String[] {"--metrics", CORRECT_CSV}));
+
+        assertThat(output, containsString("Files read: 1, rows parsed: 5"));
+        assertThat(output, containsString("Query summarizeAddressBook: count 1,"));
+    }
+
+    @Test
+    public void shouldPrintUsageWhenServerPortIsInvalid() {
+
+        assertThat(captureOutput(() -> AddressBookProcessorMain.main(new String[] {"--server", "abc"})), startsWith("Usage: "));
+        assertThat(captureOutput(() -> AddressBookProcessorMain.main(new String[] {"--server", "65536"})), startsWith("Usage: "));
+        assertThat(captureOutput(() -> AddressBookProcessorMain.main(new String[] {"--server", "-1"})), startsWith("Usage: "));
+        assertThat(captureOutput(() -> AddressBookProcessorMain.main(new String[] {"--server", "99999999999"})), startsWith("Usage: "));
+    }
+}
@@ -0,0 +1,93 @@
+package com.addressbookprocessor.aggregation;
+
+import com.addressbookprocessor.domain.Person;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.addressbookprocessor.domain.Gender.Female;
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.time.LocalDate.of;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.rules.ExpectedException.none;
+
+public class PersonAggregationTest {
+
+    @Rule
+    public ExpectedException expectedException = none();
+
+    private Stream<Person> persons() {
+
+        return Stream.of(
+                null,
+                new Person("Jill Jungle", Female, of(1982, 4, 4)),
+                new Person("Guybrush Island", Male, of(1917, 1, 1)),
+                new Person("Jade BeyondGood", Female, of(1987, 2, 2)),
+                new Person("Lara Raider", Female, of(1997, 3, 3)),
+                null);
+    }
+
+    @Test
+    public void shouldEvaluateAllRegisteredAccumulatorsInOnePass() {
+
+        PersonAggregation aggregation = new PersonAggregation();
+        GenderCountAccumulator countFemales = aggregation.register(new GenderCountAccumulator(Female));
+        OldestPersonAccumulator oldestPerson = aggregation.register(new OldestPersonAccumulator());
+        DaysBetweenPersonsAccumulator daysBetween = aggregation.register(new DaysBetweenPersonsAccumulator("Jill", "Jade"));
+        PersonAccumulator<Long> countAll = aggregation.register(PersonAccumulator.of(counting()));
+
+        aggregation.aggregate(persons());
+
+        Optional<Person> oldest = oldestPerson.getResult();
+        assertThat(countFemales.getResult(), equalTo(3L));
+        assertTrue(oldest.isPresent());
+        assertThat(oldest.get(), hasProperty("name", equalTo("Guybrush Island")));
+        assertThat(daysBetween.getResult(), equalTo(1765L));
+        assertThat(countAll.getResult(), equalTo(6L));
+    }
+
+    @Test
+    public void shouldEvaluateUserDefinedCollector() {
+
+        PersonAggregation aggregation = new PersonAggregation();
+        PersonAccumulator<List<String>> names = aggregation.register(PersonAccumulator.of(
+                mapping((Person p) -> p == null ? "<null>" : p.getName(), toList())));
+
+        aggregation.aggregate(persons().skip(1).limit(2));
+
+        assertThat(names.getResult(), contains("Jill Jungle", "Guybrush Island"));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenMoreThanTwoPersonsMatch() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Less than or more than 2 people found");
+
+        PersonAggregation aggregation = new PersonAggregation();
+        DaysBetweenPersonsAccumulator daysBetween = aggregation.register(new DaysBetweenPersonsAccumulator("J", "Lara"));
+        aggregation.aggregate(persons());
+
+        daysBetween.getResult();
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenAccumulatorIsNull() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Accumulator must be given");
+
+        new PersonAggregation().register(null);
+    }
+}
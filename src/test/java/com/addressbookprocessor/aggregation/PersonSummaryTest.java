@@ -0,0 +1,148 @@
+package com.addressbookprocessor.aggregation;
+
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.addressbookprocessor.domain.Gender.Female;
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.time.LocalDate.of;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+
+public class PersonSummaryTest {
+
+    @Rule
+    public ExpectedException expectedException = none();
+
+    private static List<Person> randomPersons(int count) {
+
+        Random random = new Random(42);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Gender gender = random.nextBoolean() ? Male : Female;
+            LocalDate birthDate = random.nextInt(50) == 0 ? null : LocalDate.ofEpochDay(random.nextInt(2000) - 1000);
+            persons.add(new Person("Person " + i, gender, birthDate));
+        }
+        return persons;
+    }
+
+    private static PersonSummary summarize(List<Person> persons, int topCount) {
+
+        PersonSummary summary = new PersonSummary(topCount);
+        persons.forEach(summary::accumulate);
+        return summary;
+    }
+
+    private static List<String> names(List<Person> persons) {
+
+        return persons.stream().map(Person::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void shouldSummarizePersons() {
+
+        PersonSummary summary = summarize(asList(
+                null,
+                new Person("Jill Jungle", Female, of(1982, 4, 4)),
+                new Person("Guybrush Island", Male, of(1917, 1, 1)),
+                new Person("Jade BeyondGood", Female, of(1987, 2, 2)),
+                new Person("Lara Raider", Female, of(1997, 3, 3)),
+                new Person("Elaine Marley", Female, of(1917, 1, 1))), 3);
+
+        assertThat(summary.getPersonCount(), equalTo(5L));
+        assertThat(summary.getGenderCount(Female), equalTo(4L));
+        assertThat(summary.getGenderCount(Male), equalTo(1L));
+        assertThat(summary.getOldestPerson().get(), hasProperty("name", equalTo("Guybrush Island")));
+        assertThat(summary.getYoungestPerson().get(), hasProperty("name", equalTo("Lara Raider")));
+        assertThat(summary.getOldestPersons(), contains(
+                hasProperty("name", equalTo("Guybrush Island")),
+                hasProperty("name", equalTo("Elaine Marley")),
+                hasProperty("name", equalTo("Jill Jungle"))));
+    }
+
+    @Test
+    public void shouldMergeAssociatively() {
+
+        List<Person> persons = randomPersons(3000);
+        PersonSummary first = summarize(persons.subList(0, 1000), 5);
+        PersonSummary second = summarize(persons.subList(1000, 2000), 5);
+        PersonSummary third = summarize(persons.subList(2000, 3000), 5);
+
+        PersonSummary leftFirst = summarize(persons.subList(0, 1000), 5).merge(second).merge(third);
+        PersonSummary rightFirst = first.merge(summarize(persons.subList(1000, 2000), 5).merge(third));
+        PersonSummary sequential = summarize(persons, 5);
+
+        assertThat(leftFirst.toString(), equalTo(sequential.toString()));
+        assertThat(rightFirst.toString(), equalTo(sequential.toString()));
+    }
+
+    @Test
+    public void shouldCollectParallelStreamLikeSequentialPass() {
+
+        List<Person> persons = randomPersons(20000);
+
+        PersonSummary parallel = persons.parallelStream().collect(PersonSummary.collector(10));
+        PersonSummary sequential = persons.stream().collect(PersonSummary.collector(10));
+
+        assertThat(parallel.getGenderCounts(), equalTo(sequential.getGenderCounts()));
+        assertThat(parallel.getOldestPerson().get().getName(), equalTo(sequential.getOldestPerson().get().getName()));
+        assertThat(parallel.getYoungestPerson().get().getName(), equalTo(sequential.getYoungestPerson().get().getName()));
+        assertThat(names(parallel.getOldestPersons()), equalTo(names(sequential.getOldestPersons())));
+    }
+
+    @Test
+    public void shouldSurviveSerialization() throws IOException, ClassNotFoundException {
+
+        PersonSummary summary = summarize(randomPersons(100), 3);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(summary);
+        }
+        PersonSummary copy;
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (PersonSummary) input.readObject();
+        }
+
+        assertThat(copy.toString(), equalTo(summary.toString()));
+        assertThat(copy.merge(summary).getPersonCount(), equalTo(200L));
+    }
+
+    @Test
+    public void shouldKeepEmptySummaryEmpty() {
+
+        PersonSummary summary = new PersonSummary(3).merge(new PersonSummary(3));
+
+        assertThat(summary.getPersonCount(), equalTo(0L));
+        assertFalse(summary.getOldestPerson().isPresent());
+        assertThat(summary.getOldestPersons().size(), equalTo(0));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenMergingDifferentTopCounts() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Summary to merge must be given and have the same top count");
+
+        new PersonSummary(3).merge(new PersonSummary(4));
+    }
+}
@@ -0,0 +1,121 @@
+package com.addressbookprocessor.batch;
+
+import com.addressbookprocessor.checkpoint.AddressBookCheckpointStore;
+import com.addressbookprocessor.facade.AddressBookFacadeImpl;
+import com.addressbookprocessor.facade.AddressBookSummary;
+import com.addressbookprocessor.facade.IncrementalAddressBookFacadeImpl;
+import com.addressbookprocessor.reader.AddressBookCsvReader;
+import io.vavr.control.Either;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.rules.ExpectedException.none;
+
+public class AddressBookBatchProcessorTest {
+
+    @Rule
+    public ExpectedException expectedException = none();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private AddressBookBatchProcessor batchProcessor =
+            new AddressBookBatchProcessor(new AddressBookFacadeImpl(new AddressBookCsvReader()), 2);
+
+    @Test
+    public void shouldProcessDirectoryAndMergeSummaries() throws IOException {
+
+        Path north = write("north.csv", "Bill McKnight, Male, 16/03/77\nGemma Lane, Female, 20/11/91\n");
+        Path south = write("south.csv", "Paul Robinson, Male, 15/01/85\nWes Jackson, Male, 14/08/74\n");
+        Path broken = write("broken.csv", "Bill McKnight, WrongGender, 16/03/77\n");
+
+        AddressBookBatchResult batchResult = batchProcessor.processAddressBooks(temporaryFolder.getRoot().getPath());
+
+        assertThat(batchResult.getFileSummaries().size(), equalTo(3));
+        assertThat(batchResult.getFailedFileCount(), equalTo(1L));
+        assertTrue(batchResult.getFileSummaries().get(broken).isLeft());
+
+        Either<String, AddressBookSummary> northSummary = batchResult.getFileSummaries().get(north);
+        assertThat(northSummary.get().getGenderCount(), equalTo(1L));
+        assertThat(northSummary.get().getDaysOlder(), equalTo(null));
+        assertThat(batchResult.getFileSummaries().get(south).get().getGenderCount(), equalTo(2L));
+
+        AddressBookSummary mergedSummary = batchResult.getMergedSummary();
+        assertThat(mergedSummary.getGenderCount(), equalTo(3L));
+        assertThat(mergedSummary.getOldestPerson().get(), hasProperty("name", equalTo("Wes Jackson")));
+        assertThat(mergedSummary.getDaysOlder(), equalTo(2862L));
+    }
+
+    @Test
+    public void shouldProcessFilesMatchingGlob() throws IOException {
+
+        write("north.csv", "Bill McKnight, Male, 16/03/77\n");
+        write("north.txt", "Paul Robinson, Male, 15/01/85\n");
+
+        AddressBookBatchResult batchResult = batchProcessor.processAddressBooks(temporaryFolder.getRoot().getPath() + "/*.csv");
+
+        assertThat(batchResult.getFileSummaries().size(), equalTo(1));
+        assertThat(batchResult.getMergedSummary().getGenderCount(), equalTo(1L));
+    }
+
+    @Test
+    public void shouldIgnoreSidecarFilesWhenRunningIncrementallyTwice() throws IOException {
+
+        write("north.csv", "Bill McKnight, Male, 16/03/77\nGemma Lane, Female, 20/11/91\n");
+        write("south.csv", "Paul Robinson, Male, 15/01/85\n");
+        write("north.csv.abpt", "binary person table");
+        write("north.csv.checkpoint.tmp", "partial checkpoint");
+        AddressBookBatchProcessor incrementalBatchProcessor = new AddressBookBatchProcessor(
+                new IncrementalAddressBookFacadeImpl(new AddressBookCsvReader(), new AddressBookCheckpointStore()), 2);
+
+        incrementalBatchProcessor.processAddressBooks(temporaryFolder.getRoot().getPath());
+        AddressBookBatchResult batchResult = incrementalBatchProcessor.processAddressBooks(temporaryFolder.getRoot().getPath());
+
+        assertTrue(Files.exists(temporaryFolder.getRoot().toPath().resolve("north.csv.checkpoint")));
+        assertThat(batchResult.getFileSummaries().size(), equalTo(2));
+        assertThat(batchResult.getFailedFileCount(), equalTo(0L));
+        assertThat(batchResult.getMergedSummary().getGenderCount(), equalTo(2L));
+    }
+
+    @Test
+    public void shouldOnlyDescendAsDeepAsTheGlob() throws IOException {
+
+        write("north.csv", "Bill McKnight, Male, 16/03/77\n");
+        temporaryFolder.newFolder("east", "deeper");
+        write("east/south.csv", "Paul Robinson, Male, 15/01/85\n");
+        write("east/deeper/west.csv", "Wes Jackson, Male, 14/08/74\n");
+        String root = temporaryFolder.getRoot().getPath();
+
+        assertThat(batchProcessor.processAddressBooks(root + "/*.csv").getFileSummaries().size(), equalTo(1));
+        assertThat(batchProcessor.processAddressBooks(root + "/*/*.csv").getFileSummaries().size(), equalTo(1));
+        assertThat(batchProcessor.processAddressBooks(root + "/nor*.csv").getFileSummaries().size(), equalTo(1));
+        assertThat(batchProcessor.processAddressBooks(root + "/**.csv").getFileSummaries().size(), equalTo(3));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenWorkerCountIsNotPositive() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Address book facade and a positive worker count must be given");
+
+        new AddressBookBatchProcessor(new AddressBookFacadeImpl(new AddressBookCsvReader()), 0);
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+
+        File file = temporaryFolder.newFile(fileName);
+        return Files.write(file.toPath(), content.getBytes(UTF_8));
+    }
+}
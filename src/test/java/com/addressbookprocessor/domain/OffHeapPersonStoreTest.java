@@ -0,0 +1,69 @@
+package com.addressbookprocessor.domain;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static com.addressbookprocessor.domain.Gender.Female;
+import static com.addressbookprocessor.domain.Gender.Male;
+import static com.addressbookprocessor.domain.PersonTable.NO_BIRTH_DATE;
+import static com.addressbookprocessor.domain.PersonTable.NO_GENDER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.LocalDate.of;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.rules.ExpectedException.none;
+
+public class OffHeapPersonStoreTest {
+
+    @Rule
+    public ExpectedException expectedException = none();
+
+    @Test
+    public void shouldReadBackRecordsAcrossChunks() {
+
+        OffHeapPersonStore.Builder builder = OffHeapPersonStore.builder(3, 6);
+        for (int i = 0; i < 100; i++) {
+            builder.add(new Person("Person " + i, i % 2 == 0 ? Male : Female, of(1900 + i, 1, 1)));
+        }
+        builder.add(new Person(null, null, null));
+        OffHeapPersonStore store = builder.build();
+
+        assertThat(store.size(), equalTo(101));
+        for (int i = 0; i < 100; i++) {
+            assertThat(store.getName(i), equalTo("Person " + i));
+            assertThat(store.getGenderOrdinal(i), equalTo((byte) (i % 2)));
+            assertThat(store.getBirthEpochDay(i), equalTo((int) of(1900 + i, 1, 1).toEpochDay()));
+        }
+        assertThat(store.getName(100), equalTo(""));
+        assertThat(store.getGenderOrdinal(100), equalTo(NO_GENDER));
+        assertThat(store.getBirthEpochDay(100), equalTo(NO_BIRTH_DATE));
+    }
+
+    @Test
+    public void shouldMatchNamePartsWithoutCopyingNames() {
+
+        OffHeapPersonStore store = OffHeapPersonStore.of(PersonTable.builder()
+                .add(new Person("Bill McKnight", Male, of(1977, 3, 16)))
+                .add(new Person("Gemma Lane", Female, of(1991, 11, 20)))
+                .build());
+
+        assertTrue(store.nameContains(0, "McKnight".getBytes(UTF_8)));
+        assertTrue(store.nameContains(0, "l M".getBytes(UTF_8)));
+        assertTrue(store.nameContains(1, new byte[0]));
+        assertFalse(store.nameContains(1, "Bill".getBytes(UTF_8)));
+        assertFalse(store.nameContains(1, "Gemma Lane ".getBytes(UTF_8)));
+        assertThat(store.getPerson(1).toString(), equalTo(new Person("Gemma Lane", Female, of(1991, 11, 20)).toString()));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenNameTooLong() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Person name must not exceed 65535 bytes");
+
+        OffHeapPersonStore.builder().add(new byte[70000], 0, 70000, Male, 0);
+    }
+}
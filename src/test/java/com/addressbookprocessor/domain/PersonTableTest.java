@@ -0,0 +1,40 @@
+package com.addressbookprocessor.domain;
+
+import org.junit.Test;
+
+import static com.addressbookprocessor.domain.Gender.Female;
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.time.LocalDate.of;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class PersonTableTest {
+
+    private final PersonTable personTable = PersonTable.builder()
+            .add(new Person("Bill McKnight", Male, of(1977, 3, 16)))
+            .add(new Person("Bill Robinson", Male, of(1985, 1, 15)))
+            .add(new Person("Gemma  McKnight ", Female, of(1991, 11, 20)))
+            .add(new Person(null, null, null))
+            .build();
+
+    @Test
+    public void shouldShareTokenIdsOfRepeatedNames() {
+
+        assertThat(personTable.getFirstNameId(0), equalTo(personTable.getFirstNameId(1)));
+        assertThat(personTable.getSurnameId(0), not(equalTo(personTable.getSurnameId(1))));
+        assertThat(personTable.getNameTokenId(2, 2), equalTo(personTable.getSurnameId(0)));
+        assertThat(personTable.getNameDictionary().getToken(personTable.getFirstNameId(0)), equalTo("Bill"));
+        assertThat(personTable.getNameDictionary().indexOf("McKnight"), equalTo(personTable.getSurnameId(0)));
+        assertThat(personTable.getNameDictionary().size(), equalTo(5));
+    }
+
+    @Test
+    public void shouldRestoreNamesExactly() {
+
+        assertThat(personTable.getName(0), equalTo("Bill McKnight"));
+        assertThat(personTable.getName(2), equalTo("Gemma  McKnight "));
+        assertThat(personTable.getName(3), equalTo(""));
+        assertThat(personTable.getPerson(1).toString(), equalTo(new Person("Bill Robinson", Male, of(1985, 1, 15)).toString()));
+    }
+}
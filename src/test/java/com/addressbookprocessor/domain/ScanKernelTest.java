@@ -0,0 +1,50 @@
+package com.addressbookprocessor.domain;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static com.addressbookprocessor.domain.PersonTable.NO_BIRTH_DATE;
+import static com.addressbookprocessor.domain.PersonTable.NO_GENDER;
+import static com.addressbookprocessor.domain.ScanKernel.BRANCH_FREE;
+import static com.addressbookprocessor.domain.ScanKernel.NOT_FOUND;
+import static com.addressbookprocessor.domain.ScanKernel.SCALAR;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ScanKernelTest {
+
+    @Test
+    public void shouldMatchScalarKernelForAllSizes() {
+
+        Random random = new Random(7);
+        for (int size = 0; size < 70; size++) {
+
+            byte[] genders = new byte[size + 3];
+            int[] birthEpochDays = new int[size + 3];
+            for (int i = 0; i < genders.length; i++) {
+                genders[i] = (byte) (random.nextInt(3) - 1);
+                birthEpochDays[i] = random.nextInt(10) == 0 ? NO_BIRTH_DATE : random.nextInt(40) - 20;
+            }
+
+            for (byte gender = NO_GENDER; gender <= 1; gender++) {
+                assertThat(BRANCH_FREE.countEqual(genders, size, gender), equalTo(SCALAR.countEqual(genders, size, gender)));
+                assertThat(ScanKernel.countEqualWords(genders, size, gender), equalTo(SCALAR.countEqual(genders, size, gender)));
+            }
+            assertThat(BRANCH_FREE.indexOfMinimum(birthEpochDays, size), equalTo(SCALAR.indexOfMinimum(birthEpochDays, size)));
+        }
+    }
+
+    @Test
+    public void shouldFindFirstMinimumAndEmptyResult() {
+
+        int[] birthEpochDays = {NO_BIRTH_DATE, 5, -3, 8, -3, NO_BIRTH_DATE, -3};
+
+        for (ScanKernel scanKernel : ScanKernel.values()) {
+            assertThat(scanKernel.indexOfMinimum(birthEpochDays, birthEpochDays.length), equalTo(2));
+            assertThat(scanKernel.indexOfMinimum(new int[] {NO_BIRTH_DATE, NO_BIRTH_DATE}, 2), equalTo(0));
+            assertThat(scanKernel.indexOfMinimum(birthEpochDays, 0), equalTo(NOT_FOUND));
+            assertThat(scanKernel.countEqual(new byte[] {NO_GENDER, 0, 1, NO_GENDER, 0}, 5, NO_GENDER), equalTo(2L));
+        }
+    }
+}
@@ -1,25 +1,28 @@
 package com.addressbookprocessor.facade;
 
 import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.metrics.InMemoryAddressBookMetrics;
 import com.addressbookprocessor.reader.AddressBookCsvReader;
-import com.addressbookprocessor.service.AddressBookService;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.util.Optional;
+import java.util.stream.Stream;
 
+import static com.addressbookprocessor.domain.Gender.Female;
 import static com.addressbookprocessor.domain.Gender.Male;
+import static java.time.LocalDate.of;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.rules.ExpectedException.none;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -33,8 +36,8 @@ public class AddressBookFacadeImplTest {
     @Mock
     private AddressBookCsvReader addressBookCsvReader;
 
-    @Mock
-    private AddressBookService addressBookService;
+    @Spy
+    private InMemoryAddressBookMetrics metrics = new InMemoryAddressBookMetrics();
 
     @InjectMocks
     private AddressBookFacadeImpl addressBookFacade;
@@ -42,39 +45,29 @@ public class AddressBookFacadeImplTest {
     @Test
     public void shouldProcessAddressBook() {
 
-        given(addressBookService.countPersonsOfGender(any())).willReturn(123L);
-        given(addressBookService.getOldestPerson())
-                .willReturn(Optional.of(Person.builder().name("Jackl").build()));
-        given(addressBookService.getDaysPersonAIsOlderPersonB(eq("Bill"), eq("Paul")))
-                .willReturn(987L);
+        given(addressBookCsvReader.streamPersonsFromCsv(eq(SOME_CSV_PATH))).willReturn(Stream.of(
+                new Person("Bill McKnight", Male, of(1977, 3, 16)),
+                new Person("Paul Robinson", Male, of(1985, 1, 15)),
+                new Person("Jackl Old", Female, of(1920, 1, 1))));
 
         String screenOutput = addressBookFacade.processAddressBook(SOME_CSV_PATH);
 
-        verify(addressBookCsvReader).readPersonsFromCsv(eq(SOME_CSV_PATH));
-        verify(addressBookService).countPersonsOfGender(eq(Male));
-        verify(addressBookService).getOldestPerson();
-        verify(addressBookService).getDaysPersonAIsOlderPersonB(eq("Bill"), eq("Paul"));
+        verify(addressBookCsvReader).streamPersonsFromCsv(eq(SOME_CSV_PATH));
 
-        assertTrue(screenOutput.contains("Count of people with gener men: 123"));
+        assertTrue(screenOutput.contains("Count of people with gener men: 2"));
         assertTrue(screenOutput.contains("Oldest person is: Jackl"));
-        assertTrue(screenOutput.contains("Bill is older Paul: 987 days"));
+        assertTrue(screenOutput.contains("Bill is older Paul: 2862 days"));
+        assertThat(metrics.getQueryCounts(), hasEntry("summarizeAddressBook", 1L));
     }
 
     @Test
     public void shouldProcessAddressBookWithEmptyValues() {
 
-        given(addressBookService.countPersonsOfGender(any())).willReturn(0L);
-        given(addressBookService.getOldestPerson())
-                .willReturn(Optional.empty());
-        willAnswer((var) -> { throw new IllegalArgumentException("Abc"); })
-                .given(addressBookService).getDaysPersonAIsOlderPersonB(eq("Bill"), eq("Paul"));
+        given(addressBookCsvReader.streamPersonsFromCsv(eq(SOME_CSV_PATH))).willReturn(Stream.empty());
 
         String screenOutput = addressBookFacade.processAddressBook(SOME_CSV_PATH);
 
-        verify(addressBookCsvReader).readPersonsFromCsv(eq(SOME_CSV_PATH));
-        verify(addressBookService).countPersonsOfGender(eq(Male));
-        verify(addressBookService).getOldestPerson();
-        verify(addressBookService).getDaysPersonAIsOlderPersonB(eq("Bill"), eq("Paul"));
+        verify(addressBookCsvReader).streamPersonsFromCsv(eq(SOME_CSV_PATH));
 
         assertTrue(screenOutput.contains("Count of people with gener men: 0"));
         assertTrue(screenOutput.contains("Oldest person is: <none>"));
@@ -98,4 +91,4 @@ public class AddressBookFacadeImplTest {
 
         addressBookFacade.processAddressBook("   ");
     }
-}
\ No newline at end of file
+}
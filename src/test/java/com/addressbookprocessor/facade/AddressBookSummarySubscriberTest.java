@@ -0,0 +1,196 @@
+package com.addressbookprocessor.facade;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.reader.AddressBookCsvReader;
+import com.addressbookprocessor.reader.AddressBookPersonPublisher;
+import com.addressbookprocessor.reader.exception.ProvidedFileHasErrorException;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AddressBookSummarySubscriberTest {
+
+    private static final String BASE_PATH = AddressBookSummarySubscriberTest.class.getResource("../../..").getPath();
+    private static final String CORRECT_CSV = BASE_PATH + "/AddressBookCorrect";
+
+    private AddressBookCsvReader csvReader = new AddressBookCsvReader();
+
+    @Test
+    public void shouldSummarizeAddressBookStream() throws Exception {
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (InputStream addressBookStream = Files.newInputStream(Paths.get(CORRECT_CSV))) {
+
+            AddressBookSummary summary = new AddressBookFacadeImpl(csvReader)
+                    .summarizeAddressBook(addressBookStream, executor)
+                    .get(10, TimeUnit.SECONDS);
+
+            assertThat(summary.getGenderCount(), equalTo(3L));
+            assertThat(summary.getOldestPerson().get().getName(), equalTo("Wes Jackson"));
+            assertThat(summary.getDaysOlder(), equalTo(2862L));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldOnlyParseRequestedPersons() throws IOException {
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new AddressBookPersonPublisher(csvReader, Channels.newChannel(Files.newInputStream(Paths.get(CORRECT_CSV))), Runnable::run)
+                .subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.persons, hasSize(2));
+        assertFalse(subscriber.isComplete);
+
+        subscriber.subscription.request(10);
+
+        assertThat(subscriber.persons, hasSize(5));
+        assertTrue(subscriber.isComplete);
+    }
+
+    @Test
+    public void shouldNotParseBeyondDemand() {
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        InputStream addressBookStream = new ByteArrayInputStream(
+                "Bill McKnight, Male, 16/03/77\nPaul Robinson, Male, 15/01/85\nGemma Lane, WrongGender, 20/11/91\n".getBytes(UTF_8));
+        new AddressBookPersonPublisher(csvReader, addressBookStream, Runnable::run).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.persons, hasSize(2));
+        assertThat(subscriber.error, nullValue());
+        assertFalse(subscriber.isComplete);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.error, instanceOf(ProvidedFileHasErrorException.class));
+    }
+
+    @Test
+    public void shouldKeepDrainingWhenStreamCannotBeClosed() {
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        InputStream addressBookStream = new ByteArrayInputStream("Bill McKnight, Male, 16/03/77\n".getBytes(UTF_8)) {
+
+            @Override
+            public void close() throws IOException {
+
+                throw new IOException("Address book stream broken");
+            }
+        };
+        new AddressBookPersonPublisher(csvReader, addressBookStream, Runnable::run).subscribe(subscriber);
+
+        subscriber.subscription.request(5);
+        subscriber.subscription.cancel();
+
+        assertThat(subscriber.persons, hasSize(1));
+        assertTrue(subscriber.isComplete);
+        assertThat(subscriber.error, nullValue());
+    }
+
+    @Test
+    public void shouldEmitIntermediateSummaries() throws Exception {
+
+        List<Long> intermediateGenderCounts = new ArrayList<>();
+        AddressBookSummarySubscriber subscriber =
+                new AddressBookSummarySubscriber(1, 2, summary -> intermediateGenderCounts.add(summary.getGenderCount()));
+
+        new AddressBookPersonPublisher(csvReader, Files.newInputStream(Paths.get(CORRECT_CSV)), Runnable::run)
+                .subscribe(subscriber);
+
+        assertThat(intermediateGenderCounts, contains(2L, 2L));
+        assertThat(subscriber.getResult().get().getGenderCount(), equalTo(3L));
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyOnMalformedRow() throws InterruptedException {
+
+        AddressBookSummarySubscriber subscriber = new AddressBookSummarySubscriber();
+        InputStream addressBookStream = new ByteArrayInputStream("Bill McKnight, WrongGender, 16/03/77".getBytes(UTF_8));
+
+        new AddressBookPersonPublisher(csvReader, addressBookStream, Runnable::run).subscribe(subscriber);
+
+        try {
+            subscriber.getResult().get();
+            fail("Malformed address book must not be summarized");
+        } catch (ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(ProvidedFileHasErrorException.class));
+        }
+    }
+
+    @Test
+    public void shouldRejectSecondSubscriber() {
+
+        AddressBookPersonPublisher publisher =
+                new AddressBookPersonPublisher(csvReader, new ByteArrayInputStream(new byte[0]), Runnable::run);
+        publisher.subscribe(new RecordingSubscriber());
+
+        RecordingSubscriber secondSubscriber = new RecordingSubscriber();
+        publisher.subscribe(secondSubscriber);
+
+        assertThat(secondSubscriber.error, instanceOf(IllegalStateException.class));
+    }
+
+    private static final class RecordingSubscriber implements Subscriber<Person> {
+
+        private final List<Person> persons = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private Throwable error;
+
+        private boolean isComplete;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Person person) {
+
+            persons.add(person);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete() {
+
+            isComplete = true;
+        }
+    }
+}
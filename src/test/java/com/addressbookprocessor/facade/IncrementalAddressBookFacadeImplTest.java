@@ -0,0 +1,105 @@
+package com.addressbookprocessor.facade;
+
+import com.addressbookprocessor.checkpoint.AddressBookCheckpoint;
+import com.addressbookprocessor.checkpoint.AddressBookCheckpointStore;
+import com.addressbookprocessor.reader.AddressBookCsvReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static com.addressbookprocessor.domain.Gender.Female;
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class IncrementalAddressBookFacadeImplTest {
+
+    private static final String FIRST_ROWS = "Bill McKnight, Male, 16/03/77\nGemma Lane, Female, 20/11/91\n";
+    private static final String APPENDED_ROWS = "Paul Robinson, Male, 15/01/85\nWes Jackson, Male, 14/08/74\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private AddressBookCheckpointStore checkpointStore = new AddressBookCheckpointStore();
+
+    private AddressBookFacade incrementalFacade =
+            new IncrementalAddressBookFacadeImpl(new AddressBookCsvReader(), checkpointStore);
+
+    private AddressBookFacade fullFacade = new AddressBookFacadeImpl(new AddressBookCsvReader());
+
+    @Test
+    public void shouldProcessAppendedRowsFromCheckpoint() throws IOException {
+
+        Path addressBook = temporaryFolder.newFile().toPath();
+        Files.write(addressBook, FIRST_ROWS.getBytes(UTF_8));
+
+        String firstOutput = incrementalFacade.processAddressBook(addressBook.toString());
+        assertThat(firstOutput, equalTo(fullFacade.processAddressBook(addressBook.toString())));
+        assertThat(checkpointStore.load(addressBook).get().getByteOffset(), equalTo((long) FIRST_ROWS.length()));
+
+        Files.write(addressBook, APPENDED_ROWS.getBytes(UTF_8), APPEND);
+
+        String secondOutput = incrementalFacade.processAddressBook(addressBook.toString());
+        assertThat(secondOutput, equalTo(fullFacade.processAddressBook(addressBook.toString())));
+        assertTrue(secondOutput.contains("Bill is older Paul: 2862 days"));
+
+        AddressBookCheckpoint checkpoint = checkpointStore.load(addressBook).get();
+        assertThat(checkpoint.getByteOffset(), equalTo((long) FIRST_ROWS.length() + APPENDED_ROWS.length()));
+        assertThat(checkpoint.getRecordCount(), equalTo(4L));
+        assertThat(checkpoint.getGenderCount(Male), equalTo(3L));
+        assertThat(checkpoint.getGenderCount(Female), equalTo(1L));
+    }
+
+    @Test
+    public void shouldReprocessFromStartWhenCheckpointedPartChanged() throws IOException {
+
+        Path addressBook = temporaryFolder.newFile().toPath();
+        Files.write(addressBook, FIRST_ROWS.getBytes(UTF_8));
+        incrementalFacade.processAddressBook(addressBook.toString());
+
+        Files.write(addressBook, (FIRST_ROWS.replace("Male", "Female") + APPENDED_ROWS).getBytes(UTF_8));
+
+        String output = incrementalFacade.processAddressBook(addressBook.toString());
+        assertThat(output, equalTo(fullFacade.processAddressBook(addressBook.toString())));
+        assertTrue(output.contains("Count of people with gener men: 2"));
+    }
+
+    @Test
+    public void shouldSummarizeLastLineOnlyOnceItIsTerminated() throws IOException {
+
+        Path addressBook = temporaryFolder.newFile().toPath();
+        Files.write(addressBook, (FIRST_ROWS + "Wes Jackson, Ma").getBytes(UTF_8));
+
+        String firstOutput = incrementalFacade.processAddressBook(addressBook.toString());
+        assertTrue(firstOutput.contains("Count of people with gener men: 1"));
+        assertThat(checkpointStore.load(addressBook).get().getByteOffset(), equalTo((long) FIRST_ROWS.length()));
+
+        Files.write(addressBook, "le, 14/08/74\n".getBytes(UTF_8), APPEND);
+
+        String secondOutput = incrementalFacade.processAddressBook(addressBook.toString());
+        assertThat(secondOutput, equalTo(fullFacade.processAddressBook(addressBook.toString())));
+        assertTrue(secondOutput.contains("Count of people with gener men: 2"));
+    }
+
+    @Test
+    public void shouldLeaveNoTemporaryFilesNextToCheckpoint() throws IOException {
+
+        Path addressBook = temporaryFolder.newFile("AddressBook").toPath();
+        Files.write(addressBook, FIRST_ROWS.getBytes(UTF_8));
+
+        incrementalFacade.processAddressBook(addressBook.toString());
+        incrementalFacade.processAddressBook(addressBook.toString());
+
+        try (Stream<Path> files = Files.list(addressBook.getParent())) {
+            assertThat(files.filter(file -> file.toString().endsWith(".tmp")).count(), equalTo(0L));
+        }
+    }
+}
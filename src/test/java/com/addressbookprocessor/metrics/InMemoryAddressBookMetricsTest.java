@@ -0,0 +1,147 @@
+package com.addressbookprocessor.metrics;
+
+import com.addressbookprocessor.facade.AddressBookSummarySubscriber;
+import com.addressbookprocessor.reader.AddressBookCsvReader;
+import com.addressbookprocessor.reader.AddressBookFastCsvReader;
+import com.addressbookprocessor.reader.AddressBookParallelCsvReader;
+import com.addressbookprocessor.reader.AddressBookPersonPublisher;
+import com.addressbookprocessor.reader.exception.ProvidedFileHasErrorException;
+import com.addressbookprocessor.service.AddressBookService;
+import com.addressbookprocessor.service.AddressBookServiceImpl;
+import com.addressbookprocessor.service.MetricsAddressBookService;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InMemoryAddressBookMetricsTest {
+
+    private static final String BASE_PATH = InMemoryAddressBookMetricsTest.class.getResource("../../..").getPath();
+    private static final String CORRECT_CSV = BASE_PATH + "/AddressBookCorrect";
+    private static final String MALFORMED_CSV_GENDER = BASE_PATH + "/AddressBookWrongGender";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private InMemoryAddressBookMetrics metrics = new InMemoryAddressBookMetrics();
+
+    @Test
+    public void shouldRecordRowsAndBytesOfReadFiles() {
+
+        new AddressBookCsvReader(metrics).readPersonsFromCsv(CORRECT_CSV);
+        new AddressBookFastCsvReader(new AddressBookCsvReader(), metrics).readPersonTable(CORRECT_CSV);
+
+        assertThat(metrics.getFilesRead(), equalTo(2L));
+        assertThat(metrics.getRowsParsed(), equalTo(10L));
+        assertThat(metrics.getBytesRead(), equalTo(2 * new File(CORRECT_CSV).length()));
+        assertThat(metrics.getParseFailures(), equalTo(0L));
+        assertThat(metrics.getRowsPerSecond(), greaterThan(0d));
+    }
+
+    @Test
+    public void shouldRecordFilesParsedAcrossThreadsWithoutAllocation() throws Exception {
+
+        ForkJoinPool parsePool = new ForkJoinPool(2);
+        try (InputStream addressBookStream = Files.newInputStream(Paths.get(CORRECT_CSV))) {
+
+            new AddressBookParallelCsvReader(new AddressBookCsvReader(), metrics, parsePool, 16).readPersonsFromCsv(CORRECT_CSV);
+            AddressBookSummarySubscriber summarySubscriber = new AddressBookSummarySubscriber();
+            new AddressBookPersonPublisher(new AddressBookCsvReader(metrics), CORRECT_CSV, addressBookStream, Runnable::run)
+                    .subscribe(summarySubscriber);
+            summarySubscriber.getResult().get(10, TimeUnit.SECONDS);
+        } finally {
+            parsePool.shutdown();
+        }
+
+        assertThat(metrics.getFilesRead(), equalTo(2L));
+        assertThat(metrics.getRowsParsed(), equalTo(10L));
+        assertThat(metrics.getBytesRead(), equalTo(2 * new File(CORRECT_CSV).length()));
+        assertThat(metrics.getAllocatedBytes(), equalTo(0L));
+    }
+
+    @Test
+    public void shouldNotRecordQuotedRowFallbackAsFileRead() throws IOException {
+
+        File csv = temporaryFolder.newFile();
+        Files.write(csv.toPath(), "\"McKnight, Bill\", Male, 16/03/77\n".getBytes(UTF_8));
+
+        new AddressBookFastCsvReader(new AddressBookCsvReader(metrics), metrics).readPersonTable(csv.getPath());
+
+        assertThat(metrics.getFilesRead(), equalTo(1L));
+        assertThat(metrics.getRowsParsed(), equalTo(1L));
+    }
+
+    @Test
+    public void shouldRecordParseFailures() {
+
+        try {
+            new AddressBookCsvReader(metrics).readPersonsFromCsv(MALFORMED_CSV_GENDER);
+            fail("Malformed address book must not be read");
+        } catch (ProvidedFileHasErrorException ex) {
+            assertThat(metrics.getParseFailures(), equalTo(1L));
+            assertThat(metrics.getFilesRead(), equalTo(1L));
+        }
+    }
+
+    @Test
+    public void shouldRecordQueryLatenciesPerServiceMethod() {
+
+        AddressBookService service = new MetricsAddressBookService(new AddressBookServiceImpl(), metrics);
+        service.setPersons(new AddressBookCsvReader().readPersonsFromCsv(CORRECT_CSV));
+
+        service.countPersonsOfGender(Male);
+        service.countPersonsOfGender(Male);
+        service.getOldestPerson();
+
+        assertThat(metrics.getQueryCounts(), hasEntry("countPersonsOfGender", 2L));
+        assertThat(metrics.getQueryCounts(), hasEntry("getOldestPerson", 1L));
+        assertThat(metrics.getQueryCounts(), hasEntry("setPersons", 1L));
+        assertThat(metrics.report(), containsString("Query countPersonsOfGender: count 2"));
+    }
+
+    @Test
+    public void shouldBoundPercentilesByPowerOfTwoBuckets() {
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100; nanos++) {
+            latencies.record(nanos * 1000);
+        }
+
+        assertThat(latencies.getCount(), equalTo(100L));
+        assertThat(latencies.getMaxNanos(), equalTo(100_000L));
+        assertThat(latencies.getPercentileNanos(50), equalTo(65_535L));
+        assertThat(latencies.getPercentileNanos(100), equalTo(100_000L));
+    }
+
+    @Test
+    public void shouldExposeMetricsAsMBean() throws Exception {
+
+        new AddressBookCsvReader(metrics).readPersonsFromCsv(CORRECT_CSV);
+
+        Optional<ObjectName> objectName = metrics.registerMBean("test");
+
+        assertTrue(objectName.isPresent());
+        assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(objectName.get(), "RowsParsed"), equalTo(5L));
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName.get());
+    }
+}
@@ -0,0 +1,174 @@
+package com.addressbookprocessor.reader;
+
+import com.addressbookprocessor.domain.PersonTable;
+import com.addressbookprocessor.service.PersonTableAddressBookService;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class AddressBookCachingReaderTest {
+
+    private static final String CSV_CONTENT = "Bill McKnight, Male, 16/03/77\n\u0141ukasz \u017b\u00f3\u0142w, Male, 15/01/85\nGemma Lane, Female, 20/11/91\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private AddressBookFastCsvReader fastCsvReader = spy(new AddressBookFastCsvReader());
+
+    private PersonTableBinaryFile binaryFile = new PersonTableBinaryFile(true);
+
+    private AddressBookCachingReader cachingReader = new AddressBookCachingReader(fastCsvReader, binaryFile);
+
+    @Test
+    public void shouldWriteBinaryFileAndReloadItWithoutParsingCsv() throws IOException {
+
+        Path csv = newCsv();
+
+        PersonTable parsedTable = cachingReader.readPersonTable(csv.toString());
+        PersonTable reloadedTable = cachingReader.readPersonTable(csv.toString());
+
+        verify(fastCsvReader, times(1)).readPersonTable(anyString());
+        assertThat(Files.exists(binaryFile.getBinaryPath(csv)), is(true));
+        assertSameTable(reloadedTable, parsedTable);
+    }
+
+    @Test
+    public void shouldReparseCsvWhenBinaryFileIsStale() throws IOException {
+
+        Path csv = newCsv();
+        cachingReader.readPersonTable(csv.toString());
+
+        Files.write(csv, (CSV_CONTENT + "Wes Jackson, Male, 14/08/74\n").getBytes(UTF_8));
+        PersonTable personTable = cachingReader.readPersonTable(csv.toString());
+
+        verify(fastCsvReader, times(2)).readPersonTable(anyString());
+        assertThat(personTable.size(), equalTo(4));
+        assertThat(binaryFile.load(csv).get().size(), equalTo(4));
+    }
+
+    @Test
+    public void shouldReparseCsvWhenItChangedWhileBeingParsed() throws IOException {
+
+        Path csv = newCsv();
+        doAnswer(invocation -> {
+
+            Object personTable = invocation.callRealMethod();
+            Files.write(csv, "Wes Jackson, Male, 14/08/74\n".getBytes(UTF_8), APPEND);
+            return personTable;
+        }).doCallRealMethod().when(fastCsvReader).readPersonTable(anyString());
+
+        assertThat(cachingReader.readPersonTable(csv.toString()).size(), equalTo(3));
+        assertThat(binaryFile.load(csv).isPresent(), is(false));
+        assertThat(cachingReader.readPersonTable(csv.toString()).size(), equalTo(4));
+        verify(fastCsvReader, times(2)).readPersonTable(anyString());
+    }
+
+    @Test
+    public void shouldServeQueriesFromMappedColumnsWithoutCopyingThem() throws IOException {
+
+        Path csv = newCsv();
+        cachingReader.readPersonTable(csv.toString());
+
+        PersonTable mappedTable = binaryFile.load(csv).get();
+        PersonTableAddressBookService service = new PersonTableAddressBookService(mappedTable);
+
+        assertThat(mappedTable.birthEpochDays().isDirect(), is(true));
+        assertThat(mappedTable.genders().isDirect(), is(true));
+        assertThat(mappedTable.getNameDictionary().tokenBytes().isDirect(), is(true));
+        assertThat(service.countPersonsOfGender(Male), equalTo(2L));
+        assertThat(service.getOldestPerson().get().getName(), equalTo("Bill McKnight"));
+        assertThat(service.getDaysPersonAIsOlderPersonB("Bill", "Gemma"), equalTo(5362L));
+    }
+
+    @Test
+    public void shouldIgnoreCorruptBinaryFile() throws IOException {
+
+        Path csv = newCsv();
+        FileTime modifiedTime = Files.getLastModifiedTime(csv);
+        cachingReader.readPersonTable(csv.toString());
+        try (RandomAccessFile binary = new RandomAccessFile(binaryFile.getBinaryPath(csv).toFile(), "rw")) {
+            binary.seek(binary.length() - 1);
+            binary.write('#');
+        }
+        Files.setLastModifiedTime(csv, modifiedTime);
+
+        assertThat(binaryFile.load(csv).isPresent(), is(false));
+        assertThat(cachingReader.readPersonTable(csv.toString()).getName(1), equalTo("\u0141ukasz \u017b\u00f3\u0142w"));
+    }
+
+    @Test
+    public void shouldSkipPayloadChecksumUnlessVerificationIsEnabled() throws IOException {
+
+        Path csv = newCsv();
+        FileTime modifiedTime = Files.getLastModifiedTime(csv);
+        cachingReader.readPersonTable(csv.toString());
+        try (RandomAccessFile binary = new RandomAccessFile(binaryFile.getBinaryPath(csv).toFile(), "rw")) {
+            binary.seek(binary.length() - 1);
+            binary.write('#');
+        }
+        Files.setLastModifiedTime(csv, modifiedTime);
+
+        assertThat(new PersonTableBinaryFile().load(csv).isPresent(), is(true));
+        assertThat(binaryFile.load(csv).isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldNotWriteBinaryFileWhenReadOnly() throws IOException {
+
+        Path csv = newCsv();
+        AddressBookCachingReader readOnlyReader = new AddressBookCachingReader(fastCsvReader, PersonTableBinaryFile.readOnly());
+
+        assertThat(readOnlyReader.readPersonTable(csv.toString()).size(), equalTo(3));
+        assertThat(Files.exists(binaryFile.getBinaryPath(csv)), is(false));
+    }
+
+    @Test
+    public void shouldNotWriteBinaryFileWhenCsvIsUnreadable() throws IOException {
+
+        File csv = temporaryFolder.newFile();
+        Files.write(csv.toPath(), "Bill McKnight, Unknown, 16/03/77\n".getBytes(UTF_8));
+
+        try {
+            cachingReader.readPersonTable(csv.getPath());
+        } catch (RuntimeException ex) {
+            // expected, malformed address book is reported to the caller
+        }
+
+        assertThat(Files.exists(binaryFile.getBinaryPath(csv.toPath())), is(false));
+    }
+
+    private Path newCsv() throws IOException {
+
+        Path csv = temporaryFolder.newFile().toPath();
+        Files.write(csv, CSV_CONTENT.getBytes(UTF_8));
+        return csv;
+    }
+
+    private static void assertSameTable(PersonTable actual, PersonTable expected) {
+
+        assertThat(actual.size(), equalTo(expected.size()));
+        for (int row = 0; row < expected.size(); row++) {
+            assertThat(actual.getPerson(row).toString(), equalTo(expected.getPerson(row).toString()));
+            assertThat(actual.getGenderOrdinal(row), equalTo(expected.getGenderOrdinal(row)));
+        }
+    }
+}
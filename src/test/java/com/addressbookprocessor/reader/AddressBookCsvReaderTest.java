@@ -7,14 +7,22 @@ import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.addressbookprocessor.domain.Gender.Male;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.LocalDate.of;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.junit.rules.ExpectedException.none;
 
 public class AddressBookCsvReaderTest {
@@ -29,6 +37,9 @@ public class AddressBookCsvReaderTest {
     @Rule
     public ExpectedException expectedException = none();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private AddressBookCsvReader csvReader = new AddressBookCsvReader();
 
     @Test
@@ -46,6 +57,116 @@ public class AddressBookCsvReaderTest {
         assertThat(persons.get(0), hasProperty("birthDate", Matchers.equalTo(testFirstEntryPersonBirth)));
     }
 
+    @Test
+    public void shouldStreamPersonsFromCorrectFormattedCSV() {
+
+        try (Stream<Person> persons = csvReader.streamPersonsFromCsv(CORRECT_CSV)) {
+
+            Optional<Person> firstPerson = persons.findFirst();
+
+            assertTrue(firstPerson.isPresent());
+            assertThat(firstPerson.get(), hasProperty("name", Matchers.equalTo("Bill McKnight")));
+        }
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenStreamedCsvHasInvalidGenderType() {
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+        expectedException.expectMessage("File on provided path cannot be read: CSV structure/data unexpected");
+
+        try (Stream<Person> persons = csvReader.streamPersonsFromCsv(MALFORMED_CSV_GENDER)) {
+            persons.count();
+        }
+    }
+
+    @Test
+    public void shouldSkipMalformedRowsInLenientMode() throws IOException {
+
+        File csv = temporaryFolder.newFile();
+        Files.write(csv.toPath(), ("Bill McKnight, Male, 16/03/77\n"
+                + "Paul Robinson, Unknown, 15/01/85\n"
+                + "\n"
+                + "Gemma Lane, Female, 20/11/91\n"
+                + "Sarah Stone, Female\n"
+                + "Wes Jackson, Male, 000/000/000").getBytes(UTF_8));
+
+        LenientReadResult result = csvReader.readPersonsFromCsvLeniently(csv.getPath(),
+                LenientParseOptions.builder().maxErrorRate(0.8).maxRecordedErrors(2).build());
+
+        assertThat(result.getPersons(), Matchers.contains(
+                hasProperty("name", Matchers.equalTo("Bill McKnight")),
+                hasProperty("name", Matchers.equalTo("Gemma Lane"))));
+        assertThat(result.getErrorReport().getRowCount(), Matchers.equalTo(5L));
+        assertThat(result.getErrorReport().getErrorCount(), Matchers.equalTo(3L));
+        assertTrue(result.getErrorReport().isTruncated());
+        assertThat(result.getErrorReport().getErrors(), Matchers.contains(
+                Matchers.allOf(hasProperty("lineNumber", Matchers.equalTo(2L)),
+                        hasProperty("reason", Matchers.equalTo("Unknown gender 'Unknown'"))),
+                Matchers.allOf(hasProperty("lineNumber", Matchers.equalTo(5L)),
+                        hasProperty("reason", Matchers.equalTo("Expected 3 columns but found 2")))));
+    }
+
+    @Test
+    public void shouldReportLastUnterminatedLineInLenientMode() {
+
+        LenientReadResult result = csvReader.readPersonsFromCsvLeniently(MALFORMED_CSV_DATE,
+                LenientParseOptions.builder().maxErrorRate(1).build());
+
+        assertThat(result.getPersons(), Matchers.empty());
+        assertThat(result.getErrorReport().getErrors(), Matchers.contains(Matchers.allOf(
+                hasProperty("lineNumber", Matchers.equalTo(1L)),
+                hasProperty("reason", Matchers.equalTo("Birth date '000/000/000' not in d/M/yy format")))));
+    }
+
+    @Test
+    public void shouldThrowExceptionInLenientModeWhenErrorRateIsExceeded() {
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+        expectedException.expectMessage("File on provided path cannot be read: 1 of 1 rows malformed");
+
+        csvReader.readPersonsFromCsvLeniently(MALFORMED_CSV_GENDER,
+                LenientParseOptions.builder().minRowsForErrorRate(1).build());
+    }
+
+    @Test
+    public void shouldSkipMalformedRowOfSmallFileInLenientModeByDefault() throws IOException {
+
+        File csv = temporaryFolder.newFile();
+        Files.write(csv.toPath(), ("Bill McKnight, Male, 16/03/77\n"
+                + "Paul Robinson, Unknown, 15/01/85\n"
+                + "Gemma Lane, Female, 20/11/91\n").getBytes(UTF_8));
+
+        LenientReadResult result = csvReader.readPersonsFromCsvLeniently(csv.getPath(), LenientParseOptions.defaults());
+
+        assertThat(result.getPersons(), Matchers.hasSize(2));
+        assertThat(result.getErrorReport().getErrorCount(), Matchers.equalTo(1L));
+    }
+
+    @Test
+    public void shouldThrowExceptionInLenientModeWhenErrorRateIsExceededAtEndOfFile() throws IOException {
+
+        File csv = temporaryFolder.newFile();
+        Files.write(csv.toPath(), ("Paul Robinson, Unknown, 15/01/85\n"
+                + "Bill McKnight, Male, 16/03/77\n"
+                + "Gemma Lane, Female, 20/11/91\n").getBytes(UTF_8));
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+        expectedException.expectMessage("File on provided path cannot be read: 1 of 3 rows malformed");
+
+        csvReader.readPersonsFromCsvLeniently(csv.getPath(),
+                LenientParseOptions.builder().minRowsForErrorRate(3).build());
+    }
+
+    @Test
+    public void shouldThrowExceptionInLenientModeWhenParseOptionsAreMissing() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Given addressBookFilePath is blank or parse options missing");
+
+        csvReader.readPersonsFromCsvLeniently(MALFORMED_CSV_GENDER, null);
+    }
+
     @Test
     public void shouldThrowExceptionWhenCsvFileIsNull() {
 
@@ -0,0 +1,116 @@
+package com.addressbookprocessor.reader;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.reader.exception.ProvidedFileHasErrorException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static com.addressbookprocessor.domain.Gender.Female;
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.LocalDate.of;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+
+public class AddressBookFastCsvReaderTest {
+
+    private static final String BASE_PATH = AddressBookFastCsvReaderTest.class.getResource("../../..").getPath();
+    private static final String CORRECT_CSV = BASE_PATH + "/AddressBookCorrect";
+    private static final String MALFORMED_CSV_GENDER = BASE_PATH + "/AddressBookWrongGender";
+    private static final String MALFORMED_CSV_DATE = BASE_PATH + "/AddressBookWrongDateFormat";
+    private static final String MALFORMED_CSV_TWO_COLUMNS = BASE_PATH + "/AddressBookWrongTwoColumns";
+    private static final String NOTEXISTENT_CSV = BASE_PATH + "/NotExistentCsv";
+
+    @Rule
+    public ExpectedException expectedException = none();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private AddressBookFastCsvReader fastCsvReader = new AddressBookFastCsvReader();
+
+    @Test
+    public void shouldReadSamePersonsAsCsvReader() {
+
+        List<Person> expectedPersons = new AddressBookCsvReader().readPersonsFromCsv(CORRECT_CSV);
+
+        List<Person> persons = fastCsvReader.readPersonsFromCsv(CORRECT_CSV);
+
+        assertThat(persons, hasSize(expectedPersons.size()));
+        for (int i = 0; i < persons.size(); i++) {
+            assertThat(persons.get(i).toString(), equalTo(expectedPersons.get(i).toString()));
+        }
+    }
+
+    @Test
+    public void shouldReadQuotedAndShortDateRows() throws IOException {
+
+        File csv = temporaryFolder.newFile();
+        Files.write(csv.toPath(), "\"McKnight, Bill\", Male, 16/03/77\r\n\r\n  Gemma Lane ,Female,1/2/91, extra\n".getBytes(UTF_8));
+
+        List<Person> persons = fastCsvReader.readPersonsFromCsv(csv.getPath());
+
+        assertThat(persons, hasSize(2));
+        assertThat(persons.get(0), hasProperty("name", equalTo("McKnight, Bill")));
+        assertThat(persons.get(0), hasProperty("gender", equalTo(Male)));
+        assertThat(persons.get(0), hasProperty("birthDate", equalTo(of(1977, 3, 16))));
+        assertThat(persons.get(1), hasProperty("name", equalTo("Gemma Lane")));
+        assertThat(persons.get(1), hasProperty("gender", equalTo(Female)));
+        assertThat(persons.get(1), hasProperty("birthDate", equalTo(of(1991, 2, 1))));
+    }
+
+    @Test
+    public void shouldResolveDatesLikeDateTimeFormatter() {
+
+        assertThat(BirthDateDecoder.epochDay(1977, 2, 31), equalTo(of(1977, 2, 28).toEpochDay()));
+        assertThat(BirthDateDecoder.epochDay(1996, 2, 29), equalTo(of(1996, 2, 29).toEpochDay()));
+        assertThat(BirthDateDecoder.epochDay(1900, 1, 1), equalTo(of(1900, 1, 1).toEpochDay()));
+        assertThat(BirthDateDecoder.epochDay(2017, 12, 31), equalTo(of(2017, 12, 31).toEpochDay()));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCsvIsNotExistent() {
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+        expectedException.expectMessage("File on provided path cannot be read");
+
+        fastCsvReader.readPersonsFromCsv(NOTEXISTENT_CSV);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCsvHasInvalidGenderType() {
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+        expectedException.expectMessage("File on provided path cannot be read: CSV structure/data unexpected");
+
+        fastCsvReader.readPersonsFromCsv(MALFORMED_CSV_GENDER);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCsvHasInvalidBirthDate() {
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+        expectedException.expectMessage("File on provided path cannot be read: CSV structure/data unexpected");
+
+        fastCsvReader.readPersonsFromCsv(MALFORMED_CSV_DATE);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCsvHasLessColumnsThenExpected() {
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+        expectedException.expectMessage("File on provided path cannot be read: CSV structure/data unexpected");
+
+        fastCsvReader.readPersonsFromCsv(MALFORMED_CSV_TWO_COLUMNS);
+    }
+}
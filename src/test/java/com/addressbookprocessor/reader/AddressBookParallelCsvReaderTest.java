@@ -0,0 +1,99 @@
+package com.addressbookprocessor.reader;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.reader.exception.ProvidedFileHasErrorException;
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+
+public class AddressBookParallelCsvReaderTest {
+
+    private static final String BASE_PATH = AddressBookParallelCsvReaderTest.class.getResource("../../..").getPath();
+    private static final String CORRECT_CSV = BASE_PATH + "/AddressBookCorrect";
+    private static final String MALFORMED_CSV_GENDER = BASE_PATH + "/AddressBookWrongGender";
+    private static final String NOTEXISTENT_CSV = BASE_PATH + "/NotExistentCsv";
+
+    private static final ForkJoinPool PARSE_POOL = new ForkJoinPool(4);
+
+    @Rule
+    public ExpectedException expectedException = none();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private AddressBookCsvReader csvReader = new AddressBookCsvReader();
+
+    private AddressBookParallelCsvReader parallelCsvReader =
+            new AddressBookParallelCsvReader(csvReader, PARSE_POOL, 16);
+
+    @AfterClass
+    public static void shutdownPool() {
+
+        PARSE_POOL.shutdown();
+    }
+
+    @Test
+    public void shouldReadPersonsInFileOrderFromSmallChunks() {
+
+        List<Person> persons = parallelCsvReader.readPersonsFromCsv(CORRECT_CSV);
+
+        assertThat(names(persons), equalTo(names(csvReader.readPersonsFromCsv(CORRECT_CSV))));
+    }
+
+    @Test
+    public void shouldReadPersonsFromSingleChunk() {
+
+        List<Person> persons = new AddressBookParallelCsvReader().readPersonsFromCsv(CORRECT_CSV);
+
+        assertThat(names(persons), equalTo(names(csvReader.readPersonsFromCsv(CORRECT_CSV))));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCsvIsNotExistent() {
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+        expectedException.expectMessage("File on provided path cannot be read");
+
+        parallelCsvReader.readPersonsFromCsv(NOTEXISTENT_CSV);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCsvHasInvalidGenderType() {
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+        expectedException.expectMessage("File on provided path cannot be read: CSV structure/data unexpected");
+
+        parallelCsvReader.readPersonsFromCsv(MALFORMED_CSV_GENDER);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCsvIsNotValidUtf8() throws IOException {
+
+        Path addressBook = temporaryFolder.newFile().toPath();
+        Files.write(addressBook, new byte[] {'B', 'i', 'l', 'l', (byte) 0xC3, ',', ' ', 'M', 'a', 'l', 'e', ',', ' ',
+                '1', '6', '/', '0', '3', '/', '7', '7', '\n'});
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+        expectedException.expectMessage("File on provided path cannot be read: not valid UTF-8");
+
+        parallelCsvReader.readPersonsFromCsv(addressBook.toString());
+    }
+
+    private List<String> names(List<Person> persons) {
+
+        return persons.stream().map(Person::getName).collect(toList());
+    }
+}
@@ -0,0 +1,66 @@
+package com.addressbookprocessor.reader;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static java.time.LocalDate.of;
+import static java.time.temporal.ChronoUnit.YEARS;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class BirthDateDecoderTest {
+
+    private static final LocalDate PIVOT_DATE = of(2019, 3, 1);
+
+    private BirthDateDecoder birthDateDecoder = new BirthDateDecoder(PIVOT_DATE);
+
+    @Test
+    public void shouldDecodeDatesLikeDateTimeFormatterWithCenturyCorrection() {
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d/M/yy");
+        for (int twoDigitYear = 0; twoDigitYear < 100; twoDigitYear++) {
+            for (int month = 1; month <= 12; month++) {
+                for (int day = 1; day <= 31; day++) {
+
+                    String text = day + "/" + month + "/" + String.format("%02d", twoDigitYear);
+                    LocalDate expected = LocalDate.parse(text, formatter);
+                    if (expected.isAfter(PIVOT_DATE)) {
+                        expected = expected.minus(100, YEARS);
+                    }
+
+                    assertThat(text, birthDateDecoder.decode(text), equalTo(expected));
+                    assertThat(text, (long) birthDateDecoder.decodeEpochDay(day, month, twoDigitYear), equalTo(expected.toEpochDay()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldDecodeBytesWithLeadingZeros() {
+
+        byte[] row = "x,016/03/77,x".getBytes();
+
+        assertThat(birthDateDecoder.decodeEpochDay(row, 2, 11), equalTo((int) of(1977, 3, 16).toEpochDay()));
+    }
+
+    @Test
+    public void shouldReuseDecodedBirthDates() {
+
+        assertThat(birthDateDecoder.decode("16/03/77"), sameInstance(birthDateDecoder.decode("16/3/77")));
+    }
+
+    @Test
+    public void shouldRejectMalformedDates() {
+
+        assertThat(birthDateDecoder.decode("000/000/000"), nullValue());
+        assertThat(birthDateDecoder.decode("32/1/77"), nullValue());
+        assertThat(birthDateDecoder.decode("1/13/77"), nullValue());
+        assertThat(birthDateDecoder.decode("1/1/1977"), nullValue());
+        assertThat(birthDateDecoder.decode("1-1-77"), nullValue());
+        assertThat(birthDateDecoder.decodeEpochDay(0, 1, 77), equalTo(BirthDateDecoder.INVALID));
+    }
+}
@@ -0,0 +1,180 @@
+package com.addressbookprocessor.reader;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.reader.exception.ProvidedFileHasErrorException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+
+public class CompressionTest {
+
+    private static final String BASE_PATH = CompressionTest.class.getResource("../../..").getPath();
+    private static final String CORRECT_CSV = BASE_PATH + "/AddressBookCorrect";
+
+    @Rule
+    public ExpectedException expectedException = none();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static byte[] gzip(byte[] content) throws IOException {
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+            output.write(content);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] bgzf(byte[] content, int blockSize) {
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        for (int offset = 0; offset < content.length; offset += blockSize) {
+            writeBgzfBlock(compressed, Arrays.copyOfRange(content, offset, Math.min(content.length, offset + blockSize)));
+        }
+        writeBgzfBlock(compressed, new byte[0]);
+        return compressed.toByteArray();
+    }
+
+    private static void writeBgzfBlock(ByteArrayOutputStream compressed, byte[] block) {
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(block);
+        deflater.finish();
+        byte[] deflated = new byte[block.length + 64];
+        int deflatedLength = deflater.deflate(deflated);
+        deflater.end();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(block);
+        int totalSize = 18 + deflatedLength + 8;
+        compressed.write(new byte[] {0x1F, (byte) 0x8B, 8, 4, 0, 0, 0, 0, 0, (byte) 0xFF, 6, 0, 'B', 'C', 2, 0,
+                (byte) (totalSize - 1), (byte) ((totalSize - 1) >>> 8)}, 0, 18);
+        compressed.write(deflated, 0, deflatedLength);
+        writeInt(compressed, (int) checksum.getValue());
+        writeInt(compressed, block.length);
+    }
+
+    private static void writeInt(ByteArrayOutputStream output, int value) {
+
+        for (int shift = 0; shift < 32; shift += 8) {
+            output.write(value >>> shift);
+        }
+    }
+
+    private Path newFile(byte[] content) throws IOException {
+
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content);
+        return file;
+    }
+
+    private static List<String> describe(List<Person> persons) {
+
+        return persons.stream().map(Person::toString).collect(Collectors.toList());
+    }
+
+    @Test
+    public void shouldDetectCompressionByMagicBytes() throws IOException {
+
+        byte[] csv = Files.readAllBytes(Paths.get(CORRECT_CSV));
+
+        assertThat(Compression.detect(Paths.get(CORRECT_CSV)), equalTo(Compression.NONE));
+        assertThat(Compression.detect(newFile(gzip(csv))), equalTo(Compression.GZIP));
+        assertThat(Compression.detect(newFile(bgzf(csv, 64))), equalTo(Compression.BGZF));
+        assertThat(Compression.detect(newFile(new byte[] {0x28, (byte) 0xB5, 0x2F, (byte) 0xFD, 0})), equalTo(Compression.ZSTD));
+        assertThat(Compression.detect(newFile(new byte[0])), equalTo(Compression.NONE));
+    }
+
+    @Test
+    public void shouldReadGzipCompressedAddressBookWithAllReaders() throws IOException {
+
+        List<String> expectedPersons = describe(new AddressBookCsvReader().readPersonsFromCsv(CORRECT_CSV));
+        byte[] csv = Files.readAllBytes(Paths.get(CORRECT_CSV));
+        String gzipCsv = newFile(gzip(csv)).toString();
+
+        assertThat(describe(new AddressBookCsvReader().readPersonsFromCsv(gzipCsv)), equalTo(expectedPersons));
+        assertThat(describe(new AddressBookFastCsvReader().readPersonsFromCsv(gzipCsv)), equalTo(expectedPersons));
+        assertThat(describe(new AddressBookParallelCsvReader().readPersonsFromCsv(gzipCsv)), equalTo(expectedPersons));
+    }
+
+    @Test
+    public void shouldReadMultiMemberGzip() throws IOException {
+
+        byte[] csv = Files.readAllBytes(Paths.get(CORRECT_CSV));
+        ByteArrayOutputStream members = new ByteArrayOutputStream();
+        members.write(gzip(Arrays.copyOfRange(csv, 0, 40)));
+        members.write(gzip(Arrays.copyOfRange(csv, 40, csv.length)));
+
+        List<Person> persons = new AddressBookFastCsvReader().readPersonsFromCsv(newFile(members.toByteArray()).toString());
+
+        assertThat(describe(persons), equalTo(describe(new AddressBookCsvReader().readPersonsFromCsv(CORRECT_CSV))));
+    }
+
+    @Test
+    public void shouldDecodeBgzfBlocksInOrder() throws IOException {
+
+        byte[] csv = IntStream.range(0, 5000)
+                .mapToObj(i -> "Person " + i + ", " + (i % 2 == 0 ? "Male" : "Female") + ", " + (1 + i % 28) + "/03/77\n")
+                .collect(Collectors.joining())
+                .getBytes(UTF_8);
+        Path plainCsv = newFile(csv);
+        Path bgzfCsv = newFile(bgzf(csv, 1000));
+
+        try (InputStream decompressed = Compression.open(bgzfCsv)) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[777];
+            int read;
+            while ((read = decompressed.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+            assertThat(Arrays.equals(content.toByteArray(), csv), equalTo(true));
+        }
+
+        List<Person> persons = new AddressBookFastCsvReader().readPersonsFromCsv(bgzfCsv.toString());
+        assertThat(persons, hasSize(5000));
+        assertThat(describe(new AddressBookCsvReader().readPersonsFromCsv(bgzfCsv.toString())),
+                equalTo(describe(new AddressBookCsvReader().readPersonsFromCsv(plainCsv.toString()))));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenBgzfBlockIsCorrupt() throws IOException {
+
+        byte[] compressed = bgzf(Files.readAllBytes(Paths.get(CORRECT_CSV)), 64);
+        compressed[30] ^= 0x55;
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+
+        new AddressBookFastCsvReader().readPersonsFromCsv(newFile(compressed).toString());
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenZstdCompressed() throws IOException {
+
+        expectedException.expect(ProvidedFileHasErrorException.class);
+        expectedException.expectMessage("File on provided path cannot be read");
+
+        new AddressBookCsvReader().readPersonsFromCsv(newFile(new byte[] {0x28, (byte) 0xB5, 0x2F, (byte) 0xFD, 0}).toString());
+    }
+}
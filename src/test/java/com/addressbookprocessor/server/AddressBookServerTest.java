@@ -0,0 +1,197 @@
+package com.addressbookprocessor.server;
+
+import com.addressbookprocessor.metrics.InMemoryAddressBookMetrics;
+import com.addressbookprocessor.domain.PersonTable;
+import com.addressbookprocessor.reader.AddressBookCachingReader;
+import com.addressbookprocessor.service.AddressBookService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class AddressBookServerTest {
+
+    private static final String BASE_PATH = AddressBookServerTest.class.getResource("../../..").getPath();
+    private static final String CORRECT_CSV = BASE_PATH + "/AddressBookCorrect";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path addressBook;
+
+    private AddressBookServer server;
+
+    @Before
+    public void startServer() throws IOException {
+
+        addressBook = temporaryFolder.newFile().toPath();
+        Files.copy(Paths.get(CORRECT_CSV), addressBook, REPLACE_EXISTING);
+        AddressBookCache addressBookCache = new AddressBookCache(new AddressBookCachingReader(), 1 << 20);
+        server = new AddressBookServer(addressBookCache, 0, 2).start();
+    }
+
+    @After
+    public void stopServer() throws IOException {
+
+        server.close();
+    }
+
+    @Test
+    public void shouldAnswerQueriesOverSocket() throws IOException {
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+             BufferedReader answers = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+             Writer requests = new OutputStreamWriter(socket.getOutputStream(), UTF_8)) {
+
+            requests.write("COUNT\tMale\t" + addressBook + "\nOLDEST\t" + addressBook + "\nDAYS\t" + addressBook
+                    + "\tBill\tPaul\nFLY\nQUIT\n");
+            requests.flush();
+
+            assertThat(answers.readLine(), equalTo("OK 3"));
+            assertThat(answers.readLine(), equalTo("OK Wes Jackson"));
+            assertThat(answers.readLine(), equalTo("OK 2862"));
+            assertThat(answers.readLine(), startsWith("ERR Unknown command"));
+        }
+    }
+
+    @Test
+    public void shouldReportErrorsAsSingleLines() {
+
+        assertThat(server.answer("COUNT\tUnknown\t" + addressBook), startsWith("ERR "));
+        assertThat(server.answer("DAYS\t" + addressBook + "\tBill"), equalTo("ERR Expected 3 tab separated arguments"));
+        assertThat(server.answer("OLDEST\t" + addressBook + ".missing"), equalTo("ERR File on provided path cannot be read"));
+    }
+
+    @Test
+    public void shouldReloadChangedAddressBook() throws IOException {
+
+        assertThat(server.answer("COUNT\tMale\t" + addressBook), equalTo("OK 3"));
+
+        Files.write(addressBook, "\nJohn Doe, Male, 01/01/70\n".getBytes(UTF_8), APPEND);
+        Files.setLastModifiedTime(addressBook, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        assertThat(server.answer("COUNT\tMale\t" + addressBook), equalTo("OK 4"));
+        assertThat(server.answer("OLDEST\t" + addressBook), equalTo("OK John Doe"));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedAddressBookOverBudget() throws IOException {
+
+        Path otherAddressBook = temporaryFolder.newFile().toPath();
+        Files.copy(Paths.get(CORRECT_CSV), otherAddressBook, REPLACE_EXISTING);
+        AddressBookCache addressBookCache = new AddressBookCache(new AddressBookCachingReader(), 1);
+
+        addressBookCache.getAddressBook(addressBook.toString());
+        addressBookCache.getAddressBook(otherAddressBook.toString());
+
+        assertThat(addressBookCache.size(), equalTo(1));
+        assertFalse(addressBookCache.contains(addressBook.toString()));
+        assertTrue(addressBookCache.contains(otherAddressBook.toString()));
+    }
+
+    @Test
+    public void shouldBudgetIndexesOnHeapButNotMappedColumns() {
+
+        AddressBookCache parsingCache = new AddressBookCache(new AddressBookCachingReader(), 1 << 20);
+        parsingCache.getAddressBook(addressBook.toString());
+        AddressBookCache mappingCache = new AddressBookCache(new AddressBookCachingReader(), 1 << 20);
+        mappingCache.getAddressBook(addressBook.toString());
+
+        assertThat(parsingCache.getMappedBytes(), equalTo(0L));
+        assertThat(mappingCache.getMappedBytes(), greaterThan(0L));
+        assertThat(mappingCache.getUsedBytes(), greaterThan(0L));
+        assertThat(mappingCache.getUsedBytes(), lessThan(parsingCache.getUsedBytes()));
+        assertThat(parsingCache.getUsedBytes() - mappingCache.getUsedBytes(), equalTo(mappingCache.getMappedBytes()));
+    }
+
+    @Test
+    public void shouldRecordQueriesAnsweredFromCache() throws IOException {
+
+        InMemoryAddressBookMetrics metrics = new InMemoryAddressBookMetrics();
+        try (AddressBookServer meteredServer =
+                     new AddressBookServer(new AddressBookCache(new AddressBookCachingReader(), 1 << 20, metrics), 0, 2)) {
+
+            meteredServer.answer("COUNT\tMale\t" + addressBook);
+            meteredServer.answer("COUNT\tFemale\t" + addressBook);
+            meteredServer.answer("OLDEST\t" + addressBook);
+        }
+
+        assertThat(metrics.getQueryCounts(), hasEntry("countPersonsOfGender", 2L));
+        assertThat(metrics.getQueryCounts(), hasEntry("getOldestPerson", 1L));
+    }
+
+    @Test
+    public void shouldLoadAddressBookOnceForConcurrentRequests() throws InterruptedException, ExecutionException {
+
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch allRequested = new CountDownLatch(4);
+        AddressBookCache addressBookCache = new AddressBookCache(new AddressBookCachingReader() {
+
+            @Override
+            public PersonTable readPersonTable(String addressBookFilePath) {
+
+                loadCount.incrementAndGet();
+                try {
+                    allRequested.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.readPersonTable(addressBookFilePath);
+            }
+        }, 1 << 20);
+
+        ExecutorService requestPool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<AddressBookService>> addressBooks = IntStream.range(0, 4)
+                    .mapToObj(i -> requestPool.submit(() -> {
+
+                        allRequested.countDown();
+                        return addressBookCache.getAddressBook(addressBook.toString());
+                    }))
+                    .collect(Collectors.toList());
+
+            for (Future<AddressBookService> loadedAddressBook : addressBooks) {
+                assertThat(loadedAddressBook.get(), sameInstance(addressBooks.get(0).get()));
+            }
+        } finally {
+            requestPool.shutdown();
+        }
+        assertThat(loadCount.get(), equalTo(1));
+    }
+}
@@ -2,18 +2,23 @@ package com.addressbookprocessor.service;
 
 import com.addressbookprocessor.domain.Gender;
 import com.addressbookprocessor.domain.Person;
+import io.vavr.control.Either;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
 
 import static com.addressbookprocessor.domain.Gender.Female;
 import static java.time.LocalDate.of;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.junit.Assert.*;
@@ -55,6 +60,37 @@ public class AddressBookServiceImplTest {
         assertThat(personOptional.get(), hasProperty("name", equalTo("Guybrush Island")));
     }
 
+    @Test
+    public void shouldGetOldestPersons() {
+
+        List<Person> oldestPersons = service.getOldestPersons(2);
+
+        assertThat(oldestPersons, contains(
+                hasProperty("name", equalTo("Guybrush Island")),
+                hasProperty("name", equalTo("Jill Jungle"))));
+    }
+
+    @Test
+    public void shouldGetYoungestPersons() {
+
+        List<Person> youngestPersons = service.getYoungestPersons(10);
+
+        assertThat(youngestPersons, contains(
+                hasProperty("name", equalTo("Lara Raider")),
+                hasProperty("name", equalTo("Jade BeyondGood")),
+                hasProperty("name", equalTo("Jill Jungle")),
+                hasProperty("name", equalTo("Guybrush Island"))));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenOldestPersonsCountIsNotPositive() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Count of persons must be positive");
+
+        service.getOldestPersons(0);
+    }
+
     @Test
     public void shouldGetDaysPersonAIsOlderPersonB() {
 
@@ -67,6 +103,36 @@ public class AddressBookServiceImplTest {
         assertThat(service.getDaysPersonAIsOlderPersonB("Jade", "Jill"), equalTo(-1765L));
     }
 
+    @Test
+    public void shouldGetDaysBetweenPairsWithPerPairErrors() {
+
+        Pair<String, String> jillJade = Pair.of("Jill", "Jade");
+        Pair<String, String> laraJill = Pair.of("Lara", "Jill");
+        Pair<String, String> jillGarrett = Pair.of("Jill", "Garrett");
+        Pair<String, String> blankName = Pair.of("Jill", " ");
+
+        Map<Pair<String, String>, Either<String, Long>> daysBetween =
+                service.getDaysBetween(asList(jillJade, laraJill, jillGarrett, blankName));
+
+        assertThat(daysBetween.get(jillJade).get(), equalTo(1765L));
+        assertThat(daysBetween.get(laraJill).get(), equalTo(-5447L));
+        assertThat(daysBetween.get(jillGarrett).getLeft(), equalTo("Less than or more than 2 people found"));
+        assertThat(daysBetween.get(blankName).getLeft(), equalTo("PersonA and B names must be given"));
+    }
+
+    @Test
+    public void shouldKeepServingTakenSnapshotWhenPersonsAreReloaded() {
+
+        AddressBookServiceImpl localService = new AddressBookServiceImpl(persons);
+        AddressBookSnapshot takenSnapshot = localService.getSnapshot();
+
+        localService.setPersons(asList(new Person("Lara Raider", Female, of(1997, 03, 03))));
+
+        assertThat(takenSnapshot.getGenderCount(Female), equalTo(3L));
+        assertThat(localService.countPersonsOfGender(Female), equalTo(1L));
+        assertThat(localService.getOldestPerson().get(), hasProperty("name", equalTo("Lara Raider")));
+    }
+
     @Test
     public void shouldThrowExceptionWhenInitialisedWithNull() {
 
@@ -157,6 +223,39 @@ public class AddressBookServiceImplTest {
         localService.getDaysPersonAIsOlderPersonB("Jill", "Jade");
     }
 
+    @Test
+    public void shouldCountPersonsBornBetweenDates() {
+
+        assertThat(service.countBornBetween(of(1982, 4, 4), of(1997, 3, 3), Female), equalTo(3L));
+        assertThat(service.countBornBetween(of(1982, 4, 5), of(1997, 3, 2), Female), equalTo(1L));
+        assertThat(service.countBornBetween(of(1900, 1, 1), of(1999, 12, 31), Gender.Male), equalTo(1L));
+        assertThat(service.countBornBetween(of(1917, 1, 1), of(1917, 1, 1), null), equalTo(1L));
+        assertThat(service.countBornBetween(of(2000, 1, 1), of(2020, 1, 1), null), equalTo(0L));
+    }
+
+    @Test
+    public void shouldGetAgeHistogram() {
+
+        SortedMap<Integer, Long> ageHistogram = service.getAgeHistogram(of(2017, 1, 1), 10, null);
+
+        assertThat(ageHistogram.keySet(), contains(0, 10, 20, 30, 40, 50, 60, 70, 80, 90, 100));
+        assertThat(ageHistogram.get(10), equalTo(1L));
+        assertThat(ageHistogram.get(20), equalTo(1L));
+        assertThat(ageHistogram.get(30), equalTo(1L));
+        assertThat(ageHistogram.get(90), equalTo(0L));
+        assertThat(ageHistogram.get(100), equalTo(1L));
+        assertThat(service.getAgeHistogram(of(2017, 1, 1), 50, Female).values(), contains(3L, 0L, 0L));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenBirthDateRangeIsReversed() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Birth date range must not start after it ends");
+
+        service.countBornBetween(of(1990, 1, 1), of(1980, 1, 1), Female);
+    }
+
     @Test
     public void shouldThrowNotFoundExceptionWhenOneOfTwoNamesIsFoundTwice() {
 
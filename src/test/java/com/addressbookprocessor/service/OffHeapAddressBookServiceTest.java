@@ -0,0 +1,90 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.reader.AddressBookFastCsvReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.addressbookprocessor.domain.Gender.Female;
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.time.LocalDate.of;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+
+public class OffHeapAddressBookServiceTest {
+
+    private static final String BASE_PATH = OffHeapAddressBookServiceTest.class.getResource("../../..").getPath();
+    private static final String CORRECT_CSV = BASE_PATH + "/AddressBookCorrect";
+
+    private static final List<Person> persons = asList(
+            null,
+            new Person("Jill Jungle", Female, of(1982, 4, 4)),
+            new Person("Guybrush Island", Male, of(1917, 1, 1)),
+            new Person("Jade BeyondGood", Female, of(1987, 2, 2)),
+            new Person("Lara Raider", Female, of(1997, 3, 3)),
+            null);
+
+    @Rule
+    public ExpectedException expectedException = none();
+
+    private final AddressBookService service = service(persons);
+
+    @Test
+    public void shouldAnswerQueriesFromOffHeapRows() {
+
+        assertThat(service.countPersonsOfGender(Female), equalTo(3L));
+        assertThat(service.getOldestPerson().get(), hasProperty("name", equalTo("Guybrush Island")));
+        assertThat(service.getYoungestPersons(2), contains(
+                hasProperty("name", equalTo("Lara Raider")),
+                hasProperty("name", equalTo("Jade BeyondGood"))));
+        assertThat(service.getDaysPersonAIsOlderPersonB("Jill", "Jade"), equalTo(1765L));
+        assertThat(service.countBornBetween(of(1982, 4, 4), of(1997, 3, 3), Female), equalTo(3L));
+    }
+
+    @Test
+    public void shouldQueryPersonStoreReadFromCsv() {
+
+        AddressBookService csvService =
+                new OffHeapAddressBookService(new AddressBookFastCsvReader().readOffHeapPersonStore(CORRECT_CSV));
+
+        assertThat(csvService.countPersonsOfGender(Male), equalTo(3L));
+        assertThat(csvService.getOldestPerson().get(), hasProperty("name", equalTo("Wes Jackson")));
+        assertThat(csvService.getDaysPersonAIsOlderPersonB("Bill", "Paul"), equalTo(2862L));
+    }
+
+    @Test
+    public void shouldCountBirthDatesSpreadOverThousandsOfYears() {
+
+        List<Person> widespreadPersons = new ArrayList<>(persons);
+        widespreadPersons.add(new Person("Ancient One", Male, of(-2000, 1, 1)));
+        widespreadPersons.add(new Person("Far Future", Female, of(3000, 1, 1)));
+        AddressBookService widespreadService = service(widespreadPersons);
+
+        assertThat(widespreadService.countBornBetween(of(-3000, 1, 1), of(1917, 1, 1), Male), equalTo(2L));
+        assertThat(widespreadService.countBornBetween(of(1917, 1, 2), of(3000, 1, 1), null), equalTo(4L));
+    }
+
+    @Test
+    public void shouldThrowNotFoundExceptionWhenNameIsMissing() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Less than or more than 2 people found");
+
+        service.getDaysPersonAIsOlderPersonB("Jill", "Garrett");
+    }
+
+    private static AddressBookService service(List<Person> persons) {
+
+        AddressBookService service = new OffHeapAddressBookService();
+        service.setPersons(persons);
+        return service;
+    }
+}
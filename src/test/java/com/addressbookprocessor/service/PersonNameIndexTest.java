@@ -0,0 +1,94 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.domain.PersonTable;
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.time.LocalDate.of;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+
+public class PersonNameIndexTest {
+
+    private static final List<String> names = asList(
+            "Bill McKnight",
+            null,
+            "Paul Robinson",
+            "Billy Bob",
+            "Gemma Lane",
+            "Robin Paulsen");
+
+    private final PersonNameIndex nameIndex = PersonNameIndex.of(names.size(), names::get);
+
+    @Test
+    public void shouldFindByExactToken() {
+
+        assertArrayEquals(new int[] {0}, nameIndex.findByToken("Bill"));
+        assertArrayEquals(new int[] {}, nameIndex.findByToken("Bil"));
+    }
+
+    @Test
+    public void shouldFindBySubstring() {
+
+        assertArrayEquals(new int[] {0, 3}, nameIndex.findContaining("Bill"));
+        assertArrayEquals(new int[] {2, 5}, nameIndex.findContaining("Robin"));
+        assertArrayEquals(new int[] {}, nameIndex.findContaining("Zed"));
+    }
+
+    @Test
+    public void shouldFindExactTokenTogetherWithLongerTokensContainingIt() {
+
+        assertArrayEquals(new int[] {2, 5}, nameIndex.findContaining("Paul"));
+        assertArrayEquals(new int[] {3}, nameIndex.findContaining("Billy"));
+        assertArrayEquals(new int[] {0, 2, 4, 5}, nameIndex.findContaining("n"));
+    }
+
+    @Test
+    public void shouldFindByShortSubstring() {
+
+        assertArrayEquals(new int[] {0, 2, 3, 5}, nameIndex.findContaining("l"));
+    }
+
+    @Test
+    public void shouldFindUnionInRowOrder() {
+
+        assertArrayEquals(new int[] {0, 2, 3, 5}, nameIndex.findContainingAny("Paul", "Bill"));
+        assertArrayEquals(new int[] {2, 5}, nameIndex.findContainingAny("Paul", "Robin"));
+    }
+
+    @Test
+    public void shouldFindBySubstringSpanningTokens() {
+
+        assertArrayEquals(new int[] {0}, nameIndex.findContaining("ll McK"));
+        assertArrayEquals(new int[] {5}, nameIndex.findContaining("n P"));
+        assertArrayEquals(new int[] {0, 2, 3, 4, 5}, nameIndex.findContaining(" "));
+    }
+
+    @Test
+    public void shouldVerifyTrigramCandidatesContainThePart() {
+
+        PersonNameIndex index = PersonNameIndex.of(3, asList("Annabel Lee", "Bella Banna", "Nabela Ann")::get);
+
+        assertArrayEquals(new int[] {0}, index.findContaining("nnab"));
+        assertArrayEquals(new int[] {1}, index.findContaining("anna"));
+        assertArrayEquals(new int[] {0, 2}, index.findContaining("abel"));
+        assertArrayEquals(new int[] {2}, index.findContaining("abela "));
+        assertArrayEquals(new int[] {}, PersonNameIndex.of(1, asList("Abcxbcd Lee")::get).findContaining("abcd"));
+        assertArrayEquals(new int[] {0, 1, 2}, index.findContaining("nn"));
+    }
+
+    @Test
+    public void shouldFindSameRowsInPersonTable() {
+
+        PersonTable.Builder builder = PersonTable.builder();
+        names.forEach(name -> builder.add(new Person(name, Male, of(1980, 1, 1))));
+        PersonNameIndex tableIndex = PersonNameIndex.of(builder.build());
+
+        assertArrayEquals(new int[] {0, 3}, tableIndex.findContaining("Bill"));
+        assertArrayEquals(new int[] {0}, tableIndex.findByToken("Bill"));
+        assertArrayEquals(new int[] {5}, tableIndex.findContaining("n P"));
+    }
+}
@@ -0,0 +1,210 @@
+package com.addressbookprocessor.service;
+
+import com.addressbookprocessor.aggregation.PersonSummary;
+import com.addressbookprocessor.domain.Gender;
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.domain.PersonTable;
+import com.addressbookprocessor.domain.ScanKernel;
+import com.addressbookprocessor.reader.AddressBookFastCsvReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+
+import static com.addressbookprocessor.domain.Gender.Female;
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.time.LocalDate.of;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.rules.ExpectedException.none;
+
+public class PersonTableAddressBookServiceTest {
+
+    private static final String BASE_PATH = PersonTableAddressBookServiceTest.class.getResource("../../..").getPath();
+    private static final String CORRECT_CSV = BASE_PATH + "/AddressBookCorrect";
+
+    private static final List<Person> persons = asList(
+            null,
+            new Person("Jill Jungle", Female, of(1982, 4, 4)),
+            new Person("Guybrush Island", Gender.Male, of(1917, 1, 1)),
+            new Person("Jade BeyondGood", Female, of(1987, 2, 2)),
+            new Person("Lara Raider", Female, of(1997, 3, 3)),
+            null);
+
+    @Rule
+    public ExpectedException expectedException = none();
+
+    private AddressBookService service = service(persons);
+
+    @Test
+    public void shouldCountFemalePersons() {
+
+        assertThat(service.countPersonsOfGender(Female), equalTo(3L));
+    }
+
+    @Test
+    public void shouldGetOldestPerson() {
+
+        Optional<Person> personOptional = service.getOldestPerson();
+        assertTrue(personOptional.isPresent());
+        assertThat(personOptional.get(), hasProperty("name", equalTo("Guybrush Island")));
+        assertThat(personOptional.get(), hasProperty("birthDate", equalTo(of(1917, 1, 1))));
+    }
+
+    @Test
+    public void shouldGetOldestAndYoungestPersons() {
+
+        assertThat(service.getOldestPersons(2), contains(
+                hasProperty("name", equalTo("Guybrush Island")),
+                hasProperty("name", equalTo("Jill Jungle"))));
+        assertThat(service.getYoungestPersons(10), contains(
+                hasProperty("name", equalTo("Lara Raider")),
+                hasProperty("name", equalTo("Jade BeyondGood")),
+                hasProperty("name", equalTo("Jill Jungle")),
+                hasProperty("name", equalTo("Guybrush Island"))));
+    }
+
+    @Test
+    public void shouldGetDaysPersonAIsOlderPersonB() {
+
+        assertThat(service.getDaysPersonAIsOlderPersonB("Jill", "Jade"), equalTo(1765L));
+        assertThat(service.getDaysPersonAIsOlderPersonB("Jade", "Jill"), equalTo(-1765L));
+    }
+
+    @Test
+    public void shouldQueryPersonTableReadFromCsv() {
+
+        AddressBookService csvService =
+                new PersonTableAddressBookService(new AddressBookFastCsvReader().readPersonTable(CORRECT_CSV));
+
+        assertThat(csvService.countPersonsOfGender(Male), equalTo(3L));
+        assertThat(csvService.getOldestPerson().get(), hasProperty("name", equalTo("Wes Jackson")));
+        assertThat(csvService.getDaysPersonAIsOlderPersonB("Bill", "Paul"), equalTo(2862L));
+    }
+
+    @Test
+    public void shouldAnswerAlikeWithScalarScanKernel() {
+
+        PersonTable personTable = new AddressBookFastCsvReader().readPersonTable(CORRECT_CSV);
+        AddressBookService scalarService = new PersonTableAddressBookService(personTable, ScanKernel.SCALAR);
+        AddressBookService branchFreeService = new PersonTableAddressBookService(personTable, ScanKernel.BRANCH_FREE);
+
+        assertThat(scalarService.countPersonsOfGender(Female), equalTo(branchFreeService.countPersonsOfGender(Female)));
+        assertThat(scalarService.getOldestPerson().get().getName(), equalTo(branchFreeService.getOldestPerson().get().getName()));
+    }
+
+    @Test
+    public void shouldGetEmptyOnEmptyList() {
+
+        AddressBookService localService = service(new ArrayList<>());
+
+        assertFalse(localService.getOldestPerson().isPresent());
+        assertThat(localService.countPersonsOfGender(Female), equalTo(0L));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenPersonTableLeftNull() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Persons list must be set");
+
+        new PersonTableAddressBookService().getOldestPerson();
+    }
+
+    @Test
+    public void shouldCountPersonsBornBetweenDates() {
+
+        assertThat(service.countBornBetween(of(1982, 4, 4), of(1997, 3, 3), Female), equalTo(3L));
+        assertThat(service.countBornBetween(of(1982, 4, 5), of(1997, 3, 2), Female), equalTo(1L));
+        assertThat(service.countBornBetween(of(1900, 1, 1), of(1999, 12, 31), Male), equalTo(1L));
+        assertThat(service.countBornBetween(of(1917, 1, 1), of(1917, 1, 1), null), equalTo(1L));
+        assertThat(service.countBornBetween(of(2000, 1, 1), of(2020, 1, 1), null), equalTo(0L));
+    }
+
+    @Test
+    public void shouldGetAgeHistogram() {
+
+        SortedMap<Integer, Long> ageHistogram = service.getAgeHistogram(of(2017, 1, 1), 10, null);
+
+        assertThat(ageHistogram.keySet(), contains(0, 10, 20, 30, 40, 50, 60, 70, 80, 90, 100));
+        assertThat(ageHistogram.get(10), equalTo(1L));
+        assertThat(ageHistogram.get(20), equalTo(1L));
+        assertThat(ageHistogram.get(30), equalTo(1L));
+        assertThat(ageHistogram.get(90), equalTo(0L));
+        assertThat(ageHistogram.get(100), equalTo(1L));
+        assertThat(service.getAgeHistogram(of(2017, 1, 1), 50, Female).values(), contains(3L, 0L, 0L));
+    }
+
+    @Test
+    public void shouldSummarizePartitionsInParallel() {
+
+        PersonSummary summary = service.summarize(2);
+
+        assertThat(summary.getPersonCount(), equalTo(4L));
+        assertThat(summary.getGenderCount(Female), equalTo(3L));
+        assertThat(summary.getGenderCount(Male), equalTo(1L));
+        assertThat(summary.getMaxBirthDate(), equalTo(Optional.of(of(1997, 3, 3))));
+        assertThat(summary.getOldestPersons(), contains(
+                hasProperty("name", equalTo("Guybrush Island")),
+                hasProperty("name", equalTo("Jill Jungle"))));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenBirthDateRangeIsReversed() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Birth date range must not start after it ends");
+
+        service.countBornBetween(of(1990, 1, 1), of(1980, 1, 1), Female);
+    }
+
+    @Test
+    public void shouldThrowNotFoundExceptionWhenOneOfTwoNamesIsFoundTwice() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Person A or B not found");
+
+        List<Person> newPersons = new ArrayList<>(persons);
+        newPersons.add(new Person("Jill SecondPersonWithName", Female, of(1999, 1, 1)));
+
+        service(newPersons).getDaysPersonAIsOlderPersonB("Jill", "Garrett");
+    }
+
+    @Test
+    public void shouldAnswerFromOneTableWhileTablesAreSwapped() throws InterruptedException {
+
+        List<Person> otherPersons = asList(
+                new Person("Guybrush Island", Male, of(1917, 1, 1)),
+                new Person("Lara Raider", Female, of(1990, 3, 3)),
+                new Person("Jill Jungle", Female, of(1980, 4, 4)));
+        AddressBookService swappedService = service(persons);
+        Thread swapper = new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+                swappedService.setPersons(i % 2 == 0 ? otherPersons : persons);
+            }
+        });
+
+        swapper.start();
+        while (swapper.isAlive()) {
+            long daysOlder = swappedService.getDaysPersonAIsOlderPersonB("Jill", "Lara");
+            assertTrue(daysOlder == 5447L || daysOlder == 3620L);
+        }
+        swapper.join();
+    }
+
+    private static AddressBookService service(List<Person> persons) {
+
+        AddressBookService service = new PersonTableAddressBookService();
+        service.setPersons(persons);
+        return service;
+    }
+}
@@ -0,0 +1,149 @@
+package com.addressbookprocessor.sketch;
+
+import com.addressbookprocessor.domain.Person;
+import com.addressbookprocessor.reader.AddressBookFastCsvReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.addressbookprocessor.domain.Gender.Female;
+import static com.addressbookprocessor.domain.Gender.Male;
+import static java.time.LocalDate.of;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+
+public class PersonSketchesTest {
+
+    private static final String BASE_PATH = PersonSketchesTest.class.getResource("../../..").getPath();
+    private static final String CORRECT_CSV = BASE_PATH + "/AddressBookCorrect";
+
+    @Rule
+    public ExpectedException expectedException = none();
+
+    private static List<Person> persons(int count, int distinctNames, int seed) {
+
+        Random random = new Random(seed);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new Person("Person " + random.nextInt(distinctNames), i % 2 == 0 ? Male : Female,
+                    of(1920, 1, 1).plusDays(random.nextInt(365 * 80))));
+        }
+        return persons;
+    }
+
+    @Test
+    public void shouldEstimateDistinctNamesWithinErrorBound() {
+
+        PersonSketches sketches = persons(200000, 50000, 1).stream().collect(PersonSketches.collector());
+
+        long distinctNames = persons(200000, 50000, 1).stream().map(Person::getName).distinct().count();
+        assertThat((double) sketches.estimateDistinctNames(), closeTo(distinctNames, distinctNames * 0.03));
+        assertThat(sketches.getPersonCount(), equalTo(200000L));
+    }
+
+    @Test
+    public void shouldNeverUndercountNameFrequencies() {
+
+        List<Person> persons = persons(50000, 1000, 2);
+        PersonSketches sketches = persons.stream().collect(PersonSketches.collector());
+
+        for (int name = 0; name < 1000; name += 97) {
+            String personName = "Person " + name;
+            long count = persons.stream().filter(person -> personName.equals(person.getName())).count();
+            assertThat(sketches.estimateNameCount(personName), greaterThanOrEqualTo(count));
+            assertThat(sketches.estimateNameCount(personName), lessThanOrEqualTo(count + 50000 / 100));
+        }
+    }
+
+    @Test
+    public void shouldEstimateBirthDateQuantilesWithinBucket() {
+
+        PersonSketches sketches = new PersonSketches();
+        IntStream.range(0, 1001).forEach(day -> sketches.accumulate(new Person("P", Male, of(1950, 1, 1).plusDays(day * 10L))));
+
+        LocalDate median = sketches.getBirthDateQuantile(0.5).get();
+        assertThat((double) median.toEpochDay(), closeTo(of(1950, 1, 1).plusDays(5000).toEpochDay(), 30));
+        assertThat(sketches.getAgePercentile(of(2000, 6, 1), 1.0), equalTo(Optional.of(50L)));
+        assertThat(new PersonSketches().getBirthDateQuantile(0.5), equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void shouldMergePartitionsLikeOneSketch() {
+
+        List<Person> persons = persons(30000, 5000, 3);
+        PersonSketches whole = persons.stream().collect(PersonSketches.collector());
+        PersonSketches merged = persons.subList(0, 10000).stream().collect(PersonSketches.collector())
+                .merge(persons.subList(10000, 30000).parallelStream().collect(PersonSketches.collector()));
+
+        assertThat(merged.getPersonCount(), equalTo(whole.getPersonCount()));
+        assertThat(merged.estimateDistinctNames(), equalTo(whole.estimateDistinctNames()));
+        assertThat(merged.estimateNameCount("Person 42"), equalTo(whole.estimateNameCount("Person 42")));
+        assertThat(merged.getBirthDateQuantile(0.25), equalTo(whole.getBirthDateQuantile(0.25)));
+        assertThat(merged.getSample().size(), equalTo(100));
+    }
+
+    @Test
+    public void shouldSampleFromParsedRowsAndSurviveSerialization() throws IOException, ClassNotFoundException {
+
+        PersonSketches sketches = new PersonSketches();
+        new AddressBookFastCsvReader().readPersons(CORRECT_CSV, sketches::accumulate);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(sketches);
+        }
+        PersonSketches copy;
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (PersonSketches) input.readObject();
+        }
+
+        assertThat(copy.getPersonCount(), equalTo(5L));
+        assertThat(copy.estimateDistinctNames(), equalTo(5L));
+        assertThat(copy.getSample(), hasItem(hasProperty("name", equalTo("Wes Jackson"))));
+        assertThat(copy.merge(sketches).getPersonCount(), equalTo(10L));
+    }
+
+    @Test
+    public void shouldKeepReservoirUniformWhenMerging() {
+
+        Random random = new Random(4);
+        int fromFirst = 0;
+        for (int round = 0; round < 200; round++) {
+            ReservoirSample<Integer> first = new ReservoirSample<>(10, random);
+            ReservoirSample<Integer> second = new ReservoirSample<>(10, random);
+            IntStream.range(0, 300).forEach(first::add);
+            IntStream.range(1000, 1100).forEach(second::add);
+
+            fromFirst += (int) first.merge(second).getElements().stream().filter(element -> element < 1000).count();
+        }
+
+        assertThat((double) fromFirst / (200 * 10), closeTo(0.75, 0.05));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenMergingOtherPrecision() {
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("HyperLogLog to merge must be given and have the same precision");
+
+        new HyperLogLog(10).merge(new HyperLogLog(12));
+    }
+}